@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IProjectDescription;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.pde.api.tools.internal.ApiFilterStore;
+import org.eclipse.pde.api.tools.internal.problems.ApiProblemFactory;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.problems.IApiProblem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures matching problems against the filters of a project. Half of the
+ * problems are filtered.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApiFilterStoreBenchmark {
+
+	private static final String PROJECT_NAME = "api.filter.benchmark"; //$NON-NLS-1$
+
+	@Param({ "100" })
+	public int files;
+
+	@Param({ "20" })
+	public int problemsPerFile;
+
+	private IProject fProject;
+	private ApiFilterStore fStore;
+	private IApiProblem[] fProblems;
+
+	@Setup(Level.Trial)
+	public void setUp() throws CoreException {
+		IWorkspace workspace = ResourcesPlugin.getWorkspace();
+		fProject = workspace.getRoot().getProject(PROJECT_NAME);
+		if (fProject.exists()) {
+			fProject.delete(true, true, null);
+		}
+		fProject.create(null);
+		fProject.open(null);
+		IProjectDescription description = fProject.getDescription();
+		description.setNatureIds(new String[] { JavaCore.NATURE_ID });
+		fProject.setDescription(description, null);
+		IFolder folder = fProject.getFolder("src"); //$NON-NLS-1$
+		folder.create(true, true, null);
+		fProblems = new IApiProblem[files * problemsPerFile];
+		IApiProblem[] filtered = new IApiProblem[fProblems.length / 2];
+		int count = 0;
+		for (int i = 0; i < files; i++) {
+			String typeName = BenchmarkFixtures.getTypeName(i);
+			String fileName = "Type" + i + ".java"; //$NON-NLS-1$ //$NON-NLS-2$
+			folder.getFile(fileName).create(new ByteArrayInputStream(("public class Type" + i + " {}").getBytes(StandardCharsets.UTF_8)), true, null); //$NON-NLS-1$ //$NON-NLS-2$
+			String path = "src/" + fileName; //$NON-NLS-1$
+			for (int j = 0; j < problemsPerFile; j++) {
+				IApiProblem problem = ApiProblemFactory.newApiProblem(path, typeName, new String[] { typeName, "method" + j + "()" }, //$NON-NLS-1$ //$NON-NLS-2$
+						null, null, j, j * 10, j * 10 + 5, IApiProblem.CATEGORY_USAGE, IElementDescriptor.METHOD, IApiProblem.ILLEGAL_REFERENCE, IApiProblem.METHOD);
+				fProblems[i * problemsPerFile + j] = problem;
+				if (j % 2 == 0 && count < filtered.length) {
+					filtered[count++] = problem;
+				}
+			}
+		}
+		fStore = new ApiFilterStore(JavaCore.create(fProject));
+		fStore.addFiltersFor(filtered);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws CoreException {
+		fStore.dispose();
+		fProject.delete(true, true, null);
+	}
+
+	@Benchmark
+	public void isFiltered(Blackhole blackhole) {
+		for (IApiProblem problem : fProblems) {
+			blackhole.consume(fStore.isFiltered(problem));
+		}
+	}
+}
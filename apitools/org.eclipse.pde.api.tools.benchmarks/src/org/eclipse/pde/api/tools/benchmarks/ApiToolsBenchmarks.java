@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.benchmarks;
+
+import static org.junit.Assert.assertFalse;
+
+import java.util.Collection;
+
+import org.junit.Test;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the API tools benchmarks inside the test runtime, so that the
+ * benchmarks can use the workspace and the bundles of the running platform.
+ * <p>
+ * The run is configured with the following system properties:
+ * </p>
+ * <ul>
+ * <li><code>benchmark.include</code> - regular expression selecting the
+ * benchmarks to run, all of them by default</li>
+ * <li><code>benchmark.forks</code> - number of forked JVMs, <code>0</code> by
+ * default. Benchmarks using the workspace require <code>0</code></li>
+ * <li><code>benchmark.warmupIterations</code> and
+ * <code>benchmark.iterations</code> - number of warmup and measurement
+ * iterations</li>
+ * <li><code>benchmark.result</code> - the JSON file the results are written
+ * to</li>
+ * </ul>
+ * The allocation rate of each benchmark is reported by the GC profiler.
+ */
+public class ApiToolsBenchmarks {
+
+	@Test
+	public void runBenchmarks() throws Exception {
+		Options options = new OptionsBuilder() //
+				.include(System.getProperty("benchmark.include", ApiToolsBenchmarks.class.getPackageName() + ".*")) //$NON-NLS-1$ //$NON-NLS-2$
+				.forks(Integer.getInteger("benchmark.forks", 0)) //$NON-NLS-1$
+				.warmupIterations(Integer.getInteger("benchmark.warmupIterations", 5)) //$NON-NLS-1$
+				.measurementIterations(Integer.getInteger("benchmark.iterations", 10)) //$NON-NLS-1$
+				.addProfiler(GCProfiler.class) //
+				.resultFormat(ResultFormatType.JSON) //
+				.result(System.getProperty("benchmark.result", "jmh-result.json")) //$NON-NLS-1$ //$NON-NLS-2$
+				.shouldFailOnError(true) //
+				.build();
+		Collection<RunResult> results = new Runner(options).run();
+		assertFalse("No benchmark was run", results.isEmpty()); //$NON-NLS-1$
+	}
+}
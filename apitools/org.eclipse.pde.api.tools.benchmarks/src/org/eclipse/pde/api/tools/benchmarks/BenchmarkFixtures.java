@@ -0,0 +1,223 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.launching.environments.ExecutionEnvironmentDescription;
+import org.eclipse.pde.api.tools.internal.model.AbstractApiTypeRoot;
+import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.eclipse.pde.api.tools.internal.util.Util;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Reproducible fixtures of the benchmarks: a synthetic bundle whose class files
+ * are generated with ASM, in a reference and a current version, and a baseline
+ * holding each version.
+ * <p>
+ * The generated types only depend on the number of types requested, so every
+ * run measures the same input. The current version of each type changes the
+ * type of a field, removes a method and adds another one, so that comparing
+ * both versions reports deltas.
+ * </p>
+ */
+final class BenchmarkFixtures {
+
+	static final String BUNDLE_NAME = "bench.provider"; //$NON-NLS-1$
+	static final String PACKAGE_NAME = "bench.api"; //$NON-NLS-1$
+
+	private static final int FIELDS = 8;
+	private static final int METHODS = 16;
+
+	private final Path fRoot;
+	private final int fTypeCount;
+	private final IApiBaseline fReference;
+	private final IApiBaseline fCurrent;
+
+	/**
+	 * Generates the bundles and creates the baselines
+	 *
+	 * @param typeCount the number of types of the bundle
+	 */
+	BenchmarkFixtures(int typeCount) throws IOException, CoreException {
+		fTypeCount = typeCount;
+		fRoot = Files.createTempDirectory("apitools-benchmarks"); //$NON-NLS-1$
+		fReference = createBaseline("reference", writeBundle("1.0.0", false)); //$NON-NLS-1$ //$NON-NLS-2$
+		fCurrent = createBaseline("current", writeBundle("1.1.0", true)); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * @return the number of generated types
+	 */
+	int getTypeCount() {
+		return fTypeCount;
+	}
+
+	/**
+	 * @return the baseline holding the reference version of the bundle
+	 */
+	IApiBaseline getReferenceBaseline() {
+		return fReference;
+	}
+
+	/**
+	 * @return the baseline holding the current version of the bundle
+	 */
+	IApiBaseline getCurrentBaseline() {
+		return fCurrent;
+	}
+
+	/**
+	 * Returns the bundle of the given baseline
+	 */
+	static IApiComponent getComponent(IApiBaseline baseline) {
+		return baseline.getApiComponent(BUNDLE_NAME);
+	}
+
+	/**
+	 * Returns the type roots of all generated types of the given baseline
+	 */
+	IApiTypeRoot[] getTypeRoots(IApiBaseline baseline) throws CoreException {
+		IApiComponent component = getComponent(baseline);
+		IApiTypeRoot[] roots = new IApiTypeRoot[fTypeCount];
+		for (int i = 0; i < fTypeCount; i++) {
+			roots[i] = component.findTypeRoot(getTypeName(i));
+		}
+		return roots;
+	}
+
+	/**
+	 * Returns the fully qualified name of the generated type with the given
+	 * index
+	 */
+	static String getTypeName(int index) {
+		return PACKAGE_NAME + ".Type" + index; //$NON-NLS-1$
+	}
+
+	/**
+	 * Disposes the baselines and deletes the generated bundles
+	 */
+	void dispose() {
+		fReference.dispose();
+		fCurrent.dispose();
+		Util.delete(fRoot.toFile());
+	}
+
+	private Path writeBundle(String version, boolean changed) throws IOException {
+		Path bundle = fRoot.resolve(BUNDLE_NAME + '_' + version);
+		Path manifest = bundle.resolve("META-INF/MANIFEST.MF"); //$NON-NLS-1$
+		Files.createDirectories(manifest.getParent());
+		Files.writeString(manifest, "Manifest-Version: 1.0\n" //$NON-NLS-1$
+				+ "Bundle-ManifestVersion: 2\n" //$NON-NLS-1$
+				+ "Bundle-SymbolicName: " + BUNDLE_NAME + '\n' //$NON-NLS-1$
+				+ "Bundle-Version: " + version + '\n' //$NON-NLS-1$
+				+ "Bundle-RequiredExecutionEnvironment: JavaSE-17\n" //$NON-NLS-1$
+				+ "Export-Package: " + PACKAGE_NAME + '\n', StandardCharsets.UTF_8); //$NON-NLS-1$
+		Path folder = bundle.resolve(PACKAGE_NAME.replace('.', '/'));
+		Files.createDirectories(folder);
+		for (int i = 0; i < fTypeCount; i++) {
+			Files.write(folder.resolve("Type" + i + ".class"), generateType(i, changed)); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return bundle;
+	}
+
+	/**
+	 * Generates the class file of the type with the given index. Every fifth
+	 * type extends <code>Object</code>, the others extend the previous type.
+	 * The methods reference fields and methods of the type itself and of other
+	 * generated types.
+	 */
+	private byte[] generateType(int index, boolean changed) {
+		String name = internalName(index);
+		String superName = index % 5 == 0 ? "java/lang/Object" : internalName(index - 1); //$NON-NLS-1$
+		ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+		writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, name, null, superName, new String[] { "java/io/Serializable" }); //$NON-NLS-1$
+		String firstField = changed ? "J" : "I"; //$NON-NLS-1$ //$NON-NLS-2$
+		for (int i = 0; i < FIELDS; i++) {
+			writer.visitField(Opcodes.ACC_PUBLIC, "field" + i, i == 0 ? firstField : "I", null, null).visitEnd(); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		MethodVisitor init = writer.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null); //$NON-NLS-1$ //$NON-NLS-2$
+		init.visitCode();
+		init.visitVarInsn(Opcodes.ALOAD, 0);
+		init.visitMethodInsn(Opcodes.INVOKESPECIAL, superName, "<init>", "()V", false); //$NON-NLS-1$ //$NON-NLS-2$
+		init.visitInsn(Opcodes.RETURN);
+		init.visitMaxs(0, 0);
+		init.visitEnd();
+		MethodVisitor helper = writer.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, "helper", "()V", null, null); //$NON-NLS-1$ //$NON-NLS-2$
+		helper.visitCode();
+		helper.visitInsn(Opcodes.RETURN);
+		helper.visitMaxs(0, 0);
+		helper.visitEnd();
+		int methods = changed ? METHODS - 1 : METHODS;
+		for (int i = 0; i < methods; i++) {
+			MethodVisitor method = writer.visitMethod(Opcodes.ACC_PUBLIC, "method" + i, "(ILjava/lang/String;)Ljava/lang/String;", null, null); //$NON-NLS-1$ //$NON-NLS-2$
+			method.visitCode();
+			method.visitMethodInsn(Opcodes.INVOKESTATIC, internalName((index + i + 1) % fTypeCount), "helper", "()V", false); //$NON-NLS-1$ //$NON-NLS-2$
+			method.visitTypeInsn(Opcodes.NEW, "java/lang/StringBuilder"); //$NON-NLS-1$
+			method.visitInsn(Opcodes.DUP);
+			method.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/StringBuilder", "<init>", "()V", false); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			method.visitVarInsn(Opcodes.ALOAD, 2);
+			method.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/StringBuilder", "append", "(Ljava/lang/String;)Ljava/lang/StringBuilder;", false); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			method.visitVarInsn(Opcodes.ALOAD, 0);
+			method.visitFieldInsn(Opcodes.GETFIELD, name, "field" + (i % FIELDS), i % FIELDS == 0 ? firstField : "I"); //$NON-NLS-1$ //$NON-NLS-2$
+			method.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/StringBuilder", "append", i % FIELDS == 0 && changed ? "(J)Ljava/lang/StringBuilder;" : "(I)Ljava/lang/StringBuilder;", false); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			method.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/StringBuilder", "toString", "()Ljava/lang/String;", false); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			method.visitInsn(Opcodes.ARETURN);
+			method.visitMaxs(0, 0);
+			method.visitEnd();
+		}
+		if (changed) {
+			MethodVisitor added = writer.visitMethod(Opcodes.ACC_PUBLIC, "added", "()V", null, null); //$NON-NLS-1$ //$NON-NLS-2$
+			added.visitCode();
+			added.visitInsn(Opcodes.RETURN);
+			added.visitMaxs(0, 0);
+			added.visitEnd();
+		}
+		writer.visitEnd();
+		return writer.toByteArray();
+	}
+
+	private static String internalName(int index) {
+		return getTypeName(index).replace('.', '/');
+	}
+
+	private static IApiBaseline createBaseline(String name, Path bundle) throws CoreException {
+		ExecutionEnvironmentDescription ee = new ExecutionEnvironmentDescription(Map.of( //
+				ExecutionEnvironmentDescription.JAVA_HOME, System.getProperty("java.home"), //$NON-NLS-1$
+				ExecutionEnvironmentDescription.BOOT_CLASS_PATH, Util.getJavaClassLibsAsString(),
+				ExecutionEnvironmentDescription.LANGUAGE_LEVEL, "17", //$NON-NLS-1$
+				ExecutionEnvironmentDescription.CLASS_LIB_LEVEL, "JavaSE-17")); //$NON-NLS-1$
+		IApiBaseline baseline = ApiModelFactory.newApiBaseline(name, ee, null);
+		IApiComponent component = ApiModelFactory.newApiComponent(baseline, bundle.toString());
+		baseline.addApiComponents(new IApiComponent[] { component });
+		return baseline;
+	}
+
+	/**
+	 * Returns the content of the class file of the given type root
+	 */
+	static byte[] getContents(IApiTypeRoot root) throws CoreException {
+		return ((AbstractApiTypeRoot) root).getContents();
+	}
+}
@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.comparator.ClassFileComparator;
+import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures comparing the types of two versions of a bundle
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ClassFileComparatorBenchmark {
+
+	@Param({ "200" })
+	public int types;
+
+	private BenchmarkFixtures fFixtures;
+	private IApiBaseline fReference;
+	private IApiBaseline fCurrent;
+	private IApiComponent fReferenceComponent;
+	private IApiComponent fCurrentComponent;
+	private IApiTypeRoot[] fReferenceRoots;
+	private IApiTypeRoot[] fCurrentRoots;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		fFixtures = new BenchmarkFixtures(types);
+		fReference = fFixtures.getReferenceBaseline();
+		fCurrent = fFixtures.getCurrentBaseline();
+		fReferenceComponent = BenchmarkFixtures.getComponent(fReference);
+		fCurrentComponent = BenchmarkFixtures.getComponent(fCurrent);
+		fReferenceRoots = fFixtures.getTypeRoots(fReference);
+		fCurrentRoots = fFixtures.getTypeRoots(fCurrent);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		fFixtures.dispose();
+	}
+
+	@Benchmark
+	public void compare(Blackhole blackhole) throws CoreException {
+		for (int i = 0; i < fCurrentRoots.length; i++) {
+			ClassFileComparator comparator = new ClassFileComparator(fCurrentRoots[i], fReferenceRoots[i], fCurrentComponent, fReferenceComponent, fCurrent, fReference, VisibilityModifiers.ALL_VISIBILITIES);
+			blackhole.consume(comparator.getDelta());
+		}
+	}
+}
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures extracting all the references of the types of a bundle
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReferenceExtractorBenchmark {
+
+	@Param({ "200" })
+	public int types;
+
+	private BenchmarkFixtures fFixtures;
+	private IApiType[] fTypes;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		fFixtures = new BenchmarkFixtures(types);
+		IApiTypeRoot[] roots = fFixtures.getTypeRoots(fFixtures.getReferenceBaseline());
+		fTypes = new IApiType[roots.length];
+		for (int i = 0; i < roots.length; i++) {
+			fTypes[i] = roots[i].getStructure();
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		fFixtures.dispose();
+	}
+
+	@Benchmark
+	public void extractReferences(Blackhole blackhole) throws CoreException {
+		for (IApiType type : fTypes) {
+			blackhole.consume(type.extractReferences(IReference.MASK_REF_ALL, null));
+		}
+	}
+}
@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMethodDescriptor;
+import org.eclipse.pde.api.tools.internal.util.Signatures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the signature utilities used when reporting problems and deltas
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SignaturesBenchmark {
+
+	private static final String[] SIGNATURES = { "()V", //$NON-NLS-1$
+			"(ILjava/lang/String;)Ljava/lang/String;", //$NON-NLS-1$
+			"([Ljava/lang/Object;J)[[I", //$NON-NLS-1$
+			"(Ljava/util/Map;Ljava/util/List;Z)Ljava/util/Set;", //$NON-NLS-1$
+			"(Lorg/eclipse/core/runtime/IProgressMonitor;[Lorg/eclipse/core/resources/IResource;)Lorg/eclipse/core/runtime/IStatus;" //$NON-NLS-1$
+	};
+
+	private IMethodDescriptor[] fMethods;
+	private String[] fDotted;
+
+	@Setup
+	public void setUp() {
+		fMethods = new IMethodDescriptor[SIGNATURES.length];
+		fDotted = new String[SIGNATURES.length];
+		for (int i = 0; i < SIGNATURES.length; i++) {
+			fMethods[i] = Factory.methodDescriptor(BenchmarkFixtures.getTypeName(i), "method" + i, SIGNATURES[i]); //$NON-NLS-1$
+			fDotted[i] = SIGNATURES[i].replace('/', '.');
+		}
+	}
+
+	@Benchmark
+	public void qualifiedMethodSignature(Blackhole blackhole) throws CoreException {
+		for (IMethodDescriptor method : fMethods) {
+			blackhole.consume(Signatures.getQualifiedMethodSignature(method));
+		}
+	}
+
+	@Benchmark
+	public void dequalifySignature(Blackhole blackhole) {
+		for (String signature : fDotted) {
+			blackhole.consume(Signatures.dequalifySignature(signature));
+		}
+	}
+
+	@Benchmark
+	public void matchesSignatures(Blackhole blackhole) {
+		for (int i = 0; i < SIGNATURES.length; i++) {
+			blackhole.consume(Signatures.matchesSignatures(SIGNATURES[i], fDotted[i]));
+		}
+	}
+}
@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.pde.api.tools.internal.model.TypeStructureBuilder;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures building the type structures of the class files of a bundle
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TypeStructureBuilderBenchmark {
+
+	@Param({ "200" })
+	public int types;
+
+	private BenchmarkFixtures fFixtures;
+	private IApiComponent fComponent;
+	private IApiTypeRoot[] fRoots;
+	private byte[][] fContents;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		fFixtures = new BenchmarkFixtures(types);
+		fComponent = BenchmarkFixtures.getComponent(fFixtures.getReferenceBaseline());
+		fRoots = fFixtures.getTypeRoots(fFixtures.getReferenceBaseline());
+		fContents = new byte[fRoots.length][];
+		for (int i = 0; i < fRoots.length; i++) {
+			fContents[i] = BenchmarkFixtures.getContents(fRoots[i]);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		fFixtures.dispose();
+	}
+
+	@Benchmark
+	public void buildTypeStructures(Blackhole blackhole) {
+		for (int i = 0; i < fRoots.length; i++) {
+			blackhole.consume(TypeStructureBuilder.buildTypeStructure(fContents[i], fComponent, fRoots[i]));
+		}
+	}
+}
@@ -13,13 +13,22 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.anttasks.tests;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeNoException;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.ParserConfigurationException;
@@ -28,6 +37,7 @@ import org.eclipse.core.internal.runtime.XmlProcessorFactory;
 import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.util.Util;
 import org.junit.Test;
 import org.w3c.dom.Document;
 import org.w3c.dom.NodeList;
@@ -164,4 +174,73 @@ public class ApiToolingApiuseAntTaskTests extends AntRunnerTestCase {
 		}
 	}
 
+	/**
+	 * Tests that a component whose results cannot be recorded for an
+	 * incremental scan does not prevent the results of the other components
+	 * from being recorded
+	 */
+	@Test
+	public void testIncrementalRecordFailure() throws Exception {
+		IFolder buildFolder = newTest(getTestResourcesFolder(), new String[] { "testIncremental", "profile" }); //$NON-NLS-1$ //$NON-NLS-2$
+		File state = buildFolder.getLocation().append("state").toFile(); //$NON-NLS-1$
+		runIncrementalScan(buildFolder);
+		Properties recorded = loadState(state);
+		assertFalse("the results of the scanned components must be recorded", recorded.isEmpty()); //$NON-NLS-1$
+		Set<String> referees = getReportFolders(buildFolder);
+
+		// the results of the first component cannot be copied into the state
+		// location, since a dangling link is in the way
+		String origin = new TreeSet<>(recorded.stringPropertyNames()).first();
+		Util.delete(state);
+		assertTrue(state.mkdirs());
+		try {
+			Files.createSymbolicLink(state.toPath().resolve(origin), Path.of("missing")); //$NON-NLS-1$
+		} catch (IOException | UnsupportedOperationException e) {
+			assumeNoException("symbolic links are not supported", e); //$NON-NLS-1$
+		}
+		runIncrementalScan(buildFolder);
+		assertEquals("the scan must not be affected", referees, getReportFolders(buildFolder)); //$NON-NLS-1$
+		Properties partial = loadState(state);
+		assertNull(origin + " must not be recorded", partial.getProperty(origin)); //$NON-NLS-1$
+		assertEquals("the other components must be recorded", recorded.size() - 1, partial.size()); //$NON-NLS-1$
+		for (String other : partial.stringPropertyNames()) {
+			assertEquals(recorded.getProperty(other), partial.getProperty(other));
+		}
+	}
+
+	private void runIncrementalScan(IFolder buildFolder) throws Exception {
+		String buildXMLPath = buildFolder.getFile("build.xml").getLocation().toOSString(); //$NON-NLS-1$
+		Properties properties = new Properties();
+		properties.put("baseline_location", buildFolder.getFile("OSGiProduct.zip").getLocation().toOSString()); //$NON-NLS-1$ //$NON-NLS-2$
+		properties.put("report_location", buildFolder.getLocation().append("report").toOSString()); //$NON-NLS-1$ //$NON-NLS-2$
+		properties.put("state_location", buildFolder.getLocation().append("state").toOSString()); //$NON-NLS-1$ //$NON-NLS-2$
+		properties.put("filter_location", buildFolder.getLocation().toOSString()); //$NON-NLS-1$
+		runAntScript(buildXMLPath, new String[] { "run" }, buildFolder.getLocation().toOSString(), properties); //$NON-NLS-1$
+	}
+
+	private static Properties loadState(File state) throws IOException {
+		File file = new File(state, "use_scan_state.properties"); //$NON-NLS-1$
+		assertTrue("the state of the scan must be saved", file.isFile()); //$NON-NLS-1$
+		Properties properties = new Properties();
+		try (InputStream stream = Files.newInputStream(file.toPath())) {
+			properties.load(stream);
+		}
+		return properties;
+	}
+
+	/**
+	 * Returns the referenced and referencing component folders of the report
+	 */
+	private static Set<String> getReportFolders(IFolder buildFolder) {
+		Set<String> folders = new TreeSet<>();
+		File[] referees = buildFolder.getLocation().append("report").toFile().listFiles(File::isDirectory); //$NON-NLS-1$
+		assertTrue("None of the example plug-ins were scanned", referees != null && referees.length > 0); //$NON-NLS-1$
+		for (File referee : referees) {
+			String[] origins = referee.list();
+			Arrays.sort(origins);
+			folders.add(referee.getName() + Arrays.toString(origins));
+		}
+		return folders;
+	}
+
 }
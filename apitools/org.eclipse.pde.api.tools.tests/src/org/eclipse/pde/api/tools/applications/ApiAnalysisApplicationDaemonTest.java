@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.applications;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.util.List;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.pde.api.tools.internal.ApiAnalysisApplication;
+import org.eclipse.pde.api.tools.internal.ApiAnalysisApplication.Request;
+import org.eclipse.pde.api.tools.internal.ApiBaselineManager;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the daemon mode of the API analysis application, which handles each
+ * line of the standard input as a request
+ */
+public class ApiAnalysisApplicationDaemonTest {
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * Tests that a result is printed for each request read before the exit
+	 * line, and that the baselines of the daemon are removed when it stops
+	 */
+	@Test
+	public void testServe() throws Exception {
+		// empty baselines, the requests without a project are not analyzed
+		File first = folder.newFile("daemon_first.txt"); //$NON-NLS-1$
+		File second = folder.newFile("daemon_second.txt"); //$NON-NLS-1$
+		String input = "-failOnError\n" //$NON-NLS-1$
+				+ "\n" //$NON-NLS-1$
+				+ "-baseline \"" + second.getAbsolutePath() + "\"\n" //$NON-NLS-1$ //$NON-NLS-2$
+				+ "exit\n" //$NON-NLS-1$
+				+ "-failOnError\n"; //$NON-NLS-1$
+		Request args = Request.readFromArgs(new String[] { "-daemon", "-baseline", first.getAbsolutePath() }); //$NON-NLS-1$ //$NON-NLS-2$
+
+		ApiBaselineManager manager = ApiBaselineManager.getManager();
+		IApiBaseline defaultBaseline = manager.getDefaultApiBaseline();
+		InputStream in = System.in;
+		PrintStream out = System.out;
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		Object result;
+		try {
+			System.setIn(new ByteArrayInputStream(input.getBytes(Charset.defaultCharset())));
+			System.setOut(new PrintStream(output, true, Charset.defaultCharset()));
+			result = new ApiAnalysisApplication().serve(args);
+		} finally {
+			System.setIn(in);
+			System.setOut(out);
+			manager.setDefaultApiBaseline(defaultBaseline == null ? null : defaultBaseline.getName());
+		}
+		assertEquals(IStatus.OK, result);
+		List<String> results = output.toString(Charset.defaultCharset()).lines()
+				.filter(line -> line.startsWith(ApiAnalysisApplication.DAEMON_RESULT)).toList();
+		assertEquals("one result must be printed for each request before the exit line", //$NON-NLS-1$
+				List.of(ApiAnalysisApplication.DAEMON_RESULT + IStatus.ERROR,
+						ApiAnalysisApplication.DAEMON_RESULT + IStatus.ERROR),
+				results);
+		assertNull("the baseline of the daemon must be removed", manager.getApiBaseline("daemon_first")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.applications;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+
+import org.eclipse.pde.api.tools.internal.ApiAnalysisApplication.Request;
+import org.junit.Test;
+
+/**
+ * Tests the parsing of the requests of the API analysis application, as read
+ * from the command line and from the standard input in daemon mode
+ */
+public class ApiAnalysisApplicationRequestTest {
+
+	@Test
+	public void testSplit() {
+		assertArrayEquals(new String[] { "-project", "a", "-failOnError" }, //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				Request.split("-project a -failOnError")); //$NON-NLS-1$
+		assertArrayEquals(new String[] { "-project", "a" }, Request.split(" \t-project \t a  ")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertArrayEquals(new String[0], Request.split("")); //$NON-NLS-1$
+		assertArrayEquals(new String[0], Request.split("   ")); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testSplitQuoted() {
+		assertArrayEquals(new String[] { "-project", "/path with/spaces" }, //$NON-NLS-1$ //$NON-NLS-2$
+				Request.split("-project \"/path with/spaces\"")); //$NON-NLS-1$
+		// quotes may enclose a part of an argument only
+		assertArrayEquals(new String[] { "-project", "/path with/spaces" }, //$NON-NLS-1$ //$NON-NLS-2$
+				Request.split("-project /path\" with\"/spaces")); //$NON-NLS-1$
+		// empty quotes are an empty argument
+		assertArrayEquals(new String[] { "-baseline", "", "-project", "a" }, //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+				Request.split("-baseline \"\" -project a")); //$NON-NLS-1$
+		// an unterminated quote extends to the end of the line
+		assertArrayEquals(new String[] { "-project", "a b " }, Request.split("-project \"a b ")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	@Test
+	public void testReadFromArgs() {
+		Request request = Request.readFromArgs(Request.split("-project a -baseline b -dependencyList c -failOnError")); //$NON-NLS-1$
+		assertEquals(new File("a"), request.project); //$NON-NLS-1$
+		assertTrue(request.baselineGiven);
+		assertEquals(new File("b"), request.baselinePath); //$NON-NLS-1$
+		assertEquals(new File("c"), request.tpFile); //$NON-NLS-1$
+		assertTrue(request.failOnError);
+		assertFalse(request.daemon);
+
+		request = Request.readFromArgs(Request.split("-daemon -project \"\"")); //$NON-NLS-1$
+		assertTrue(request.daemon);
+		assertFalse(request.failOnError);
+		assertEquals(new File(""), request.project); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testDefaultBaseline() {
+		Request request = Request.readFromArgs(Request.split("-project a")); //$NON-NLS-1$
+		assertFalse("no baseline is given", request.baselineGiven); //$NON-NLS-1$
+		assertNull(request.baselinePath);
+
+		request = Request.readFromArgs(Request.split("-project a -baseline default")); //$NON-NLS-1$
+		assertTrue("the running platform is given as baseline", request.baselineGiven); //$NON-NLS-1$
+		assertNull(request.baselinePath);
+	}
+}
@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.pde.api.tools.internal.builder.BuildState;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.tests.AbstractApiTest;
+import org.eclipse.pde.api.tools.tests.util.ProjectUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that the last built state of a project is only kept on a build path
+ * change if the content of the libraries of the project did not change
+ */
+public class BuildPathChangeTests extends AbstractApiTest {
+
+	private IFile fLibrary;
+
+	@Override
+	@Before
+	public void setUp() throws Exception {
+		super.setUp();
+		createProject(TESTING_PROJECT_NAME, new String[] { "a.b.c" }); //$NON-NLS-1$
+		IProject project = getProject(TESTING_PROJECT_NAME);
+		fLibrary = project.getFile("library.jar"); //$NON-NLS-1$
+		fLibrary.create(new ByteArrayInputStream(createLibrary('a')), true, new NullProgressMonitor());
+		ProjectUtils.addToClasspath(JavaCore.create(project), JavaCore.newLibraryEntry(fLibrary.getFullPath(), null, null));
+		project.build(IncrementalProjectBuilder.FULL_BUILD, ApiPlugin.BUILDER_ID, null, new NullProgressMonitor());
+		assertNotNull("the project must have a built state", BuildState.getLastBuiltState(project)); //$NON-NLS-1$
+	}
+
+	@Override
+	@After
+	public void tearDown() throws Exception {
+		deleteProject(TESTING_PROJECT_NAME);
+		super.tearDown();
+	}
+
+	/**
+	 * Tests that the built state is kept if only the resolved build path is
+	 * reported changed and the libraries are the same
+	 */
+	@Test
+	public void testUnchangedLibraries() throws Exception {
+		IProject project = getProject(TESTING_PROJECT_NAME);
+		BuildState state = BuildState.getLastBuiltState(project);
+		assertEquals(state.getBuildPathCRC(), BuildState.computeBuildPathCRC(project));
+		BuildState.buildPathChanged(project, true);
+		assertNotNull("the built state must be kept", BuildState.getLastBuiltState(project)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the built state is discarded if the raw build path changed
+	 */
+	@Test
+	public void testRawBuildPathChanged() throws Exception {
+		IProject project = getProject(TESTING_PROJECT_NAME);
+		BuildState.buildPathChanged(project, false);
+		assertNull("the built state must be discarded", BuildState.getLastBuiltState(project)); //$NON-NLS-1$
+
+		project.build(IncrementalProjectBuilder.INCREMENTAL_BUILD, ApiPlugin.BUILDER_ID, null, new NullProgressMonitor());
+		assertNotNull("the project must be built again", BuildState.getLastBuiltState(project)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the built state is kept if a library is only touched, as when
+	 * the target platform is reloaded
+	 */
+	@Test
+	public void testTouchedLibrary() throws Exception {
+		IProject project = getProject(TESTING_PROJECT_NAME);
+		long crc = BuildState.computeBuildPathCRC(project);
+		File file = fLibrary.getLocation().toFile();
+		assertTrue(file.setLastModified(file.lastModified() - 10_000));
+		assertEquals("the CRC must only cover the content of the library", crc, BuildState.computeBuildPathCRC(project)); //$NON-NLS-1$
+
+		BuildState.buildPathChanged(project, true);
+		assertNotNull("the built state must be kept", BuildState.getLastBuiltState(project)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the built state is discarded if a library is replaced while
+	 * the build path is the same
+	 */
+	@Test
+	public void testChangedLibrary() throws Exception {
+		IProject project = getProject(TESTING_PROJECT_NAME);
+		long crc = BuildState.computeBuildPathCRC(project);
+		File file = fLibrary.getLocation().toFile();
+		long lastModified = file.lastModified();
+		// a library of the same size with another content and time stamp
+		Files.write(file.toPath(), createLibrary('b'));
+		assertTrue(file.setLastModified(lastModified - 10_000));
+		assertNotEquals("the CRC must cover the content of the library", crc, BuildState.computeBuildPathCRC(project)); //$NON-NLS-1$
+
+		BuildState.buildPathChanged(project, true);
+		assertNull("the built state must be discarded", BuildState.getLastBuiltState(project)); //$NON-NLS-1$
+	}
+
+	private static byte[] createLibrary(char content) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+			zip.putNextEntry(new ZipEntry("readme.txt")); //$NON-NLS-1$
+			zip.write(new byte[] { (byte) content });
+			zip.closeEntry();
+		}
+		return bytes.toByteArray();
+	}
+}
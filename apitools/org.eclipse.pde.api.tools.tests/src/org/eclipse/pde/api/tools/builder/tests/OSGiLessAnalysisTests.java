@@ -14,10 +14,13 @@
 package org.eclipse.pde.api.tools.builder.tests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -26,11 +29,14 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.pde.api.tools.internal.builder.BaseApiAnalyzer;
 import org.eclipse.pde.api.tools.internal.builder.BuildContext;
+import org.eclipse.pde.api.tools.internal.builder.ReferenceAnalyzer;
 import org.eclipse.pde.api.tools.internal.problems.ApiProblemFactory;
 import org.eclipse.pde.api.tools.internal.provisional.comparator.IDelta;
 import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
 import org.eclipse.pde.api.tools.internal.provisional.problems.IApiProblem;
 import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
 import org.junit.Test;
@@ -42,6 +48,9 @@ import org.junit.Test;
  */
 public class OSGiLessAnalysisTests {
 
+	private static final String COMPATIBILITY_PARALLELISM = "org.eclipse.pde.api.tools.compatibilityParallelism"; //$NON-NLS-1$
+	private static final String REFERENCE_ANALYSIS_PARALLELISM = "org.eclipse.pde.api.tools.referenceAnalysisParallelism"; //$NON-NLS-1$
+
 	@Test
 	public void testAnalyzer() throws CoreException {
 		IApiBaseline baseline = TestSuiteHelper.createTestingBaseline("baseline", IPath.fromOSString("test-analyzer-1")); //$NON-NLS-1$ //$NON-NLS-2$
@@ -75,4 +84,80 @@ public class OSGiLessAnalysisTests {
 		ApiTestingEnvironment.dispose(baseline);
 		ApiTestingEnvironment.dispose(current);
 	}
+
+	/**
+	 * Tests that comparing the changed types concurrently reports the same
+	 * problems, in the same order, as comparing them serially
+	 */
+	@Test
+	public void testParallelCompatibilityCheck() throws CoreException {
+		IApiBaseline baseline = TestSuiteHelper.createTestingBaseline("baseline", IPath.fromOSString("test-analyzer-1")); //$NON-NLS-1$ //$NON-NLS-2$
+		IApiBaseline current = TestSuiteHelper.createTestingBaseline("current", IPath.fromOSString("test-analyzer-2")); //$NON-NLS-1$ //$NON-NLS-2$
+		try {
+			IApiComponent component = current.getApiComponent("test.bundle.a"); //$NON-NLS-1$
+			assertNotNull("Missing API component test.bundle.a", component); //$NON-NLS-1$
+			List<String> serial = analyzeAllTypes(baseline, component);
+			assertFalse("No problems reported", serial.isEmpty()); //$NON-NLS-1$
+			System.setProperty(COMPATIBILITY_PARALLELISM, "4"); //$NON-NLS-1$
+			try {
+				assertEquals(serial, analyzeAllTypes(baseline, component));
+			} finally {
+				System.clearProperty(COMPATIBILITY_PARALLELISM);
+			}
+		} finally {
+			ApiTestingEnvironment.dispose(baseline);
+			ApiTestingEnvironment.dispose(current);
+		}
+	}
+
+	/**
+	 * Analyzes the given component with all its types recorded as changed
+	 *
+	 * @return the descriptions of the reported problems, in order
+	 */
+	private List<String> analyzeAllTypes(IApiBaseline baseline, IApiComponent component) throws CoreException {
+		BuildContext context = new BuildContext();
+		component.accept(new ApiTypeContainerVisitor() {
+			@Override
+			public void visit(String packageName, IApiTypeRoot typeroot) {
+				context.recordStructuralChange(typeroot.getTypeName());
+			}
+		});
+		BaseApiAnalyzer analyzer = new BaseApiAnalyzer();
+		analyzer.analyzeComponent(null, null, null, baseline, component, context, new NullProgressMonitor());
+		return describe(analyzer.getProblems());
+	}
+
+	/**
+	 * @return the descriptions of the given problems, in order
+	 */
+	private static List<String> describe(IApiProblem[] problems) {
+		List<String> descriptions = new ArrayList<>();
+		for (IApiProblem problem : problems) {
+			descriptions.add(problem.getId() + " " + problem.getTypeName() + " " + problem.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return descriptions;
+	}
+
+	/**
+	 * Tests that extracting the references of the packages concurrently
+	 * reports the same problems, in the same order, as a serial extraction
+	 */
+	@Test
+	public void testParallelReferenceAnalysis() throws CoreException {
+		IApiBaseline baseline = TestSuiteHelper.createTestingBaseline("test-plugins"); //$NON-NLS-1$
+		try {
+			IApiComponent component = baseline.getApiComponent("component.b"); //$NON-NLS-1$
+			assertNotNull("Missing API component component.b", component); //$NON-NLS-1$
+			List<String> serial = describe(new ReferenceAnalyzer().analyze(component, component, new NullProgressMonitor()));
+			System.setProperty(REFERENCE_ANALYSIS_PARALLELISM, "4"); //$NON-NLS-1$
+			try {
+				assertEquals(serial, describe(new ReferenceAnalyzer().analyze(component, component, new NullProgressMonitor())));
+			} finally {
+				System.clearProperty(REFERENCE_ANALYSIS_PARALLELISM);
+			}
+		} finally {
+			ApiTestingEnvironment.dispose(baseline);
+		}
+	}
 }
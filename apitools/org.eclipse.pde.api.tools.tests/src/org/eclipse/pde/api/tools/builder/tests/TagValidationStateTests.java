@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.pde.api.tools.internal.builder.BuildState;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.IApiMarkerConstants;
+import org.eclipse.pde.api.tools.internal.provisional.problems.IApiProblem;
+import org.eclipse.pde.api.tools.internal.provisional.problems.IApiProblemTypes;
+import org.eclipse.pde.api.tools.tests.AbstractApiTest;
+import org.eclipse.pde.api.tools.tests.util.ProjectUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that the results of the tag validation recorded in the build state
+ * are reused for unchanged compilation units and dropped or recomputed for
+ * changed, removed and renamed ones
+ */
+public class TagValidationStateTests extends AbstractApiTest {
+
+	private static final String TAGGED_PATH = ProjectUtils.SRC_FOLDER + "/a/b/c/Tagged.java"; //$NON-NLS-1$
+	private static final String RENAMED_PATH = ProjectUtils.SRC_FOLDER + "/a/b/c/Renamed.java"; //$NON-NLS-1$
+
+	@Override
+	@Before
+	public void setUp() throws Exception {
+		super.setUp();
+		setInvalidTagSeverity(ApiPlugin.VALUE_ERROR);
+		createProject(TESTING_PROJECT_NAME, new String[] { "a.b.c" }); //$NON-NLS-1$
+		IProject project = getProject(TESTING_PROJECT_NAME);
+		// @noimplement is not supported on a class
+		project.getFile(TAGGED_PATH).create(source("Tagged", "@noimplement"), true, new NullProgressMonitor()); //$NON-NLS-1$ //$NON-NLS-2$
+		build(IncrementalProjectBuilder.FULL_BUILD);
+	}
+
+	@Override
+	@After
+	public void tearDown() throws Exception {
+		deleteProject(TESTING_PROJECT_NAME);
+		setInvalidTagSeverity(null);
+		super.tearDown();
+	}
+
+	/**
+	 * Tests that the problems of an unchanged compilation unit are reported
+	 * again by a full build
+	 */
+	@Test
+	public void testReuse() throws Exception {
+		assertEquals(1, getTagProblems(TAGGED_PATH).length);
+		assertEquals(1, getTagMarkerCount(TAGGED_PATH));
+
+		build(IncrementalProjectBuilder.FULL_BUILD);
+		IApiProblem[] problems = getTagProblems(TAGGED_PATH);
+		assertEquals(1, problems.length);
+		assertEquals(IApiProblem.UNSUPPORTED_TAG_USE, problems[0].getKind());
+		assertEquals("the reused problem must be reported", 1, getTagMarkerCount(TAGGED_PATH)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that a changed compilation unit is validated again
+	 */
+	@Test
+	public void testChanged() throws Exception {
+		IFile file = getProject(TESTING_PROJECT_NAME).getFile(TAGGED_PATH);
+		file.setContents(source("Tagged", "@since 1.0"), true, false, new NullProgressMonitor()); //$NON-NLS-1$ //$NON-NLS-2$
+		build(IncrementalProjectBuilder.INCREMENTAL_BUILD);
+		assertEquals("the changed unit must be validated again", 0, getTagProblems(TAGGED_PATH).length); //$NON-NLS-1$
+		assertEquals(0, getTagMarkerCount(TAGGED_PATH));
+
+		file.setContents(source("Tagged", "@noimplement"), true, false, new NullProgressMonitor()); //$NON-NLS-1$ //$NON-NLS-2$
+		build(IncrementalProjectBuilder.FULL_BUILD);
+		assertEquals(1, getTagProblems(TAGGED_PATH).length);
+		assertEquals(1, getTagMarkerCount(TAGGED_PATH));
+	}
+
+	/**
+	 * Tests that the validation of a removed compilation unit is dropped by an
+	 * incremental build
+	 */
+	@Test
+	public void testRemoved() throws Exception {
+		getProject(TESTING_PROJECT_NAME).getFile(TAGGED_PATH).delete(true, new NullProgressMonitor());
+		build(IncrementalProjectBuilder.INCREMENTAL_BUILD);
+		assertNull("the validation of the removed unit must be dropped", getTagProblems(TAGGED_PATH)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the validation of a renamed compilation unit is recorded
+	 * under its new path only
+	 */
+	@Test
+	public void testRenamed() throws Exception {
+		IProject project = getProject(TESTING_PROJECT_NAME);
+		project.getFile(TAGGED_PATH).delete(true, new NullProgressMonitor());
+		project.getFile(RENAMED_PATH).create(source("Renamed", "@noimplement"), true, new NullProgressMonitor()); //$NON-NLS-1$ //$NON-NLS-2$
+		build(IncrementalProjectBuilder.INCREMENTAL_BUILD);
+		assertNull("the validation of the old path must be dropped", getTagProblems(TAGGED_PATH)); //$NON-NLS-1$
+		assertEquals(1, getTagProblems(RENAMED_PATH).length);
+		assertEquals(1, getTagMarkerCount(RENAMED_PATH));
+
+		project.getFile(RENAMED_PATH).move(project.getFile(TAGGED_PATH).getFullPath(), true, new NullProgressMonitor());
+		build(IncrementalProjectBuilder.INCREMENTAL_BUILD);
+		assertNull("the validation of the old path must be dropped", getTagProblems(RENAMED_PATH)); //$NON-NLS-1$
+		assertNotNull(getTagProblems(TAGGED_PATH));
+	}
+
+	private void build(int kind) throws Exception {
+		getProject(TESTING_PROJECT_NAME).build(kind, new NullProgressMonitor());
+	}
+
+	private IApiProblem[] getTagProblems(String path) throws Exception {
+		BuildState state = BuildState.getLastBuiltState(getProject(TESTING_PROJECT_NAME));
+		assertNotNull("the project must have a built state", state); //$NON-NLS-1$
+		// the problems are only exposed to the builder
+		Method method = BuildState.class.getDeclaredMethod("getTagProblems", String.class); //$NON-NLS-1$
+		method.setAccessible(true);
+		return (IApiProblem[]) method.invoke(state, path);
+	}
+
+	private int getTagMarkerCount(String path) throws Exception {
+		IFile file = getProject(TESTING_PROJECT_NAME).getFile(path);
+		return file.findMarkers(IApiMarkerConstants.UNSUPPORTED_TAG_PROBLEM_MARKER, false, IResource.DEPTH_ZERO).length;
+	}
+
+	private static ByteArrayInputStream source(String typeName, String tag) {
+		String source = "package a.b.c;\n" //$NON-NLS-1$
+				+ "/**\n" //$NON-NLS-1$
+				+ " * " + tag + "\n" //$NON-NLS-1$ //$NON-NLS-2$
+				+ " */\n" //$NON-NLS-1$
+				+ "public class " + typeName + " {\n" //$NON-NLS-1$ //$NON-NLS-2$
+				+ "}\n"; //$NON-NLS-1$
+		return new ByteArrayInputStream(source.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static void setInvalidTagSeverity(String severity) throws Exception {
+		IEclipsePreferences node = InstanceScope.INSTANCE.getNode(ApiPlugin.PLUGIN_ID);
+		if (severity == null) {
+			node.remove(IApiProblemTypes.INVALID_JAVADOC_TAG);
+		} else {
+			node.put(IApiProblemTypes.INVALID_JAVADOC_TAG, severity);
+		}
+		node.flush();
+	}
+}
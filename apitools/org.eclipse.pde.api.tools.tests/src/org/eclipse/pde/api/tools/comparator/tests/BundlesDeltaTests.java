@@ -20,6 +20,10 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
 import org.eclipse.pde.api.tools.internal.provisional.comparator.ApiComparator;
@@ -578,4 +582,39 @@ public class BundlesDeltaTests extends DeltaTestSetup {
 		assertNotNull("No delta", delta); //$NON-NLS-1$
 		assertFalse("Equals to NO_DELTA", delta == ApiComparator.NO_DELTA); //$NON-NLS-1$
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Comparing the components concurrently gives the same delta as comparing
+	 * them serially
+	 */
+	@Test
+	public void testParallelComparison() {
+		// several changed bundles so that the parallel run interleaves components
+		int bundles = 4;
+		for (int i = 1; i <= bundles; i++) {
+			deployBundle("test17", BEFORE, BUNDLE_NAME + i); //$NON-NLS-1$
+			deployBundle("test17", AFTER, BUNDLE_NAME + i); //$NON-NLS-1$
+		}
+		IApiBaseline beforeState = getBeforeState();
+		IApiBaseline afterState = getAfterState();
+		IDelta serial = ApiComparator.compare(beforeState, afterState, VisibilityModifiers.ALL_VISIBILITIES, true, 1, null);
+		IDelta parallel = ApiComparator.compare(beforeState, afterState, VisibilityModifiers.ALL_VISIBILITIES, true, 4, null);
+		List<String> serialLeaves = describe(serial);
+		assertEquals("Wrong size", bundles * 4, serialLeaves.size()); //$NON-NLS-1$
+		for (int i = 1; i <= bundles; i++) {
+			String component = BUNDLE_NAME + i;
+			assertTrue("Missing deltas for " + component, //$NON-NLS-1$
+					serialLeaves.stream().anyMatch(leaf -> leaf.startsWith(component + " "))); //$NON-NLS-1$
+		}
+		assertEquals("Serial and parallel deltas must be equal and in the same order", serialLeaves, describe(parallel)); //$NON-NLS-1$
+	}
+
+	private List<String> describe(IDelta delta) {
+		List<String> leaves = new ArrayList<>();
+		for (IDelta leaf : collectLeaves(delta)) {
+			leaves.add(leaf.getComponentId() + " " + leaf.getElementType() + " " + leaf.getKind() + " " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ leaf.getFlags() + " " + leaf.getKey() + " " + Arrays.toString(leaf.getArguments())); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return leaves;
+	}
+}
@@ -19,6 +19,10 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -159,7 +163,8 @@ public abstract class DeltaTestSetup {
 	 *
 	 * @param testName the given test name
 	 * @param name the given state name
-	 * @param bundleName the given bundle name
+	 * @param bundleName the given bundle name, also used as the symbolic name of
+	 *            the deployed bundle
 	 */
 	protected void deployBundle(String testName, String name, String bundleName) {
 		String[] sourceFilePaths = new String[] {
@@ -171,6 +176,21 @@ public abstract class DeltaTestSetup {
 
 		// copy the MANIFEST in the workspace folder
 		copyResources(testName, name, destinationPath.toOSString());
+		if (!BUNDLE_NAME.equals(bundleName)) {
+			renameBundle(destinationPath, bundleName);
+		}
+	}
+
+	private void renameBundle(IPath bundlePath, String bundleName) {
+		Path manifest = bundlePath.append("META-INF").append("MANIFEST.MF").toPath(); //$NON-NLS-1$ //$NON-NLS-2$
+		try {
+			String contents = Files.readString(manifest, StandardCharsets.UTF_8);
+			Files.writeString(manifest, contents.replace("Bundle-SymbolicName: " + BUNDLE_NAME, //$NON-NLS-1$
+					"Bundle-SymbolicName: " + bundleName), StandardCharsets.UTF_8); //$NON-NLS-1$
+		} catch (IOException e) {
+			e.printStackTrace();
+			fail("Should not happen"); //$NON-NLS-1$
+		}
 	}
 
 	protected void deployBundles(String testName) {
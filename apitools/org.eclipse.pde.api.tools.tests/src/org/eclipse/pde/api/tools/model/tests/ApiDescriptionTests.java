@@ -15,13 +15,17 @@ package org.eclipse.pde.api.tools.model.tests;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -32,6 +36,7 @@ import org.eclipse.pde.api.tools.builder.tests.ApiTestingEnvironment;
 import org.eclipse.pde.api.tools.internal.ApiDescription;
 import org.eclipse.pde.api.tools.internal.ApiDescriptionProcessor;
 import org.eclipse.pde.api.tools.internal.ApiDescriptionXmlCreator;
+import org.eclipse.pde.api.tools.internal.BinaryApiDescription;
 import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
 import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
 import org.eclipse.pde.api.tools.internal.provisional.ApiDescriptionVisitor;
@@ -220,6 +225,30 @@ public class ApiDescriptionTests {
 		doVisitTypes(manifest);
 	}
 
+	/**
+	 * Tests visiting and resolving a compacted manifest, and changing it
+	 * afterwards
+	 */
+	@Test
+	public void testCompactManifest() {
+		ApiDescription manifest = (ApiDescription) buildManifest();
+		manifest.compact();
+		doVisitTypes(manifest);
+		IApiAnnotations description = manifest.resolveAnnotations(Factory.typeDescriptor("a.b.c.spi.SpiC")); //$NON-NLS-1$
+		assertEquals("Wrong visibility", VisibilityModifiers.SPI, description.getVisibility()); //$NON-NLS-1$
+		assertEquals("Wrong restrictions", RestrictionModifiers.NO_INSTANTIATE, description.getRestrictions()); //$NON-NLS-1$
+		description = manifest.resolveAnnotations(Factory.fieldDescriptor("a.b.c.internal.PA", "f")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("Wrong visibility", VisibilityModifiers.PRIVATE, description.getVisibility()); //$NON-NLS-1$
+		assertEquals("Wrong restrictions", RestrictionModifiers.NO_RESTRICTIONS, description.getRestrictions()); //$NON-NLS-1$
+		assertNull("The description must be null", manifest.resolveAnnotations(Factory.typeDescriptor("x.y.Z"))); //$NON-NLS-1$ //$NON-NLS-2$
+
+		manifest.setRestrictions(Factory.typeDescriptor("a.b.c.B"), RestrictionModifiers.NO_EXTEND); //$NON-NLS-1$
+		description = manifest.resolveAnnotations(Factory.typeDescriptor("a.b.c.B")); //$NON-NLS-1$
+		assertEquals("Wrong restrictions", RestrictionModifiers.NO_EXTEND, description.getRestrictions()); //$NON-NLS-1$
+		description = manifest.resolveAnnotations(Factory.typeDescriptor("a.b.c.A")); //$NON-NLS-1$
+		assertEquals("Wrong restrictions", RestrictionModifiers.NO_EXTEND | RestrictionModifiers.NO_INSTANTIATE, description.getRestrictions()); //$NON-NLS-1$
+	}
+
 	/**
 	 * Tests restoring API settings from component XML. These settings are not
 	 * quite as rich as we have in the usual baseline (no notion of SPI package,
@@ -384,7 +413,66 @@ public class ApiDescriptionTests {
 		ApiDescriptionProcessor.annotateApiSettings(null, restored, writeXML);
 
 		// compare the original and restore settings
+		assertSameVisit(settings, restored);
+	}
+
+	/**
+	 * Reads XML from disk, annotates settings, then writes and reads back the
+	 * binary form to ensure we read/write equivalent settings.
+	 */
+	@Test
+	public void testPersistRestoreBinary() throws CoreException, IOException {
+		IPath path = TestSuiteHelper.getPluginDirectoryPath();
+		path = path.append("test-xml"); //$NON-NLS-1$
+		File descfile = new File(path.toFile(), IApiCoreConstants.API_DESCRIPTION_XML_NAME);
+		assertTrue("Missing xml file", descfile.exists()); //$NON-NLS-1$
+		String readXML = Files.readString(descfile.toPath(), StandardCharsets.UTF_8);
+		IApiDescription settings = new ApiDescription(null);
+		ApiDescriptionProcessor.annotateApiSettings(null, settings, readXML);
 
+		Path binary = Files.createTempFile("api", IApiCoreConstants.API_DESCRIPTION_BINARY_NAME); //$NON-NLS-1$
+		try {
+			BinaryApiDescription.write(settings, readXML, binary);
+			ApiDescription restored = new ApiDescription(null);
+			BinaryApiDescription.read(restored, Files.readAllBytes(binary), readXML);
+			assertSameVisit(settings, restored);
+		} finally {
+			Files.delete(binary);
+		}
+	}
+
+	/**
+	 * Tests that a binary form written with another XML file is rejected, so
+	 * that a stale binary file does not override a newer XML file.
+	 */
+	@Test
+	public void testStaleBinary() throws CoreException, IOException {
+		IPath path = TestSuiteHelper.getPluginDirectoryPath();
+		path = path.append("test-xml"); //$NON-NLS-1$
+		File descfile = new File(path.toFile(), IApiCoreConstants.API_DESCRIPTION_XML_NAME);
+		String readXML = Files.readString(descfile.toPath(), StandardCharsets.UTF_8);
+		IApiDescription settings = new ApiDescription(null);
+		ApiDescriptionProcessor.annotateApiSettings(null, settings, readXML);
+
+		Path binary = Files.createTempFile("api", IApiCoreConstants.API_DESCRIPTION_BINARY_NAME); //$NON-NLS-1$
+		try {
+			BinaryApiDescription.write(settings, readXML, binary);
+			byte[] content = Files.readAllBytes(binary);
+			// same length, other content
+			String changedXML = readXML.replace("<type name=\"SpiB\" extend", "<type name=\"SpiX\" extend"); //$NON-NLS-1$ //$NON-NLS-2$
+			assertNotEquals(readXML, changedXML);
+			assertThrows(IOException.class, () -> BinaryApiDescription.read(new ApiDescription(null), content, changedXML));
+			assertThrows(IOException.class, () -> BinaryApiDescription.read(new ApiDescription(null), content, readXML + '\n'));
+		} finally {
+			Files.delete(binary);
+		}
+	}
+
+	/**
+	 * Asserts that both descriptions visit the same elements with the same
+	 * annotations in the same order
+	 */
+	private void assertSameVisit(IApiDescription settings, IApiDescription restored) {
 		// build expected visit order from original
 		final List<ElementDescription> visitOrder = new ArrayList<>();
 		ApiDescriptionVisitor visitor = new ApiDescriptionVisitor() {
@@ -13,11 +13,14 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.model.tests;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import org.eclipse.pde.api.tools.internal.StripedLRUCache;
+import org.eclipse.pde.api.tools.internal.StripedLRUCache.Statistics;
 import org.eclipse.pde.api.tools.internal.model.ApiModelCache;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
@@ -160,4 +163,45 @@ public class ApiModelCacheTests {
 		assertTrue("The type 'a.b.c.testee1' should have been removed from the cache", ApiModelCache.getCache().removeElementInfo(element)); //$NON-NLS-1$
 		assertTrue("The cache should be empty", ApiModelCache.getCache().isEmpty()); //$NON-NLS-1$
 	}
+
+	/**
+	 * Tests that each lookup is counted once as a hit or a miss, whatever the
+	 * number of nested caches it goes through
+	 */
+	@Test
+	public void testCacheStatistics() throws Exception {
+		Statistics statistics = ApiModelCache.getCache().getStatistics();
+		cacheType("testtype4"); //$NON-NLS-1$
+		long hits = statistics.getHitCount();
+		long misses = statistics.getMissCount();
+		assertNotNull("The element 'testtype4' should exist in the cache", //$NON-NLS-1$
+				ApiModelCache.getCache().getElementInfo(TEST_BASELINE_ID, TEST_COMP_ID, "testtype4", IApiElement.TYPE)); //$NON-NLS-1$
+		assertEquals("The lookup should have been counted as one hit", hits + 1, statistics.getHitCount()); //$NON-NLS-1$
+		assertEquals("The lookup should not have been counted as a miss", misses, statistics.getMissCount()); //$NON-NLS-1$
+		assertNull("The element 'testtype5' should not exist in the cache", //$NON-NLS-1$
+				ApiModelCache.getCache().getElementInfo(TEST_BASELINE_ID, TEST_COMP_ID, "testtype5", IApiElement.TYPE)); //$NON-NLS-1$
+		assertEquals("The lookup should have been counted as one miss", misses + 1, statistics.getMissCount()); //$NON-NLS-1$
+		assertNull("The element 'testtype5' should not exist in the cache", //$NON-NLS-1$
+				ApiModelCache.getCache().getElementInfo("unknown.baseline", TEST_COMP_ID, "testtype5", IApiElement.TYPE)); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("The lookup should have been counted as one miss", misses + 2, statistics.getMissCount()); //$NON-NLS-1$
+		assertEquals("The misses should not have been counted as hits", hits + 1, statistics.getHitCount()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that a {@link StripedLRUCache} evicts its least recently used
+	 * entries once its maximum weight is exceeded
+	 */
+	@Test
+	public void testWeightBoundedEviction() {
+		StripedLRUCache<String, String> cache = new StripedLRUCache<>(10, String::length, null);
+		cache.put("a", "12345"); //$NON-NLS-1$ //$NON-NLS-2$
+		cache.put("b", "12345"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNotNull("The entry 'a' should exist in the cache", cache.get("a")); //$NON-NLS-1$ //$NON-NLS-2$
+		cache.put("c", "123"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNull("The entry 'b' should have been evicted", cache.get("b")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNotNull("The entry 'a' should exist in the cache", cache.get("a")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNotNull("The entry 'c' should exist in the cache", cache.get("c")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("The cache should have evicted one entry", 1, cache.getStatistics().getEvictionCount()); //$NON-NLS-1$
+		assertEquals("The cache should have a weight of 8", 8, cache.getWeight()); //$NON-NLS-1$
+	}
 }
@@ -14,22 +14,31 @@
 package org.eclipse.pde.api.tools.model.tests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.pde.api.tools.internal.model.ArchiveApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.model.DirectoryApiTypeContainer;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiField;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMethod;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
 import org.junit.Test;
@@ -101,6 +110,96 @@ public class ApiTypeContainerTests {
 		assertTrue("Should be no left over packages", knownNames.isEmpty()); //$NON-NLS-1$
 	}
 
+	/**
+	 * Tests that archives sharing their listing keep working as the other
+	 * containers of the same archive are closed.
+	 */
+	@Test
+	public void testSharedArchiveListing() throws CoreException {
+		IPath path = TestSuiteHelper.getPluginDirectoryPath().append("test-jars").append("sample.jar"); //$NON-NLS-1$ //$NON-NLS-2$
+		IApiTypeContainer first = new ArchiveApiTypeContainer(null, path.toOSString(), true);
+		IApiTypeContainer second = new ArchiveApiTypeContainer(null, path.toOSString(), true);
+		doTestPackageNames(first);
+		doTestPackageNames(second);
+		first.close();
+		assertNotNull("Missing type", second.findTypeRoot("a.b.c.ClassC")); //$NON-NLS-1$ //$NON-NLS-2$
+		second.close();
+		doTestPackageNames(first);
+		assertNotNull("Missing type", first.findTypeRoot("a.b.c.ClassC")); //$NON-NLS-1$ //$NON-NLS-2$
+		first.close();
+	}
+
+	/**
+	 * Tests that the type structures of an archive written to its index when
+	 * the container is closed are read back unchanged by a new container.
+	 */
+	@Test
+	public void testArchiveTypeStructureIndex() throws Exception {
+		IPath path = TestSuiteHelper.getPluginDirectoryPath().append("test-jars").append("sample.jar"); //$NON-NLS-1$ //$NON-NLS-2$
+		Path directory = Files.createTempDirectory("index"); //$NON-NLS-1$
+		Path archive = Files.copy(path.toPath(), directory.resolve("indexed.jar")); //$NON-NLS-1$
+		File indexDirectory = ApiPlugin.getDefault().getStateLocation().append(".type_structures").toFile(); //$NON-NLS-1$
+		try {
+			ArchiveApiTypeContainer container = new ArchiveApiTypeContainer(null, archive.toString());
+			Map<String, String> built = describeTypes(container);
+			assertEquals("Wrong number of types", 8, built.size()); //$NON-NLS-1$
+			container.close();
+
+			File[] indexes = indexDirectory.listFiles((dir, name) -> name.startsWith("indexed.jar_")); //$NON-NLS-1$
+			assertNotNull("Missing index", indexes); //$NON-NLS-1$
+			assertEquals("Missing index", 1, indexes.length); //$NON-NLS-1$
+
+			container = new ArchiveApiTypeContainer(null, archive.toString());
+			assertEquals("Index changed the type structures", built, describeTypes(container)); //$NON-NLS-1$
+			container.close();
+		} finally {
+			Files.deleteIfExists(archive);
+			Files.deleteIfExists(directory);
+			File[] indexes = indexDirectory.listFiles((dir, name) -> name.startsWith("indexed.jar_")); //$NON-NLS-1$
+			if (indexes != null) {
+				// an index that is still mapped is pruned later on Windows
+				for (File index : indexes) {
+					index.delete();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns a description of the structures of all the types of the given
+	 * container, keyed by type name.
+	 */
+	private Map<String, String> describeTypes(IApiTypeContainer container) throws CoreException {
+		Map<String, String> types = new TreeMap<>();
+		container.accept(new ApiTypeContainerVisitor() {
+			@Override
+			public void visit(String packageName, IApiTypeRoot typeRoot) {
+				try {
+					IApiType type = typeRoot.getStructure();
+					StringBuilder buffer = new StringBuilder();
+					buffer.append(type.getSignature()).append(' ').append(type.getGenericSignature());
+					buffer.append(' ').append(type.getModifiers()).append(' ').append(type.getSuperclassName());
+					buffer.append(' ').append(Arrays.toString(type.getSuperInterfaceNames()));
+					buffer.append(' ').append(type.isMemberType()).append(' ').append(type.isAnonymous());
+					buffer.append(' ').append(type.isLocal()).append(' ').append(type.getSimpleName());
+					for (IApiField field : type.getFields()) {
+						buffer.append("\n").append(field.getName()).append(' ').append(field.getSignature()); //$NON-NLS-1$
+						buffer.append(' ').append(field.getModifiers()).append(' ').append(field.getConstantValue());
+					}
+					for (IApiMethod method : type.getMethods()) {
+						buffer.append("\n").append(method.getName()).append(' ').append(method.getSignature()); //$NON-NLS-1$
+						buffer.append(' ').append(method.getModifiers());
+						buffer.append(' ').append(Arrays.toString(method.getExceptionNames()));
+					}
+					types.put(type.getName(), buffer.toString());
+				} catch (CoreException e) {
+					fail(e.getMessage());
+				}
+			}
+		});
+		return types;
+	}
+
 	/**
 	 * Tests visiting packages in an archive.
 	 */
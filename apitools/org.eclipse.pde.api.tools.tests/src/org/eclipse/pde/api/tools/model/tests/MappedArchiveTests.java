@@ -0,0 +1,244 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import org.eclipse.pde.api.tools.internal.model.MappedArchive;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests that a {@link MappedArchive} reads the same content as a
+ * {@link ZipFile}, and fails with an {@link IOException} for the archives and
+ * entries it does not support.
+ */
+public class MappedArchiveTests {
+
+	private static final int LOCAL_HEADER_SIZE = 30;
+	private static final int END_SIGNATURE = 0x06054b50;
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * Tests reading stored and deflated entries, including empty entries and
+	 * an entry larger than the buffers of the inflater
+	 */
+	@Test
+	public void testStoredAndDeflated() throws Exception {
+		Path archive = folder.newFile("mixed.jar").toPath(); //$NON-NLS-1$
+		try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(archive))) {
+			writeStored(zip, "a/Stored.class", content(100)); //$NON-NLS-1$
+			writeStored(zip, "a/EmptyStored.class", new byte[0]); //$NON-NLS-1$
+			writeDeflated(zip, "a/Deflated.class", content(100)); //$NON-NLS-1$
+			writeDeflated(zip, "a/EmptyDeflated.class", new byte[0]); //$NON-NLS-1$
+			writeDeflated(zip, "b/Large.class", content(1_000_000)); //$NON-NLS-1$
+		}
+		assertSameContent(archive);
+		MappedArchive mapped = new MappedArchive(archive);
+		assertEquals(List.of("a/Stored.class", "a/EmptyStored.class", "a/Deflated.class", "a/EmptyDeflated.class", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+				"b/Large.class"), new ArrayList<>(mapped.getEntryNames())); //$NON-NLS-1$
+		assertNull(mapped.read("a/Missing.class")); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests reading deflated entries whose sizes are only known from the data
+	 * descriptor following their data and from the central directory
+	 */
+	@Test
+	public void testDataDescriptor() throws Exception {
+		Path archive = folder.newFile("descriptor.jar").toPath(); //$NON-NLS-1$
+		try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(archive))) {
+			writeDeflated(zip, "First.class", content(5_000)); //$NON-NLS-1$
+			writeDeflated(zip, "Second.class", content(7_000)); //$NON-NLS-1$
+		}
+		ByteBuffer buffer = readBuffer(archive);
+		assertNotEquals("the entry must have a data descriptor", 0, buffer.getShort(6) & 8); //$NON-NLS-1$
+		assertEquals("the local header must not have the sizes", 0, buffer.getInt(18)); //$NON-NLS-1$
+		assertSameContent(archive);
+	}
+
+	/**
+	 * Tests that Zip64 archives fail to open
+	 */
+	@Test
+	public void testZip64() throws Exception {
+		Path archive = folder.newFile("zip64.jar").toPath(); //$NON-NLS-1$
+		// more entries than the end of central directory record can count
+		try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(archive))) {
+			for (int i = 0; i < 0x10000; i++) {
+				writeStored(zip, "e" + i, new byte[0]); //$NON-NLS-1$
+			}
+		}
+		assertThrows(IOException.class, () -> new MappedArchive(archive));
+	}
+
+	/**
+	 * Tests that truncated archives fail to open, or fail to read the truncated
+	 * entry
+	 */
+	@Test
+	public void testTruncated() throws Exception {
+		Path archive = folder.newFile("truncated.jar").toPath(); //$NON-NLS-1$
+		try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(archive))) {
+			writeDeflated(zip, "First.class", content(5_000)); //$NON-NLS-1$
+		}
+		byte[] bytes = Files.readAllBytes(archive);
+
+		// the end of the central directory is missing
+		Path noEnd = folder.newFile("noEnd.jar").toPath(); //$NON-NLS-1$
+		Files.write(noEnd, Arrays.copyOf(bytes, bytes.length - 10));
+		assertThrows(IOException.class, () -> new MappedArchive(noEnd));
+
+		// the central directory is beyond the end of the archive
+		Path noDirectory = folder.newFile("noDirectory.jar").toPath(); //$NON-NLS-1$
+		byte[] copy = bytes.clone();
+		ByteBuffer.wrap(copy).order(ByteOrder.LITTLE_ENDIAN).putInt(findEnd(copy) + 16, copy.length + 100);
+		Files.write(noDirectory, copy);
+		assertThrows(IOException.class, () -> new MappedArchive(noDirectory));
+
+		// the entry is larger than the archive
+		Path tooLarge = folder.newFile("tooLarge.jar").toPath(); //$NON-NLS-1$
+		copy = bytes.clone();
+		ByteBuffer buffer = ByteBuffer.wrap(copy).order(ByteOrder.LITTLE_ENDIAN);
+		int directory = buffer.getInt(findEnd(copy) + 16);
+		buffer.putInt(directory + 20, copy.length * 2);
+		Files.write(tooLarge, copy);
+		MappedArchive mapped = new MappedArchive(tooLarge);
+		assertThrows(IOException.class, () -> mapped.read("First.class")); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that corrupt entries fail to read
+	 */
+	@Test
+	public void testCorrupt() throws Exception {
+		Path archive = folder.newFile("corrupt.jar").toPath(); //$NON-NLS-1$
+		try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(archive))) {
+			writeDeflated(zip, "First.class", content(5_000)); //$NON-NLS-1$
+		}
+		byte[] bytes = Files.readAllBytes(archive);
+		ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+		int dataStart = LOCAL_HEADER_SIZE + Short.toUnsignedInt(buffer.getShort(26)) + Short.toUnsignedInt(buffer.getShort(28));
+
+		// a deflate block of the reserved type
+		Path corruptData = folder.newFile("corruptData.jar").toPath(); //$NON-NLS-1$
+		byte[] copy = bytes.clone();
+		copy[dataStart] = (byte) 0xFF;
+		Files.write(corruptData, copy);
+		MappedArchive mapped = new MappedArchive(corruptData);
+		assertThrows(IOException.class, () -> mapped.read("First.class")); //$NON-NLS-1$
+
+		// no local header at the offset of the entry
+		Path corruptHeader = folder.newFile("corruptHeader.jar").toPath(); //$NON-NLS-1$
+		copy = bytes.clone();
+		copy[0] = 0;
+		Files.write(corruptHeader, copy);
+		MappedArchive mappedHeader = new MappedArchive(corruptHeader);
+		assertThrows(IOException.class, () -> mappedHeader.read("First.class")); //$NON-NLS-1$
+
+		// not an archive at all
+		Path notAnArchive = folder.newFile("notAnArchive.jar").toPath(); //$NON-NLS-1$
+		Files.write(notAnArchive, content(100));
+		assertThrows(IOException.class, () -> new MappedArchive(notAnArchive));
+	}
+
+	private static void assertSameContent(Path archive) throws IOException {
+		MappedArchive mapped = new MappedArchive(archive);
+		try (ZipFile zip = new ZipFile(archive.toFile())) {
+			List<String> names = new ArrayList<>();
+			for (Enumeration<? extends ZipEntry> entries = zip.entries(); entries.hasMoreElements();) {
+				ZipEntry entry = entries.nextElement();
+				names.add(entry.getName());
+				try (InputStream stream = zip.getInputStream(entry)) {
+					assertArrayEquals(entry.getName(), stream.readAllBytes(), mapped.read(entry.getName()));
+				}
+			}
+			assertEquals(names, new ArrayList<>(mapped.getEntryNames()));
+		}
+	}
+
+	private static void writeStored(ZipOutputStream zip, String name, byte[] content) throws IOException {
+		ZipEntry entry = new ZipEntry(name);
+		entry.setMethod(ZipEntry.STORED);
+		entry.setSize(content.length);
+		entry.setCompressedSize(content.length);
+		CRC32 crc = new CRC32();
+		crc.update(content);
+		entry.setCrc(crc.getValue());
+		zip.putNextEntry(entry);
+		zip.write(content);
+		zip.closeEntry();
+	}
+
+	private static void writeDeflated(ZipOutputStream zip, String name, byte[] content) throws IOException {
+		zip.putNextEntry(new ZipEntry(name));
+		zip.write(content);
+		zip.closeEntry();
+	}
+
+	/**
+	 * Returns content that compresses, but not to nothing
+	 */
+	private static byte[] content(int size) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(size);
+		List<Integer> values = new ArrayList<>();
+		for (int i = 0; i < 251; i++) {
+			values.add(i);
+		}
+		Collections.shuffle(values, new Random(size));
+		for (int i = 0; i < size; i++) {
+			bytes.write(values.get(i % values.size()) ^ (i / 997));
+		}
+		return bytes.toByteArray();
+	}
+
+	private static int findEnd(byte[] bytes) {
+		ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+		for (int position = bytes.length - 22; position >= 0; position--) {
+			if (buffer.getInt(position) == END_SIGNATURE) {
+				return position;
+			}
+		}
+		throw new AssertionError("no end of central directory"); //$NON-NLS-1$
+	}
+
+	private static ByteBuffer readBuffer(Path archive) throws IOException {
+		return ByteBuffer.wrap(Files.readAllBytes(archive)).order(ByteOrder.LITTLE_ENDIAN);
+	}
+}
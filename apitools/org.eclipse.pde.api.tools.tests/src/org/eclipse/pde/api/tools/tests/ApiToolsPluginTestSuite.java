@@ -15,9 +15,13 @@
 package org.eclipse.pde.api.tools.tests;
 
 import org.eclipse.pde.api.tools.anttasks.tests.ApiToolsAntTasksTestSuite;
+import org.eclipse.pde.api.tools.applications.ApiAnalysisApplicationDaemonTest;
+import org.eclipse.pde.api.tools.applications.ApiAnalysisApplicationRequestTest;
 import org.eclipse.pde.api.tools.applications.BundleJarFilesTest;
 import org.eclipse.pde.api.tools.builder.tests.ApiBuilderTest;
 import org.eclipse.pde.api.tools.builder.tests.ApiTestingEnvironment;
+import org.eclipse.pde.api.tools.builder.tests.BuildPathChangeTests;
+import org.eclipse.pde.api.tools.builder.tests.TagValidationStateTests;
 import org.eclipse.pde.api.tools.model.tests.ApiFilterStoreTests;
 import org.eclipse.pde.api.tools.model.tests.FilterStoreTests;
 import org.eclipse.pde.api.tools.problems.tests.ApiProblemTests;
@@ -41,7 +45,8 @@ import org.junit.runners.Suite;
 		ProjectCreationTests.class, ApiDescriptionProcessorTests.class, PreferencesTests.class,
 		ApiBaselineManagerTests.class, ApiFilterStoreTests.class, FilterStoreTests.class, ApiProblemTests.class,
 		TargetAsBaselineTests.class, ApiBuilderTest.class, ApiToolsAntTasksTestSuite.class,
-		BundleJarFilesTest.class
+		BundleJarFilesTest.class, ApiAnalysisApplicationRequestTest.class, ApiAnalysisApplicationDaemonTest.class,
+		BuildPathChangeTests.class, TagValidationStateTests.class
 })
 public class ApiToolsPluginTestSuite {
 
@@ -26,6 +26,7 @@ import org.eclipse.pde.api.tools.model.tests.ClassFileScannerTests;
 import org.eclipse.pde.api.tools.model.tests.ComponentManifestTests;
 import org.eclipse.pde.api.tools.model.tests.ElementDescriptorTests;
 import org.eclipse.pde.api.tools.model.tests.Java8ClassfileScannerTests;
+import org.eclipse.pde.api.tools.model.tests.MappedArchiveTests;
 import org.eclipse.pde.api.tools.model.tests.TagScannerTests;
 import org.eclipse.pde.api.tools.problems.tests.ApiFilterTests;
 import org.eclipse.pde.api.tools.problems.tests.ApiProblemFactoryTests;
@@ -63,7 +64,7 @@ import org.junit.runners.Suite;
 		Java8ClassfileScannerTests.class, ElementDescriptorTests.class, SearchScopeTests.class, ApiProblemTests.class,
 		ApiProblemFactoryTests.class, ApiFilterTests.class, TarEntryTests.class, TarExceptionTests.class,
 		OSGiLessAnalysisTests.class, ApiModelCacheTests.class, BadClassfileTests.class,
-	CRCTests.class,
+	CRCTests.class, MappedArchiveTests.class,
 	AllDeltaTests.class
 })
 public class ApiToolsTestSuite {
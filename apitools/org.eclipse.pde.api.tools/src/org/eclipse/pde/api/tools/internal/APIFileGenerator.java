@@ -22,6 +22,7 @@ import java.io.InputStream;
 import java.io.PrintWriter;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -112,6 +113,13 @@ public class APIFileGenerator {
 	public String sourceLocations;
 	public boolean allowNonApiProject = false;
 	public String encoding;
+	/**
+	 * Whether the binary form of the API description is written next to the
+	 * XML file
+	 *
+	 * @since 1.3.600
+	 */
+	public boolean binaryApiDescription = false;
 
 	public void generateAPIFile() {
 		if (this.binaryLocations == null || this.projectName == null || this.projectLocation == null || this.targetFolder == null) {
@@ -275,7 +283,17 @@ public class APIFileGenerator {
 			ApiDescriptionXmlCreator xmlVisitor = new ApiDescriptionXmlCreator(this.projectName, this.projectName);
 			apiDescription.accept(xmlVisitor, null);
 			Document xml = xmlVisitor.getXML();
-			Util.writeDocumentToFile(xml, apiDescriptionFile);
+			Path binaryFile = projectFolder.resolve(IApiCoreConstants.API_DESCRIPTION_BINARY_NAME);
+			if (this.binaryApiDescription) {
+				String contents = Util.serializeDocument(xml);
+				Files.createDirectories(projectFolder);
+				Files.writeString(apiDescriptionFile, contents, StandardCharsets.UTF_8);
+				BinaryApiDescription.write(apiDescription, contents, binaryFile);
+			} else {
+				Util.writeDocumentToFile(xml, apiDescriptionFile);
+				// a binary file of a previous generation would be stale
+				Files.deleteIfExists(binaryFile);
+			}
 		} catch (CoreException | IOException e) {
 			ApiPlugin.log(e);
 		}
@@ -13,12 +13,17 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal;
 
+import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -60,12 +65,13 @@ import org.osgi.framework.Bundle;
 
 public class ApiAnalysisApplication implements IApplication {
 
-	private static class Request {
+	public static final class Request {
 		private static final String FAIL_ON_ERROR_ARG = "failOnError"; //$NON-NLS-1$
 		private static final String PROJECT_ARG = "project"; //$NON-NLS-1$
 		private static final String BASELINE_ARG = "baseline"; //$NON-NLS-1$
 		private static final String BASELINE_DEFAULT_VALUE = "default"; //$NON-NLS-1$
 		private static final String DEPENDENCY_LIST_ARG = "dependencyList"; //$NON-NLS-1$
+		private static final String DAEMON_ARG = "daemon"; //$NON-NLS-1$
 
 		private Request() {
 		}
@@ -74,15 +80,19 @@ public class ApiAnalysisApplication implements IApplication {
 			Request res = new Request();
 			String currentKey = null;
 			for (String param : params) {
-				if (param.charAt(0) == '-') {
+				if (!param.isEmpty() && param.charAt(0) == '-') {
 					if (FAIL_ON_ERROR_ARG.equals(currentKey)) {
 						res.failOnError = true;
 					}
 					currentKey = param.substring(1);
+					if (DAEMON_ARG.equals(currentKey)) {
+						res.daemon = true;
+					}
 				} else if (PROJECT_ARG.equals(currentKey)) {
 					res.project = new File(param);
-				} else if (BASELINE_ARG.equals(currentKey) && !BASELINE_DEFAULT_VALUE.equals(param)) {
-					res.baselinePath = new File(param);
+				} else if (BASELINE_ARG.equals(currentKey)) {
+					res.baselineGiven = true;
+					res.baselinePath = BASELINE_DEFAULT_VALUE.equals(param) ? null : new File(param);
 				} else if (FAIL_ON_ERROR_ARG.equals(currentKey)) {
 					res.failOnError = Boolean.parseBoolean(param);
 				} else if (DEPENDENCY_LIST_ARG.equals(currentKey)) {
@@ -97,41 +107,222 @@ public class ApiAnalysisApplication implements IApplication {
 
 		public File project;
 		public File baselinePath;
+		/**
+		 * Whether the baseline is given, a <code>null</code>
+		 * {@link #baselinePath} then stands for the running platform
+		 */
+		public boolean baselineGiven;
 		public boolean failOnError;
 		public File tpFile;
+		public boolean daemon;
+
+		/**
+		 * Splits a request line of the daemon mode into arguments. Arguments
+		 * are separated by white spaces and can be enclosed in double quotes.
+		 */
+		public static String[] split(String line) {
+			List<String> args = new ArrayList<>();
+			StringBuilder current = new StringBuilder();
+			boolean quoted = false;
+			boolean inArg = false;
+			for (int i = 0; i < line.length(); i++) {
+				char c = line.charAt(i);
+				if (c == '"') {
+					quoted = !quoted;
+					inArg = true;
+				} else if (Character.isWhitespace(c) && !quoted) {
+					if (inArg) {
+						args.add(current.toString());
+						current.setLength(0);
+						inArg = false;
+					}
+				} else {
+					current.append(c);
+					inArg = true;
+				}
+			}
+			if (inArg) {
+				args.add(current.toString());
+			}
+			return args.toArray(String[]::new);
+		}
 	}
 
+	/**
+	 * Line printed on the standard output after each analysis in daemon mode,
+	 * followed by the exit code of the analysis
+	 */
+	public static final String DAEMON_RESULT = "API analysis result: "; //$NON-NLS-1$
+
+	/**
+	 * Line ending the daemon mode when read from the standard input
+	 */
+	private static final String DAEMON_EXIT = "exit"; //$NON-NLS-1$
+
 	private ICoreRunnable restoreOriginalProjectState = null;
 
+	/**
+	 * The baseline and dependency list currently set, reused by the requests
+	 * of the daemon mode that ask for the same ones
+	 */
+	private IApiBaseline currentBaseline = null;
+	private File currentBaselinePath = null;
+	private File currentTpFile = null;
+	/**
+	 * Size and time stamp of {@link #currentTpFile} when it was read, so that
+	 * a dependency list rewritten at the same path is read again
+	 */
+	private long currentTpFileLength = -1L;
+	private long currentTpFileLastModified = -1L;
+
 	@Override
 	public Object start(IApplicationContext context) throws Exception {
+		IWorkspaceDescription desc = ResourcesPlugin.getWorkspace().getDescription();
+		desc.setAutoBuilding(false);
+		ResourcesPlugin.getWorkspace().setDescription(desc);
+		PDECore.getDefault().getPreferencesManager().setValue(ICoreConstants.DISABLE_API_ANALYSIS_BUILDER, false);
+		PDECore.getDefault().getPreferencesManager().setValue(ICoreConstants.RUN_API_ANALYSIS_AS_JOB, false);
+
+		Request args = Request
+				.readFromArgs((String[]) context.getArguments().get(IApplicationContext.APPLICATION_ARGS));
+		if (args.daemon) {
+			return serve(args);
+		}
+		return analyze(args);
+	}
+
+	/**
+	 * Runs the daemon mode: the baseline and target platform given on the
+	 * command line are set up once and the project given on the command line,
+	 * if any, is analyzed. Then each line read from the standard
+	 * input is handled as the arguments of an analysis. The baseline and the
+	 * dependency list are only set up again when a request changes them, a
+	 * request without a baseline keeps the current one and a request with
+	 * <code>-baseline default</code> uses the running platform.
+	 * After each analysis a line starting with {@link #DAEMON_RESULT} and
+	 * giving its exit code is printed. The daemon stops at the end of the
+	 * input or on an {@link #DAEMON_EXIT} line, and then removes the baseline
+	 * it set.
+	 *
+	 * @param args the request given on the command line
+	 * @return the exit code of the daemon
+	 */
+	public Object serve(Request args) throws Exception {
+		try {
+			return doServe(args);
+		} finally {
+			disposeBaseline();
+		}
+	}
+
+	private Object doServe(Request args) throws Exception {
+		try {
+			if (prepare(args) == null) {
+				return IStatus.ERROR;
+			}
+		} catch (CoreException e) {
+			System.err.println(e.getStatus());
+			return IStatus.ERROR;
+		} catch (Exception e) {
+			e.printStackTrace();
+			return IStatus.ERROR;
+		}
+		if (args.project != null) {
+			System.out.println(DAEMON_RESULT + analyze(args));
+			System.out.flush();
+		}
+		BufferedReader reader = new BufferedReader(new InputStreamReader(System.in, Charset.defaultCharset()));
+		String line;
+		while ((line = reader.readLine()) != null) {
+			line = line.trim();
+			if (line.isEmpty()) {
+				continue;
+			}
+			if (DAEMON_EXIT.equals(line)) {
+				break;
+			}
+			Request request = Request.readFromArgs(Request.split(line));
+			if (!request.baselineGiven) {
+				request.baselinePath = currentBaselinePath;
+			}
+			if (request.tpFile == null) {
+				request.tpFile = currentTpFile;
+			}
+			Object result = analyze(request);
+			System.out.println(DAEMON_RESULT + result);
+			System.out.flush();
+			System.err.flush();
+		}
+		return IStatus.OK;
+	}
+
+	/**
+	 * Sets the baseline and target platform of the given request, unless they
+	 * are already set.
+	 *
+	 * @return the baseline or <code>null</code> if it cannot be set
+	 */
+	private IApiBaseline prepare(Request args) throws CoreException, IOException, InterruptedException {
+		if (currentBaseline == null || !Objects.equals(args.baselinePath, currentBaselinePath)) {
+			disposeBaseline();
+			currentBaseline = setBaseline(args.baselinePath);
+			if (currentBaseline == null) {
+				System.err.println("Baseline shouldn't be null."); //$NON-NLS-1$
+				return null;
+			}
+			currentBaselinePath = args.baselinePath;
+		}
+		if (args.tpFile != null && (!Objects.equals(args.tpFile, currentTpFile)
+				|| args.tpFile.length() != currentTpFileLength || args.tpFile.lastModified() != currentTpFileLastModified)) {
+			long length = args.tpFile.length();
+			long lastModified = args.tpFile.lastModified();
+			setTargetPlatform(args.tpFile);
+			currentTpFile = args.tpFile;
+			currentTpFileLength = length;
+			currentTpFileLastModified = lastModified;
+		}
+		return currentBaseline;
+	}
+
+	/**
+	 * Removes the current baseline from the baseline manager, which disposes
+	 * it, so that the daemon does not keep every baseline it switched to
+	 */
+	private void disposeBaseline() {
+		if (currentBaseline != null) {
+			ApiBaselineManager.getManager().removeApiBaseline(currentBaseline.getName());
+			currentBaseline = null;
+			currentBaselinePath = null;
+		}
+	}
+
+	/**
+	 * Runs the analysis of the project of the given request and prints the
+	 * problems found.
+	 *
+	 * @return the exit code of the analysis
+	 */
+	private Object analyze(Request args) throws CoreException {
 		restoreOriginalProjectState = null;
 		try {
-			IWorkspaceDescription desc = ResourcesPlugin.getWorkspace().getDescription();
-			desc.setAutoBuilding(false);
-			ResourcesPlugin.getWorkspace().setDescription(desc);
-			PDECore.getDefault().getPreferencesManager().setValue(ICoreConstants.DISABLE_API_ANALYSIS_BUILDER, false);
-			PDECore.getDefault().getPreferencesManager().setValue(ICoreConstants.RUN_API_ANALYSIS_AS_JOB, false);
-
-			Request args = Request
-					.readFromArgs((String[]) context.getArguments().get(IApplicationContext.APPLICATION_ARGS));
+			if (args.project == null) {
+				System.err.println("No project given."); //$NON-NLS-1$
+				return IStatus.ERROR;
+			}
 			IProject project = importProject(args.project);
 			if (project == null) {
 				System.err.println("Project not loaded."); //$NON-NLS-1$
 				return IStatus.ERROR;
 			}
-			IApiBaseline baseline = setBaseline(args.baselinePath);
-			if (baseline == null) {
-				System.err.println("Baseline shouldn't be null."); //$NON-NLS-1$
+			if (prepare(args) == null) {
 				return IStatus.ERROR;
 			}
-			setTargetPlatform(args.tpFile);
 
 			project.build(IncrementalProjectBuilder.FULL_BUILD, new NullProgressMonitor());
 			// wait untill all jobs has finished that might be sceduled as part of the
 			// build...
 			while (!Job.getJobManager().isIdle()) {
-				Thread.yield();
+				Thread.sleep(10);
 			}
 			IMarker[] allProblemMarkers = project.findMarkers(IMarker.PROBLEM, true, IResource.DEPTH_INFINITE);
 			Predicate<IMarker> isAPIMarker = marker -> {
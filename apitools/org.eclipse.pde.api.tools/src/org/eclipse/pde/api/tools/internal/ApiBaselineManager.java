@@ -427,23 +427,19 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 				}
 				// un-pooled components
 				NodeList children = root.getElementsByTagName(IApiXmlConstants.ELEMENT_APICOMPONENT);
-				List<IApiComponent> components = new ArrayList<>();
+				List<String> locations = new ArrayList<>();
 				for (int j = 0; j < children.getLength(); j++) {
 					Element componentNode = (Element) children.item(j);
 					// this also contains components in pools, so don't process
 					// them
 					if (componentNode.getParentNode().equals(root)) {
 						String location = componentNode.getAttribute(IApiXmlConstants.ATTR_LOCATION);
-						IApiComponent component = ApiModelFactory.newApiComponent(baseline, IPath.fromPortableString(location).toOSString());
-						if (component != null) {
-							components.add(component);
-						}
+						locations.add(IPath.fromPortableString(location).toOSString());
 					}
 				}
 				// pooled components - only for xml file with version <= 1
 				// since version 2, pools have been removed
 				children = root.getElementsByTagName(IApiXmlConstants.ELEMENT_POOL);
-				IApiComponent component = null;
 				for (int j = 0; j < children.getLength(); j++) {
 					String location = ((Element) children.item(j)).getAttribute(IApiXmlConstants.ATTR_LOCATION);
 					IPath poolPath = IPath.fromPortableString(location);
@@ -461,13 +457,12 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 							name.append(".jar"); //$NON-NLS-1$
 							file = poolPath.append(name.toString()).toFile();
 						}
-						component = ApiModelFactory.newApiComponent(baseline, file.getAbsolutePath());
-						if (component != null) {
-							components.add(component);
-						}
+						locations.add(file.getAbsolutePath());
 					}
 				}
-				restored = components.toArray(new IApiComponent[components.size()]);
+				// manifests are loaded concurrently, the components are added
+				// to the baseline state later on
+				restored = ApiModelFactory.newApiComponents(baseline, locations);
 				// Avoid unstable bundle traversal order to simplify our life
 				Arrays.sort(restored, (o1, o2) -> o1.getName().compareTo(o2.getName()));
 			}
@@ -263,6 +263,13 @@ public class ApiDescription implements IApiDescription {
 
 	private float fEmbeddedVersion = 0.0f;
 
+	/**
+	 * Compact form of the manifest node tree once {@link #compact()} has been
+	 * called, or <code>null</code> while the nodes are held in
+	 * {@link #fPackageMap}
+	 */
+	private volatile CompactManifest fCompact = null;
+
 	/**
 	 * Constructs an API description owned by the specified component.
 	 *
@@ -275,9 +282,43 @@ public class ApiDescription implements IApiDescription {
 
 	@Override
 	public void accept(ApiDescriptionVisitor visitor, IProgressMonitor monitor) {
+		CompactManifest compact = fCompact;
+		if (compact != null) {
+			compact.accept(visitor, monitor);
+			return;
+		}
 		visitChildren(visitor, fPackageMap, monitor);
 	}
 
+	/**
+	 * Replaces the manifest node tree of this description with an immutable
+	 * compact form that needs a fraction of the memory of the node maps and
+	 * can be read concurrently. Meant for descriptions that are not changed
+	 * anymore once loaded, such as the ones of baseline components. Changing
+	 * the description afterwards restores the node tree first.
+	 * <p>
+	 * Has no effect on subclasses that create or refresh nodes while
+	 * resolving.
+	 * </p>
+	 *
+	 * @since 1.3.600
+	 */
+	public void compact() {
+		if (getClass() != ApiDescription.class || fCompact != null) {
+			return;
+		}
+		if (ApiPlugin.DEBUG_API_DESCRIPTION) {
+			System.out.println("Compacting API description for component: " + fOwningComponentId); //$NON-NLS-1$
+		}
+		if (!fPackageMap.isEmpty()) {
+			fCompact = CompactManifest.build(fPackageMap);
+			fPackageMap = new LinkedHashMap<>();
+		}
+		if (fAccessMap != null && fAccessMap.isEmpty()) {
+			fAccessMap = null;
+		}
+	}
+
 	/**
 	 * Visits all children nodes in the given children map.
 	 *
@@ -297,6 +338,10 @@ public class ApiDescription implements IApiDescription {
 
 	@Override
 	public boolean accept(ApiDescriptionVisitor visitor, IElementDescriptor element, IProgressMonitor monitor) {
+		CompactManifest compact = fCompact;
+		if (compact != null) {
+			return compact.accept(visitor, element);
+		}
 		ManifestNode node = findNode(element, false);
 		if (node != null) {
 			visitNode(visitor, node);
@@ -387,6 +432,12 @@ public class ApiDescription implements IApiDescription {
 			buffer.append(element);
 			System.out.println(buffer.toString());
 		}
+		CompactManifest compact = fCompact;
+		if (compact != null) {
+			// the node tree is needed again
+			compact.inflate(fPackageMap);
+			fCompact = null;
+		}
 		IElementDescriptor[] path = element.getPath();
 		Map<IElementDescriptor, ManifestNode> map = fPackageMap;
 		ManifestNode parentNode = null;
@@ -432,6 +483,10 @@ public class ApiDescription implements IApiDescription {
 
 	@Override
 	public IApiAnnotations resolveAnnotations(IElementDescriptor element) {
+		CompactManifest compact = fCompact;
+		if (compact != null) {
+			return compact.resolveAnnotations(element);
+		}
 		ManifestNode node = findNode(element, false);
 		if (node != null) {
 			return resolveAnnotations(node, element);
@@ -499,6 +554,7 @@ public class ApiDescription implements IApiDescription {
 			}
 			fPackageMap.clear();
 		}
+		fCompact = null;
 	}
 
 	/**
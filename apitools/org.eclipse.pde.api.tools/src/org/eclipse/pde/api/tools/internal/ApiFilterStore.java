@@ -89,6 +89,20 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	boolean fTriggeredChange = false;
 	Map<IResource, Map<String, Set<IApiProblemFilter>>> fFilterMap;
 
+	/**
+	 * Immutable index of the filters by resource, problem id and type name,
+	 * rebuilt on the next lookup after the filters change. Lookups read it
+	 * without locking.
+	 */
+	private volatile Map<IResource, Map<FilterKey, IApiProblemFilter[]>> fFilterIndex = null;
+
+	/**
+	 * Key of the filters that can match a problem of a resource, a filter only
+	 * matches problems with the same id and type name
+	 */
+	private record FilterKey(int id, String typeName) {
+	}
+
 	/**
 	 * Constructor
 	 *
@@ -208,6 +222,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			}
 			fNeedsSaving |= pfilters.add(filter);
 		}
+		fFilterIndex = null;
 		persistApiFilters();
 	}
 
@@ -241,8 +256,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	}
 
 	@Override
-	public synchronized boolean isFiltered(IApiProblem problem) {
-		initializeApiFilters();
+	public boolean isFiltered(IApiProblem problem) {
 		String resourcePath = problem.getResourcePath();
 		if (resourcePath == null) {
 			return false;
@@ -254,20 +268,23 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			}
 			return false;
 		}
-		IApiProblemFilter[] filters = this.getFilters(resource);
-		if (filters == null) {
+		Map<FilterKey, IApiProblemFilter[]> resourceFilters = getFilterIndex().get(resource);
+		if (resourceFilters == null) {
 			if (ApiPlugin.DEBUG_FILTER_STORE) {
 				System.out.println("no filters defined for [" + resourcePath + "] return not filtered"); //$NON-NLS-1$ //$NON-NLS-2$
 			}
 			return false;
 		}
-		for (IApiProblemFilter filter : filters) {
-			if (problemsMatch(filter.getUnderlyingProblem(), problem)) {
-				if (ApiPlugin.DEBUG_FILTER_STORE) {
-					System.out.println("recording filter used: [" + filter.toString() + "]"); //$NON-NLS-1$ //$NON-NLS-2$
+		IApiProblemFilter[] filters = resourceFilters.get(new FilterKey(problem.getId(), problem.getTypeName()));
+		if (filters != null) {
+			for (IApiProblemFilter filter : filters) {
+				if (problemsMatch(filter.getUnderlyingProblem(), problem)) {
+					if (ApiPlugin.DEBUG_FILTER_STORE) {
+						System.out.println("recording filter used: [" + filter.toString() + "]"); //$NON-NLS-1$ //$NON-NLS-2$
+					}
+					recordFilterUsed(resource, filter);
+					return true;
 				}
-				recordFilterUsed(resource, filter);
-				return true;
 			}
 		}
 		if (ApiPlugin.DEBUG_FILTER_STORE) {
@@ -276,6 +293,42 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 		return false;
 	}
 
+	/**
+	 * Returns the index of the filters, building it if the filters changed
+	 * since it was last built.
+	 *
+	 * @return the index of the filters, never <code>null</code>
+	 */
+	private Map<IResource, Map<FilterKey, IApiProblemFilter[]>> getFilterIndex() {
+		Map<IResource, Map<FilterKey, IApiProblemFilter[]>> index = fFilterIndex;
+		if (index == null) {
+			index = buildFilterIndex();
+		}
+		return index;
+	}
+
+	private synchronized Map<IResource, Map<FilterKey, IApiProblemFilter[]>> buildFilterIndex() {
+		initializeApiFilters();
+		Map<IResource, Map<FilterKey, IApiProblemFilter[]>> index = fFilterIndex;
+		if (index == null) {
+			index = new HashMap<>(fFilterMap.size() * 2);
+			for (Entry<IResource, Map<String, Set<IApiProblemFilter>>> entry : fFilterMap.entrySet()) {
+				Map<FilterKey, List<IApiProblemFilter>> keyed = new LinkedHashMap<>();
+				for (Set<IApiProblemFilter> filters : entry.getValue().values()) {
+					for (IApiProblemFilter filter : filters) {
+						IApiProblem underlying = filter.getUnderlyingProblem();
+						keyed.computeIfAbsent(new FilterKey(underlying.getId(), underlying.getTypeName()), k -> new ArrayList<>(1)).add(filter);
+					}
+				}
+				Map<FilterKey, IApiProblemFilter[]> resourceIndex = new HashMap<>(keyed.size() * 2);
+				keyed.forEach((key, filters) -> resourceIndex.put(key, filters.toArray(IApiProblemFilter[]::new)));
+				index.put(entry.getKey(), resourceIndex);
+			}
+			fFilterIndex = index;
+		}
+		return index;
+	}
+
 	@Override
 	public void dispose() {
 		// if the store is about to be disposed and has pending changes save
@@ -346,6 +399,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 				success &= false;
 			}
 		}
+		fFilterIndex = null;
 		persistApiFilters();
 		return success;
 	}
@@ -471,6 +525,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			System.out.println("initializing api filter map for project [" + fProject.getElementName() + "]"); //$NON-NLS-1$ //$NON-NLS-2$
 		}
 		fFilterMap = new LinkedHashMap<>(5);
+		fFilterIndex = null;
 		IFile filterFile = fProject.getProject().getFile(API_FILTERS_XML_PATH);
 		if (!filterFile.exists()) {
 			if (ApiPlugin.DEBUG_FILTER_STORE) {
@@ -522,6 +577,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			}
 			fNeedsSaving |= filters.add(filter);
 		}
+		fFilterIndex = null;
 	}
 
 	/**
@@ -571,7 +627,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	/**
 	 * records that the following filter has been used
 	 */
-	private void recordFilterUsed(IResource resource, IApiProblemFilter filter) {
+	private synchronized void recordFilterUsed(IResource resource, IApiProblemFilter filter) {
 		if (fUnusedFilters != null) {
 			Set<IApiProblemFilter> unused = fUnusedFilters.get(resource);
 			if (unused != null) {
@@ -708,6 +764,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 				}
 				if (fFilterMap != null) {
 					fFilterMap.clear();
+					fFilterIndex = null;
 					needsbuild = fProject.getProject().isAccessible();
 				}
 			} else if (leafdelta.getKind() == IResourceDelta.ADDED || (leafdelta.getFlags() & IResourceDelta.CONTENT) != 0 || (leafdelta.getFlags() & IResourceDelta.REPLACED) != 0) {
@@ -744,5 +801,6 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			fFilterMap.clear();
 			fFilterMap = null;
 		}
+		fFilterIndex = null;
 	}
 }
@@ -0,0 +1,250 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.zip.CRC32;
+
+import org.eclipse.pde.api.tools.internal.provisional.ApiDescriptionVisitor;
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
+import org.eclipse.pde.api.tools.internal.provisional.IApiDescription;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IFieldDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMethodDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IPackageDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IReferenceTypeDescriptor;
+import org.eclipse.pde.api.tools.internal.util.Signatures;
+
+/**
+ * Reads and writes the binary form of an API description, stored in bundles
+ * next to the <code>.api_description</code> XML file.
+ * <p>
+ * The binary form holds the same settings as the XML file: a
+ * <code>PACKAGE</code> record per package with settings, followed by nested
+ * <code>TYPE</code> ... <code>END_TYPE</code> records holding the
+ * <code>METHOD</code> and <code>FIELD</code> records of the type and its
+ * member types. Visibilities equal to the one of the enclosing package are
+ * written as <code>-1</code>, as they are omitted from the XML file. The
+ * header holds a magic number, the version of the format and the length and
+ * CRC of the XML file the binary form was written with. Files of another
+ * version, or written with another XML file, are rejected so that readers
+ * fall back to the XML file.
+ * </p>
+ *
+ * @since 1.3.600
+ */
+public final class BinaryApiDescription {
+
+	private static final int MAGIC = 0x41504944; // APID
+	private static final int VERSION = 2;
+
+	private static final byte END = 0;
+	private static final byte PACKAGE = 1;
+	private static final byte TYPE = 2;
+	private static final byte END_TYPE = 3;
+	private static final byte METHOD = 4;
+	private static final byte FIELD = 5;
+
+	private BinaryApiDescription() {
+	}
+
+	/**
+	 * Visitor writing the records of the visited elements
+	 */
+	private static final class Writer extends ApiDescriptionVisitor {
+		private final DataOutputStream fOutput;
+		private String fPackage;
+		private int fPackageVisibility;
+
+		Writer(DataOutputStream output) {
+			fOutput = output;
+		}
+
+		@Override
+		public boolean visitElement(IElementDescriptor element, IApiAnnotations description) {
+			try {
+				switch (element.getElementType()) {
+					case IElementDescriptor.PACKAGE -> {
+						// only written with its first type, empty packages are omitted
+						fPackage = ((IPackageDescriptor) element).getName();
+						fPackageVisibility = description.getVisibility();
+					}
+					case IElementDescriptor.TYPE -> {
+						if (fPackage != null) {
+							fOutput.writeByte(PACKAGE);
+							fOutput.writeUTF(fPackage);
+							fPackage = null;
+						}
+						fOutput.writeByte(TYPE);
+						fOutput.writeUTF(Signatures.getSimpleTypeName(((IReferenceTypeDescriptor) element).getQualifiedName()));
+						writeAnnotations(description);
+					}
+					case IElementDescriptor.METHOD -> {
+						IMethodDescriptor method = (IMethodDescriptor) element;
+						fOutput.writeByte(METHOD);
+						fOutput.writeUTF(method.getName());
+						fOutput.writeUTF(method.getSignature());
+						writeAnnotations(description);
+					}
+					case IElementDescriptor.FIELD -> {
+						fOutput.writeByte(FIELD);
+						fOutput.writeUTF(((IFieldDescriptor) element).getName());
+						writeAnnotations(description);
+					}
+					default -> { /**/ }
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			return true;
+		}
+
+		@Override
+		public void endVisitElement(IElementDescriptor element, IApiAnnotations description) {
+			if (element.getElementType() == IElementDescriptor.TYPE) {
+				try {
+					fOutput.writeByte(END_TYPE);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}
+		}
+
+		private void writeAnnotations(IApiAnnotations description) throws IOException {
+			int visibility = description.getVisibility();
+			fOutput.writeInt(visibility == fPackageVisibility ? -1 : visibility);
+			fOutput.writeInt(description.getRestrictions());
+		}
+	}
+
+	/**
+	 * Writes the binary form of the given API description to the given file.
+	 * The file is replaced atomically.
+	 *
+	 * @param description the description to write
+	 * @param xml the content of the XML file written for the description
+	 * @param file the file to write
+	 * @throws IOException if the file cannot be written
+	 */
+	public static void write(IApiDescription description, String xml, Path file) throws IOException {
+		Path parent = file.toAbsolutePath().getParent();
+		Files.createDirectories(parent);
+		Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp"); //$NON-NLS-1$
+		try {
+			try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+				output.writeInt(MAGIC);
+				output.writeInt(VERSION);
+				output.writeInt(xml.length());
+				output.writeLong(checksum(xml));
+				output.writeUTF(IApiXmlConstants.API_DESCRIPTION_CURRENT_VERSION);
+				description.accept(new Writer(output), null);
+				output.writeByte(END);
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
+			}
+			Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	/**
+	 * Annotates the given API description with the settings of the given
+	 * binary content.
+	 *
+	 * @param settings the description to annotate
+	 * @param content the binary form of an API description
+	 * @param xml the content of the XML file next to the binary form
+	 * @throws IOException if the content is not a binary API description of
+	 *             the supported version, was written with another XML file or
+	 *             is truncated
+	 */
+	public static void read(ApiDescription settings, byte[] content, String xml) throws IOException {
+		DataInputStream input = new DataInputStream(new ByteArrayInputStream(content));
+		if (input.readInt() != MAGIC) {
+			throw new IOException("Not a binary API description"); //$NON-NLS-1$
+		}
+		int version = input.readInt();
+		if (version != VERSION) {
+			throw new IOException("Unsupported binary API description version: " + version); //$NON-NLS-1$
+		}
+		if (input.readInt() != xml.length() || input.readLong() != checksum(xml)) {
+			throw new IOException("Binary API description does not match the XML file"); //$NON-NLS-1$
+		}
+		settings.setEmbeddedVersion(input.readUTF());
+		IPackageDescriptor pkg = null;
+		Deque<IReferenceTypeDescriptor> types = new ArrayDeque<>();
+		byte kind;
+		while ((kind = input.readByte()) != END) {
+			switch (kind) {
+				case PACKAGE -> pkg = Factory.packageDescriptor(input.readUTF());
+				case TYPE -> {
+					if (pkg == null) {
+						throw new IOException("Type outside of a package"); //$NON-NLS-1$
+					}
+					IReferenceTypeDescriptor type = pkg.getType(input.readUTF());
+					types.push(type);
+					annotate(settings, type, input);
+				}
+				case END_TYPE -> {
+					if (types.poll() == null) {
+						throw new IOException("Unbalanced type record"); //$NON-NLS-1$
+					}
+				}
+				case METHOD -> {
+					IReferenceTypeDescriptor type = types.peek();
+					if (type == null) {
+						throw new IOException("Method outside of a type"); //$NON-NLS-1$
+					}
+					annotate(settings, type.getMethod(input.readUTF(), input.readUTF()), input);
+				}
+				case FIELD -> {
+					IReferenceTypeDescriptor type = types.peek();
+					if (type == null) {
+						throw new IOException("Field outside of a type"); //$NON-NLS-1$
+					}
+					annotate(settings, type.getField(input.readUTF()), input);
+				}
+				default -> throw new IOException("Invalid record in binary API description: " + kind); //$NON-NLS-1$
+			}
+		}
+	}
+
+	private static long checksum(String xml) {
+		CRC32 crc = new CRC32();
+		crc.update(xml.getBytes(StandardCharsets.UTF_8));
+		return crc.getValue();
+	}
+
+	private static void annotate(IApiDescription settings, IElementDescriptor element, DataInputStream input) throws IOException {
+		int visibility = input.readInt();
+		int restrictions = input.readInt();
+		if (visibility != -1) {
+			settings.setVisibility(element, visibility);
+		}
+		settings.setRestrictions(element, restrictions);
+	}
+}
@@ -0,0 +1,236 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.pde.api.tools.internal.ApiDescription.ManifestNode;
+import org.eclipse.pde.api.tools.internal.provisional.ApiDescriptionVisitor;
+import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
+import org.eclipse.pde.api.tools.internal.provisional.RestrictionModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+
+/**
+ * Immutable, flattened form of the manifest node tree of an
+ * {@link ApiDescription}.
+ * <p>
+ * The nodes are stored in parallel arrays in depth first order, the children
+ * of a node being sorted with {@link ApiDescription#fgComparator} so that the
+ * tree is visited in the same order as the node tree. Each node records the
+ * index of its parent and the end of its subtree. Elements are looked up by a
+ * binary search over the sorted hash codes of the elements.
+ * </p>
+ * <p>
+ * Instances are safe to be read from several threads.
+ * </p>
+ *
+ * @since 1.3.600
+ */
+final class CompactManifest {
+
+	private final IElementDescriptor[] fElements;
+	private final int[] fVisibilities;
+	private final int[] fRestrictions;
+	private final int[] fParents;
+	private final int[] fEnds;
+	private final int[] fHashes;
+	private final int[] fHashOrder;
+
+	private CompactManifest(int size) {
+		fElements = new IElementDescriptor[size];
+		fVisibilities = new int[size];
+		fRestrictions = new int[size];
+		fParents = new int[size];
+		fEnds = new int[size];
+		fHashes = new int[size];
+		fHashOrder = new int[size];
+	}
+
+	/**
+	 * Builds the compact form of the given package nodes and their
+	 * descendants.
+	 *
+	 * @param packages the package nodes by package descriptor
+	 * @return the compact form of the tree
+	 */
+	static CompactManifest build(Map<IElementDescriptor, ManifestNode> packages) {
+		CompactManifest manifest = new CompactManifest(count(packages));
+		manifest.add(packages, -1, 0);
+		int size = manifest.fElements.length;
+		long[] keys = new long[size];
+		for (int i = 0; i < size; i++) {
+			keys[i] = ((long) manifest.fElements[i].hashCode() << 32) | i;
+		}
+		Arrays.sort(keys);
+		for (int i = 0; i < size; i++) {
+			manifest.fHashes[i] = (int) (keys[i] >> 32);
+			manifest.fHashOrder[i] = (int) keys[i];
+		}
+		return manifest;
+	}
+
+	private static int count(Map<IElementDescriptor, ManifestNode> nodes) {
+		int count = nodes.size();
+		for (ManifestNode node : nodes.values()) {
+			count += count(node.children);
+		}
+		return count;
+	}
+
+	/**
+	 * Adds the given nodes and their descendants starting at the given index
+	 *
+	 * @return the index following the last added node
+	 */
+	private int add(Map<IElementDescriptor, ManifestNode> nodes, int parent, int index) {
+		List<IElementDescriptor> elements = new ArrayList<>(nodes.keySet());
+		elements.sort(ApiDescription.fgComparator);
+		int next = index;
+		for (IElementDescriptor element : elements) {
+			ManifestNode node = nodes.get(element);
+			int current = next;
+			fElements[current] = node.element;
+			fVisibilities[current] = node.visibility;
+			fRestrictions[current] = node.restrictions;
+			fParents[current] = parent;
+			next = add(node.children, current, current + 1);
+			fEnds[current] = next;
+		}
+		return next;
+	}
+
+	/**
+	 * Rebuilds the manifest node tree into the given empty package map.
+	 *
+	 * @param packages the map to add the package nodes to
+	 */
+	void inflate(Map<IElementDescriptor, ManifestNode> packages) {
+		ManifestNode[] nodes = new ManifestNode[fElements.length];
+		for (int i = 0; i < fElements.length; i++) {
+			int parent = fParents[i];
+			ManifestNode node = new ManifestNode(parent < 0 ? null : nodes[parent], fElements[i], fVisibilities[i], fRestrictions[i]);
+			nodes[i] = node;
+			if (parent < 0) {
+				packages.put(fElements[i], node);
+			} else {
+				nodes[parent].children.put(fElements[i], node);
+			}
+		}
+	}
+
+	/**
+	 * Returns the index of the node of the given element or <code>-1</code>
+	 * if there is none.
+	 */
+	private int indexOf(IElementDescriptor element) {
+		int hash = element.hashCode();
+		int position = Arrays.binarySearch(fHashes, hash);
+		if (position < 0) {
+			return -1;
+		}
+		// several elements can share a hash code
+		while (position > 0 && fHashes[position - 1] == hash) {
+			position--;
+		}
+		for (; position < fHashes.length && fHashes[position] == hash; position++) {
+			int index = fHashOrder[position];
+			if (fElements[index].equals(element)) {
+				return index;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the index of the node of the given element, or of its closest
+	 * enclosing element that has a node, or <code>-1</code> if there is none.
+	 */
+	private int findNode(IElementDescriptor element) {
+		IElementDescriptor[] path = element.getPath();
+		for (int i = path.length - 1; i >= 0; i--) {
+			int index = indexOf(path[i]);
+			if (index >= 0) {
+				return index;
+			}
+		}
+		return -1;
+	}
+
+	private int resolveVisibility(int index) {
+		int current = index;
+		int vis = fVisibilities[current];
+		while (vis == ApiDescription.VISIBILITY_INHERITED && fParents[current] >= 0) {
+			current = fParents[current];
+			vis = fVisibilities[current];
+		}
+		return vis;
+	}
+
+	/**
+	 * @see ApiDescription#resolveAnnotations(IElementDescriptor)
+	 */
+	IApiAnnotations resolveAnnotations(IElementDescriptor element) {
+		int index = findNode(element);
+		if (index < 0) {
+			return null;
+		}
+		boolean exact = fElements[index].equals(element);
+		ApiAnnotations annotations = new ApiAnnotations(resolveVisibility(index), exact ? fRestrictions[index] : RestrictionModifiers.NO_RESTRICTIONS);
+		annotations.setExact(exact);
+		return annotations;
+	}
+
+	/**
+	 * @see ApiDescription#accept(ApiDescriptionVisitor, IProgressMonitor)
+	 */
+	void accept(ApiDescriptionVisitor visitor, IProgressMonitor monitor) {
+		int packages = 0;
+		for (int i = 0; i < fElements.length; i = fEnds[i]) {
+			packages++;
+		}
+		SubMonitor loopMonitor = SubMonitor.convert(monitor, packages);
+		for (int i = 0; i < fElements.length; i = fEnds[i]) {
+			loopMonitor.split(1);
+			visitNode(visitor, i);
+		}
+	}
+
+	/**
+	 * @see ApiDescription#accept(ApiDescriptionVisitor, IElementDescriptor,
+	 *      IProgressMonitor)
+	 */
+	boolean accept(ApiDescriptionVisitor visitor, IElementDescriptor element) {
+		int index = findNode(element);
+		if (index < 0) {
+			return false;
+		}
+		visitNode(visitor, index);
+		return true;
+	}
+
+	private void visitNode(ApiDescriptionVisitor visitor, int index) {
+		IApiAnnotations desc = new ApiAnnotations(resolveVisibility(index), fRestrictions[index]);
+		if (visitor.visitElement(fElements[index], desc)) {
+			for (int child = index + 1; child < fEnds[index]; child = fEnds[child]) {
+				visitNode(visitor, child);
+			}
+		}
+		visitor.endVisitElement(fElements[index], desc);
+	}
+}
@@ -47,6 +47,13 @@ public interface IApiCoreConstants {
 	 * <code>.api_description</code>
 	 */
 	public static final String API_DESCRIPTION_XML_NAME = ".api_description"; //$NON-NLS-1$
+	/**
+	 * Constant representing the name of the binary form of the API description
+	 * file. Value is <code>.api_description.bin</code>
+	 *
+	 * @since 1.3.600
+	 */
+	public static final String API_DESCRIPTION_BINARY_NAME = ".api_description.bin"; //$NON-NLS-1$
 	/**
 	 * Constant representing the name of API description XML file. Value is
 	 * <code>.api_description</code>
@@ -26,6 +26,7 @@ import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.jdt.core.IClassFile;
@@ -44,6 +45,7 @@ import org.eclipse.pde.api.tools.internal.model.ProjectComponent;
 import org.eclipse.pde.api.tools.internal.provisional.ApiDescriptionVisitor;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.IApiAccess;
 import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
 import org.eclipse.pde.api.tools.internal.provisional.RestrictionModifiers;
 import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
@@ -731,4 +733,40 @@ public class ProjectApiDescription extends ApiDescription {
 		return ann;
 
 	}
+
+	/*
+	 * The nodes of a project description are created and refreshed while
+	 * resolving, so all the lookups are synchronized like the visits. This
+	 * allows the types of a project to be compared concurrently.
+	 */
+
+	@Override
+	public synchronized IApiAnnotations resolveAnnotations(IElementDescriptor element) {
+		return super.resolveAnnotations(element);
+	}
+
+	@Override
+	public synchronized boolean accept(ApiDescriptionVisitor visitor, IElementDescriptor element, IProgressMonitor monitor) {
+		return super.accept(visitor, element, monitor);
+	}
+
+	@Override
+	public synchronized IStatus setRestrictions(IElementDescriptor element, int restrictions) {
+		return super.setRestrictions(element, restrictions);
+	}
+
+	@Override
+	public synchronized IStatus setVisibility(IElementDescriptor element, int visibility) {
+		return super.setVisibility(element, visibility);
+	}
+
+	@Override
+	public synchronized IApiAccess resolveAccessLevel(IElementDescriptor element, IPackageDescriptor pelement) {
+		return super.resolveAccessLevel(element, pelement);
+	}
+
+	@Override
+	public synchronized void setAccessLevel(IElementDescriptor element, IPackageDescriptor pelement, int access) {
+		super.setAccessLevel(element, pelement, access);
+	}
 }
@@ -0,0 +1,364 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToIntFunction;
+
+/**
+ * A thread-safe LRU cache bounded by the weight of its values.
+ * <p>
+ * The entries are spread over a fixed number of segments by the hash code of
+ * their key. Each segment has its own lock, its own share of the maximum
+ * weight and evicts its least recently used entries independently, so threads
+ * working with different keys rarely contend on the same lock.
+ * </p>
+ */
+public class StripedLRUCache<K, V> {
+
+	/**
+	 * Hit, miss and eviction counters, which can be shared by several caches.
+	 * Lookups through {@link StripedLRUCache#peek(Object)} are not counted, so
+	 * that nested caches can count each lookup only once with
+	 * {@link #recordLookup(boolean)}.
+	 */
+	public static final class Statistics {
+		private final LongAdder fHits = new LongAdder();
+		private final LongAdder fMisses = new LongAdder();
+		private final LongAdder fEvictions = new LongAdder();
+
+		/**
+		 * @return the number of lookups that found a value
+		 */
+		public long getHitCount() {
+			return fHits.sum();
+		}
+
+		/**
+		 * @return the number of lookups that did not find a value
+		 */
+		public long getMissCount() {
+			return fMisses.sum();
+		}
+
+		/**
+		 * @return the number of entries evicted to respect the maximum weight
+		 */
+		public long getEvictionCount() {
+			return fEvictions.sum();
+		}
+
+		/**
+		 * Counts a lookup done without {@link StripedLRUCache#get(Object)}
+		 *
+		 * @param hit whether the lookup found a value
+		 */
+		public void recordLookup(boolean hit) {
+			if (hit) {
+				fHits.increment();
+			} else {
+				fMisses.increment();
+			}
+		}
+
+		/**
+		 * Resets all counters to zero
+		 */
+		public void reset() {
+			fHits.reset();
+			fMisses.reset();
+			fEvictions.reset();
+		}
+
+		@Override
+		public String toString() {
+			return "hits=" + getHitCount() + ", misses=" + getMissCount() + ", evictions=" + getEvictionCount(); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+	}
+
+	/**
+	 * Default number of segments, must be a power of two
+	 */
+	private static final int DEFAULT_STRIPES = 16;
+
+	/**
+	 * Minimum weight of a segment, smaller caches use fewer segments so that
+	 * their entries are not evicted because of an uneven spread of the keys
+	 */
+	private static final long MIN_SEGMENT_WEIGHT = 64;
+
+	/**
+	 * A value stored in a segment with the weight it had when it was added
+	 */
+	private static final class WeightedValue<V> {
+		final V value;
+		final int weight;
+
+		WeightedValue(V value, int weight) {
+			this.value = value;
+			this.weight = weight;
+		}
+	}
+
+	/**
+	 * One segment of the cache, all methods must be called while holding the
+	 * segment lock
+	 */
+	private static final class Segment<K, V> {
+		final LinkedHashMap<K, WeightedValue<V>> fEntries = new LinkedHashMap<>(16, 0.75f, true);
+		final long fMaxWeight;
+		long fWeight = 0;
+
+		Segment(long maxWeight) {
+			fMaxWeight = maxWeight;
+		}
+
+		/**
+		 * Evicts the least recently used entries until the segment fits in its
+		 * maximum weight, always keeping the most recently used entry.
+		 *
+		 * @return the number of evicted entries
+		 */
+		int evict() {
+			int evicted = 0;
+			Iterator<WeightedValue<V>> iterator = fEntries.values().iterator();
+			while (fWeight > fMaxWeight && fEntries.size() > 1) {
+				WeightedValue<V> eldest = iterator.next();
+				iterator.remove();
+				fWeight -= eldest.weight;
+				evicted++;
+			}
+			return evicted;
+		}
+	}
+
+	private final Segment<K, V>[] fSegments;
+	private final ToIntFunction<? super V> fWeigher;
+	private final Statistics fStatistics;
+
+	/**
+	 * Constructor
+	 *
+	 * @param maxWeight the maximum total weight of the values in this cache
+	 * @param weigher computes the weight of a value, must be at least
+	 *            <code>1</code>
+	 * @param statistics the counters to update, or <code>null</code> to use
+	 *            counters private to this cache
+	 */
+	@SuppressWarnings("unchecked")
+	public StripedLRUCache(long maxWeight, ToIntFunction<? super V> weigher, Statistics statistics) {
+		int stripes = DEFAULT_STRIPES;
+		while (stripes > 1 && maxWeight / stripes < MIN_SEGMENT_WEIGHT) {
+			stripes >>= 1;
+		}
+		fSegments = new Segment[stripes];
+		long segmentWeight = Math.max(1, maxWeight / stripes);
+		for (int i = 0; i < stripes; i++) {
+			fSegments[i] = new Segment<>(segmentWeight);
+		}
+		fWeigher = weigher;
+		fStatistics = statistics != null ? statistics : new Statistics();
+	}
+
+	/**
+	 * Constructor for a cache where every value has a weight of
+	 * <code>1</code>, i.e. a cache bounded by its number of entries
+	 *
+	 * @param maxSize the maximum number of entries in this cache
+	 * @param statistics the counters to update, or <code>null</code> to use
+	 *            counters private to this cache
+	 */
+	public StripedLRUCache(int maxSize, Statistics statistics) {
+		this(maxSize, value -> 1, statistics);
+	}
+
+	private Segment<K, V> segmentFor(Object key) {
+		int hash = key.hashCode();
+		hash ^= (hash >>> 16);
+		return fSegments[hash & (fSegments.length - 1)];
+	}
+
+	/**
+	 * Returns the value cached for the given key and marks it as the most
+	 * recently used one.
+	 *
+	 * @return the cached value or <code>null</code>
+	 */
+	public V get(K key) {
+		V value = peek(key);
+		fStatistics.recordLookup(value != null);
+		return value;
+	}
+
+	/**
+	 * Returns the value cached for the given key and marks it as the most
+	 * recently used one, without updating the hit and miss counters.
+	 *
+	 * @return the cached value or <code>null</code>
+	 */
+	public V peek(K key) {
+		Segment<K, V> segment = segmentFor(key);
+		synchronized (segment) {
+			WeightedValue<V> entry = segment.fEntries.get(key);
+			return entry == null ? null : entry.value;
+		}
+	}
+
+	/**
+	 * Caches the given value, evicting least recently used values if needed.
+	 *
+	 * @return the value previously cached for the key or <code>null</code>
+	 */
+	public V put(K key, V value) {
+		WeightedValue<V> entry = new WeightedValue<>(value, Math.max(1, fWeigher.applyAsInt(value)));
+		Segment<K, V> segment = segmentFor(key);
+		WeightedValue<V> previous;
+		int evicted;
+		synchronized (segment) {
+			previous = segment.fEntries.put(key, entry);
+			segment.fWeight += entry.weight;
+			if (previous != null) {
+				segment.fWeight -= previous.weight;
+			}
+			evicted = segment.evict();
+		}
+		if (evicted > 0) {
+			fStatistics.fEvictions.add(evicted);
+		}
+		return previous == null ? null : previous.value;
+	}
+
+	/**
+	 * Caches the given value if there is no value for the key yet.
+	 *
+	 * @return the value cached for the key, which is the given value if there
+	 *         was none before
+	 */
+	public V putIfAbsent(K key, V value) {
+		Segment<K, V> segment = segmentFor(key);
+		int evicted;
+		synchronized (segment) {
+			WeightedValue<V> existing = segment.fEntries.get(key);
+			if (existing != null) {
+				return existing.value;
+			}
+			WeightedValue<V> entry = new WeightedValue<>(value, Math.max(1, fWeigher.applyAsInt(value)));
+			segment.fEntries.put(key, entry);
+			segment.fWeight += entry.weight;
+			evicted = segment.evict();
+		}
+		if (evicted > 0) {
+			fStatistics.fEvictions.add(evicted);
+		}
+		return value;
+	}
+
+	/**
+	 * Removes the value cached for the given key.
+	 *
+	 * @return the removed value or <code>null</code>
+	 */
+	public V remove(K key) {
+		Segment<K, V> segment = segmentFor(key);
+		synchronized (segment) {
+			WeightedValue<V> previous = segment.fEntries.remove(key);
+			if (previous == null) {
+				return null;
+			}
+			segment.fWeight -= previous.weight;
+			return previous.value;
+		}
+	}
+
+	/**
+	 * Removes all entries from this cache
+	 */
+	public void flush() {
+		for (Segment<K, V> segment : fSegments) {
+			synchronized (segment) {
+				segment.fEntries.clear();
+				segment.fWeight = 0;
+			}
+		}
+	}
+
+	/**
+	 * Returns if the cache has any elements in it or not
+	 *
+	 * @return true if the cache has no entries, false otherwise
+	 */
+	public boolean isEmpty() {
+		for (Segment<K, V> segment : fSegments) {
+			synchronized (segment) {
+				if (!segment.fEntries.isEmpty()) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return the number of entries in this cache
+	 */
+	public int size() {
+		int size = 0;
+		for (Segment<K, V> segment : fSegments) {
+			synchronized (segment) {
+				size += segment.fEntries.size();
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * @return the total weight of the values in this cache
+	 */
+	public long getWeight() {
+		long weight = 0;
+		for (Segment<K, V> segment : fSegments) {
+			synchronized (segment) {
+				weight += segment.fWeight;
+			}
+		}
+		return weight;
+	}
+
+	/**
+	 * @return the counters updated by this cache
+	 */
+	public Statistics getStatistics() {
+		return fStatistics;
+	}
+
+	/**
+	 * @return MT-safe snapshot of the keys in the cache.
+	 */
+	public List<K> keysSnapshot() {
+		List<K> keys = new ArrayList<>();
+		for (Segment<K, V> segment : fSegments) {
+			synchronized (segment) {
+				for (Map.Entry<K, WeightedValue<V>> entry : segment.fEntries.entrySet()) {
+					keys.add(entry.getKey());
+				}
+			}
+		}
+		return keys;
+	}
+}
@@ -81,7 +81,7 @@ public class WorkspaceDeltaProcessor implements IElementChangedListener, IResour
 								bmanager.disposeWorkspaceBaseline();
 								dmanager.projectClasspathChanged(proj);
 								try {
-									BuildState.setLastBuiltState(proj.getProject(), null);
+									BuildState.buildPathChanged(proj.getProject(), (flags & IJavaElementDelta.F_CLASSPATH_CHANGED) == 0);
 								} catch (CoreException e) {
 									ApiPlugin.log("Failed to save build state for " + proj.getProject(), e); //$NON-NLS-1$
 								}
@@ -885,8 +885,20 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 			return;
 		}
 		SubMonitor localMonitor = SubMonitor.convert(monitor, BuilderMessages.api_analysis_on_0, 4);
+		BuildState previous = this.buildstate;
+		if (previous == null) {
+			try {
+				previous = BuildState.getLastBuiltState(this.currentproject);
+			} catch (CoreException e) {
+				ApiPlugin.log(e);
+			}
+		}
 		BuildState.setLastBuiltState(this.currentproject, null);
 		this.buildstate = new BuildState();
+		if (previous != null) {
+			// unchanged compilation units are not parsed again for tag validation
+			this.buildstate.setPreviousTagValidations(previous);
+		}
 		localMonitor
 				.subTask(NLS.bind(BuilderMessages.ApiAnalysisBuilder_initializing_analyzer, currentproject.getName()));
 		cleanupMarkers(this.currentproject);
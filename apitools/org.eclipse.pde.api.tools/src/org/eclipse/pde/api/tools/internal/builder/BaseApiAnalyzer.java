@@ -22,15 +22,20 @@ import java.io.StringReader;
 import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.jar.JarFile;
 
 import org.eclipse.core.resources.IFile;
@@ -46,6 +51,7 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences;
 import org.eclipse.core.runtime.preferences.InstanceScope;
@@ -74,6 +80,7 @@ import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.api.tools.internal.ApiBaselineManager;
 import org.eclipse.pde.api.tools.internal.ApiFilterStore;
 import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
+import org.eclipse.pde.api.tools.internal.builder.BuildState.TagValidation;
 import org.eclipse.pde.api.tools.internal.comparator.Delta;
 import org.eclipse.pde.api.tools.internal.model.ProjectComponent;
 import org.eclipse.pde.api.tools.internal.model.WorkspaceBaseline;
@@ -129,6 +136,30 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	 */
 	static final String[] NO_TYPES = new String[0];
 
+	/**
+	 * System property setting the number of types compared concurrently.
+	 * Types are compared serially by default.
+	 */
+	private static final String COMPATIBILITY_PARALLELISM = "org.eclipse.pde.api.tools.compatibilityParallelism"; //$NON-NLS-1$
+
+	/**
+	 * The result of comparing a single type with its reference
+	 */
+	private static class TypeCompatibilityResult {
+		final String typeName;
+		final IDelta delta;
+		/**
+		 * Whether the type was found in the component or one of its providers
+		 */
+		final boolean typeFound;
+
+		TypeCompatibilityResult(String typeName, IDelta delta, boolean typeFound) {
+			this.typeName = typeName;
+			this.delta = delta;
+			this.typeFound = typeFound;
+		}
+	}
+
 	private static class ReexportedBundleVersionInfo {
 		String componentID;
 		int kind;
@@ -175,6 +206,15 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	 */
 	private boolean fContinueOnResolutionError = false;
 
+	/**
+	 * The maximum number of types compared concurrently when checking the
+	 * compatibility of changed types, read from the
+	 * <code>org.eclipse.pde.api.tools.compatibilityParallelism</code> system
+	 * property when the analyzer is created. A value of <code>1</code> means
+	 * the types are compared serially.
+	 */
+	private final int fCompatibilityParallelism = Math.max(1, Integer.getInteger(COMPATIBILITY_PARALLELISM, 1));
+
 	/**
 	 * Constructs an API analyzer
 	 */
@@ -378,7 +418,6 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 		return fContinueOnResolutionError;
 	}
 
-
 	/**
 	 * Processes the API Use Scan report for the given API Component
 	 */
@@ -611,6 +650,10 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	 * @param component API component being checked for compatibility
 	 */
 	private void checkCompatibility(String[] changedtypes, IApiComponent reference, IApiComponent component, SubMonitor localMonitor) throws CoreException {
+		if (fCompatibilityParallelism > 1 && changedtypes.length > 1) {
+			checkCompatibilityInParallel(changedtypes, reference, component, localMonitor);
+			return;
+		}
 		localMonitor.setWorkRemaining(changedtypes.length);
 		for (String changedtype : changedtypes) {
 			if (changedtype == null) {
@@ -620,6 +663,75 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 		}
 	}
 
+	/**
+	 * Checks the compatibility of each type, comparing the types concurrently
+	 * in a bounded {@link ForkJoinPool}. The resulting deltas are processed on
+	 * the calling thread in the order of the given type names, so the reported
+	 * problems are the same as with a serial check. Only a few comparisons
+	 * per thread are submitted ahead of the processing, so that the deltas of
+	 * a large component are not all held at once.
+	 *
+	 * @param changedtypes type names, may have <code>null</code> entries
+	 * @param reference API component in the reference baseline
+	 * @param component API component being checked for compatibility
+	 */
+	private void checkCompatibilityInParallel(String[] changedtypes, final IApiComponent reference, final IApiComponent component, final SubMonitor localMonitor) throws CoreException {
+		localMonitor.setWorkRemaining(changedtypes.length * 2);
+		int parallelism = Math.min(fCompatibilityParallelism, changedtypes.length);
+		int window = parallelism * 2;
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try {
+			Deque<ForkJoinTask<TypeCompatibilityResult>> pending = new ArrayDeque<>(window);
+			int next = 0;
+			while (next < changedtypes.length || !pending.isEmpty()) {
+				while (next < changedtypes.length && pending.size() < window) {
+					String changedtype = changedtypes[next++];
+					if (changedtype == null) {
+						localMonitor.split(2);
+						continue;
+					}
+					pending.add(pool.submit(() -> {
+						if (localMonitor.isCanceled()) {
+							return null;
+						}
+						return compareType(changedtype, reference, component, null);
+					}));
+				}
+				if (pending.isEmpty()) {
+					break;
+				}
+				localMonitor.split(1);
+				TypeCompatibilityResult result;
+				try {
+					result = pending.removeFirst().get();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new OperationCanceledException();
+				} catch (ExecutionException e) {
+					// fail as the serial check would
+					Throwable cause = e.getCause();
+					if (cause instanceof CoreException coreException) {
+						throw coreException;
+					}
+					if (cause instanceof RuntimeException runtimeException) {
+						throw runtimeException;
+					}
+					if (cause instanceof Error error) {
+						throw error;
+					}
+					throw new CoreException(Status.error(cause.getMessage(), cause));
+				}
+				if (result == null) {
+					localMonitor.split(1);
+					continue;
+				}
+				processTypeDelta(result, reference, component, localMonitor.split(1));
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
 	/**
 	 * Checks for unused API problem filters
 	 *
@@ -1204,6 +1316,34 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	 * Processes the given {@link ICompilationUnit} for invalid tags
 	 */
 	private void processType(ICompilationUnit cunit, boolean tags, boolean annotations) {
+		// problems of compilation units that did not change since they were
+		// last validated are reused from the build state
+		IResource resource = null;
+		long stamp = IResource.NULL_STAMP;
+		try {
+			if (fBuildState != null && !cunit.hasUnsavedChanges()) {
+				resource = cunit.getCorrespondingResource();
+				if (resource != null) {
+					stamp = resource.getModificationStamp();
+				}
+			}
+		} catch (JavaModelException e) {
+			resource = null;
+		}
+		String path = resource == null ? null : resource.getProjectRelativePath().toPortableString();
+		if (path != null && stamp != IResource.NULL_STAMP) {
+			TagValidation validation = fBuildState.getTagValidation(path);
+			if (validation != null && validation.stamp() == stamp && validation.tags() == tags && validation.annotations() == annotations) {
+				if (ApiPlugin.DEBUG_BUILDER) {
+					System.out.println("Reusing tag validation of unchanged compilation unit: " + path); //$NON-NLS-1$
+				}
+				fBuildState.setTagValidation(path, validation);
+				for (IApiProblem tagProblem : validation.problems()) {
+					addProblem(tagProblem);
+				}
+				return;
+			}
+		}
 		CompilationUnit comp = createAST(cunit, 0);
 		if (comp == null) {
 			return;
@@ -1211,6 +1351,9 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 		TagValidator tv = new TagValidator(cunit, tags, annotations);
 		comp.accept(tv);
 		IApiProblem[] tagProblems = tv.getProblems();
+		if (path != null && stamp != IResource.NULL_STAMP) {
+			fBuildState.setTagValidation(path, new TagValidation(stamp, tags, annotations, tagProblems));
+		}
 		for (IApiProblem tagProblem : tagProblems) {
 			addProblem(tagProblem);
 		}
@@ -1303,6 +1446,20 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	 * @param typeName the type to check in each component
 	 */
 	private void checkCompatibility(final String typeName, final IApiComponent reference, final IApiComponent component, IProgressMonitor monitor) throws CoreException {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, BuilderMessages.BaseApiAnalyzer_checking_compat, 4);
+		TypeCompatibilityResult result = compareType(typeName, reference, component, subMonitor.split(2));
+		processTypeDelta(result, reference, component, subMonitor.split(2));
+	}
+
+	/**
+	 * Computes the delta of the given type between the two API components.
+	 * This method does not modify the state of this analyzer, so it can be
+	 * called concurrently for different types of the same component.
+	 *
+	 * @param typeName the type to check in each component
+	 * @return the result of the comparison, never <code>null</code>
+	 */
+	private TypeCompatibilityResult compareType(final String typeName, final IApiComponent reference, final IApiComponent component, IProgressMonitor monitor) throws CoreException {
 		String id = component.getSymbolicName();
 		if (ApiPlugin.DEBUG_API_ANALYZER) {
 			System.out.println("comparing components [" + reference.getSymbolicName() + "] and [" + id + "] for type [" + typeName + "]"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
@@ -1313,7 +1470,7 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 		} catch (CoreException e) {
 			ApiPlugin.log(e);
 		}
-		SubMonitor subMonitor = SubMonitor.convert(monitor, BuilderMessages.BaseApiAnalyzer_checking_compat, 4);
+		SubMonitor subMonitor = SubMonitor.convert(monitor, 2);
 		IDelta delta = null;
 		IApiComponent provider = null;
 		boolean reexported = false;
@@ -1358,7 +1515,7 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 				try {
 					IApiType type = referenceClassFile.getStructure();
 					if (type == null) {
-						return;
+						return new TypeCompatibilityResult(typeName, null, false);
 					}
 					final IApiDescription referenceApiDescription = reference.getApiDescription();
 					IApiAnnotations elementDescription = referenceApiDescription.resolveAnnotations(type.getHandle());
@@ -1374,7 +1531,7 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 						// if the visibility is API, we only consider public
 						// and protected types
 						if (Util.isDefault(type.getModifiers()) || Flags.isPrivate(type.getModifiers())) {
-							return;
+							return new TypeCompatibilityResult(typeName, null, false);
 						}
 						if (VisibilityModifiers.isAPI(visibility)) {
 							String deltaComponentID = Util.getDeltaComponentVersionsId(reference);
@@ -1388,30 +1545,46 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 				}
 			}
 			subMonitor.split(1);
-		} else {
-			fBuildState.cleanup(typeName);
-			long time = System.currentTimeMillis();
-			try {
-				IApiComponent exporter = null;
-				if (reexported) {
-					exporter = component;
-				}
-				delta = ApiComparator.compare(classFile, reference, provider, exporter, reference.getBaseline(), provider.getBaseline(), VisibilityModifiers.API, subMonitor.split(1));
-			} catch (OperationCanceledException oce) {
-				// do nothing, but don't forward it
-				// https://bugs.eclipse.org/bugs/show_bug.cgi?id=304315
-				if (ApiPlugin.DEBUG_API_ANALYZER) {
-					System.out.println("Trapped OperationCanceledException"); //$NON-NLS-1$
-				}
-			} catch (Exception e) {
-				ApiPlugin.log(e);
-			} finally {
-				if (ApiPlugin.DEBUG_API_ANALYZER) {
-					System.out.println("Time spent for " + typeName + " : " + (System.currentTimeMillis() - time) + "ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-				}
-				fPendingDeltaInfos.clear();
+			return new TypeCompatibilityResult(typeName, delta, false);
+		}
+		long time = System.currentTimeMillis();
+		try {
+			IApiComponent exporter = null;
+			if (reexported) {
+				exporter = component;
 			}
+			delta = ApiComparator.compare(classFile, reference, provider, exporter, reference.getBaseline(), provider.getBaseline(), VisibilityModifiers.API, subMonitor.split(1));
+		} catch (OperationCanceledException oce) {
+			// do nothing, but don't forward it
+			// https://bugs.eclipse.org/bugs/show_bug.cgi?id=304315
+			if (ApiPlugin.DEBUG_API_ANALYZER) {
+				System.out.println("Trapped OperationCanceledException"); //$NON-NLS-1$
+			}
+		} catch (Exception e) {
+			ApiPlugin.log(e);
+		} finally {
+			if (ApiPlugin.DEBUG_API_ANALYZER) {
+				System.out.println("Time spent for " + typeName + " : " + (System.currentTimeMillis() - time) + "ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			}
+		}
+		return new TypeCompatibilityResult(typeName, delta, true);
+	}
+
+	/**
+	 * Reports the problems for the delta computed by
+	 * {@link #compareType(String, IApiComponent, IApiComponent, IProgressMonitor)}.
+	 * This method updates the build state and the problems of this analyzer,
+	 * so it must only be called from the thread running the analysis.
+	 *
+	 * @param result the result of the type comparison
+	 */
+	private void processTypeDelta(TypeCompatibilityResult result, final IApiComponent reference, final IApiComponent component, IProgressMonitor monitor) {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, 2);
+		if (result.typeFound) {
+			fBuildState.cleanup(result.typeName);
 		}
+		fPendingDeltaInfos.clear();
+		IDelta delta = result.delta;
 		if (delta == null) {
 			return;
 		}
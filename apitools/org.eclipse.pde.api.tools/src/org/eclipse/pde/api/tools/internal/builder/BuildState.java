@@ -21,6 +21,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -31,9 +32,12 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.zip.CRC32;
 
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.Status;
@@ -43,10 +47,12 @@ import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.api.tools.internal.comparator.Delta;
+import org.eclipse.pde.api.tools.internal.problems.ApiProblemFactory;
 import org.eclipse.pde.api.tools.internal.model.ProjectComponent;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.comparator.IDelta;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.problems.IApiProblem;
 import org.eclipse.pde.api.tools.internal.util.Util;
 import org.eclipse.pde.core.build.IBuildEntry;
 import org.eclipse.pde.core.build.IBuildModel;
@@ -59,7 +65,29 @@ import org.eclipse.pde.core.build.IBuildModel;
 public class BuildState {
 	private static final IDelta[] EMPTY_DELTAS = new IDelta[0];
 	private static final String[] NO_REEXPORTED_COMPONENTS = new String[0];
-	private static final int VERSION = 33;
+	private static final int VERSION = 34;
+
+	/**
+	 * The CRC of the content of a library archive and the size and time stamp
+	 * of the archive it was computed for
+	 */
+	private record LibraryCRC(long length, long lastModified, long crc) {
+	}
+
+	/**
+	 * Cache of the library CRCs by absolute path of the archive
+	 */
+	private static final Map<String, LibraryCRC> fgLibraryCRCs = new ConcurrentHashMap<>();
+
+	/**
+	 * The problems reported by the tag validation of a compilation unit, the
+	 * modification stamp of the compilation unit and whether tags and
+	 * annotations were validated
+	 *
+	 * @since 1.3.600
+	 */
+	record TagValidation(long stamp, boolean tags, boolean annotations, IApiProblem[] problems) {
+	}
 
 	private final Map<String, Set<IDelta>> compatibleChanges;
 	private final Map<String, Set<IDelta>> breakingChanges;
@@ -78,6 +106,21 @@ public class BuildState {
 	private String[] reexportedComponents;
 	private Set<String> apiToolingDependentProjects;
 	private long buildpathCRC = -1L;
+	/**
+	 * Map of the project relative path of compilation units to the result of
+	 * their tag validation
+	 *
+	 * @since 1.3.600
+	 */
+	private final Map<String, TagValidation> tagValidations;
+	/**
+	 * Tag validations of the previous build state, reused by a full build for
+	 * the compilation units that did not change. They are not saved, so that
+	 * the validations of removed compilation units are dropped.
+	 *
+	 * @since 1.3.600
+	 */
+	private Map<String, TagValidation> previousTagValidations = Collections.emptyMap();
 
 	/**
 	 * Constructor
@@ -87,6 +130,7 @@ public class BuildState {
 		this.breakingChanges = new LinkedHashMap<>();
 		this.manifestChanges = new LinkedHashMap<>();
 		this.buildPropChanges = new LinkedHashMap<>();
+		this.tagValidations = new ConcurrentHashMap<>();
 	}
 
 	/**
@@ -132,29 +176,39 @@ public class BuildState {
 			for (int i = 0; i < count; i++) {
 				state.addApiToolingDependentProject(in.readUTF());
 			}
-			if (in.available() > 0) {
-				count = in.readInt();
-				if (count > 0) {
-					// read the saved headers
-					HashMap<String, String> map = new HashMap<>(count);
-					for (int i = 0; i < count; i++) {
-						String key = in.readUTF();
-						String value = in.readUTF();
-						map.put(key, value);
-					}
-					state.setManifestState(map);
+			count = in.readInt();
+			if (count > 0) {
+				// read the saved headers
+				HashMap<String, String> map = new HashMap<>(count);
+				for (int i = 0; i < count; i++) {
+					String key = in.readUTF();
+					String value = in.readUTF();
+					map.put(key, value);
 				}
-				count = in.readInt();
-				if (count > 0) {
-					// read the saved headers
-					HashMap<String, String> map = new LinkedHashMap<>(count);
-					for (int i = 0; i < count; i++) {
-						String key = in.readUTF();
-						String value = in.readUTF();
-						map.put(key, value);
-					}
-					state.setBuildPropertiesState(map);
+				state.setManifestState(map);
+			}
+			count = in.readInt();
+			if (count > 0) {
+				// read the saved headers
+				HashMap<String, String> map = new LinkedHashMap<>(count);
+				for (int i = 0; i < count; i++) {
+					String key = in.readUTF();
+					String value = in.readUTF();
+					map.put(key, value);
 				}
+				state.setBuildPropertiesState(map);
+			}
+			count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				String path = in.readUTF();
+				long stamp = in.readLong();
+				boolean tags = in.readBoolean();
+				boolean annotations = in.readBoolean();
+				IApiProblem[] problems = new IApiProblem[in.readInt()];
+				for (int j = 0; j < problems.length; j++) {
+					problems[j] = readProblem(in);
+				}
+				state.tagValidations.put(path, new TagValidation(stamp, tags, annotations, problems));
 			}
 			return state;
 		}
@@ -210,6 +264,89 @@ public class BuildState {
 			out.writeUTF(entry.getKey());
 			out.writeUTF(entry.getValue());
 		}
+		Map<String, TagValidation> validations = new LinkedHashMap<>(state.tagValidations);
+		out.writeInt(validations.size());
+		for (Entry<String, TagValidation> validation : validations.entrySet()) {
+			TagValidation value = validation.getValue();
+			out.writeUTF(validation.getKey());
+			out.writeLong(value.stamp());
+			out.writeBoolean(value.tags());
+			out.writeBoolean(value.annotations());
+			out.writeInt(value.problems().length);
+			for (IApiProblem problem : value.problems()) {
+				writeProblem(problem, out);
+			}
+		}
+	}
+
+	/**
+	 * Reads an {@link IApiProblem} written by
+	 * {@link #writeProblem(IApiProblem, DataOutputStream)}
+	 *
+	 * @param in the input stream to read the problem from
+	 * @return the reconstructed problem
+	 */
+	private static IApiProblem readProblem(DataInputStream in) throws IOException {
+		String resourcePath = in.readBoolean() ? in.readUTF() : null;
+		String typeName = in.readBoolean() ? in.readUTF() : null;
+		String[] messageArgs = new String[in.readInt()];
+		for (int i = 0; i < messageArgs.length; i++) {
+			messageArgs[i] = in.readUTF();
+		}
+		int length = in.readInt();
+		String[] argumentIds = new String[length];
+		Object[] arguments = new Object[length];
+		for (int i = 0; i < length; i++) {
+			argumentIds[i] = in.readUTF();
+			arguments[i] = in.readBoolean() ? Integer.valueOf(in.readInt()) : in.readUTF();
+		}
+		int lineNumber = in.readInt();
+		int charStart = in.readInt();
+		int charEnd = in.readInt();
+		int id = in.readInt();
+		return ApiProblemFactory.newApiProblem(resourcePath, typeName, messageArgs, argumentIds, arguments, lineNumber, charStart, charEnd, id);
+	}
+
+	/**
+	 * Writes an {@link IApiProblem} to the build state. Extra marker attribute
+	 * values are written as integers or strings.
+	 *
+	 * @param problem the problem to write
+	 * @param out the stream to write to
+	 */
+	private static void writeProblem(IApiProblem problem, DataOutputStream out) throws IOException {
+		writeOptionalString(problem.getResourcePath(), out);
+		writeOptionalString(problem.getTypeName(), out);
+		String[] messageArgs = problem.getMessageArguments();
+		out.writeInt(messageArgs.length);
+		for (String arg : messageArgs) {
+			out.writeUTF(String.valueOf(arg));
+		}
+		String[] argumentIds = problem.getExtraMarkerAttributeIds();
+		Object[] arguments = problem.getExtraMarkerAttributeValues();
+		int length = argumentIds == null || arguments == null ? 0 : Math.min(argumentIds.length, arguments.length);
+		out.writeInt(length);
+		for (int i = 0; i < length; i++) {
+			out.writeUTF(argumentIds[i]);
+			if (arguments[i] instanceof Integer value) {
+				out.writeBoolean(true);
+				out.writeInt(value.intValue());
+			} else {
+				out.writeBoolean(false);
+				out.writeUTF(String.valueOf(arguments[i]));
+			}
+		}
+		out.writeInt(problem.getLineNumber());
+		out.writeInt(problem.getCharStart());
+		out.writeInt(problem.getCharEnd());
+		out.writeInt(problem.getId());
+	}
+
+	private static void writeOptionalString(String value, DataOutputStream out) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeUTF(value);
+		}
 	}
 
 	/**
@@ -522,6 +659,72 @@ public class BuildState {
 		buildpathCRC = crc32;
 	}
 
+	/**
+	 * Returns the result of the tag validation of the compilation unit with
+	 * the given project relative path, from this state or from the previous
+	 * state of a full build.
+	 *
+	 * @param path the project relative path of the compilation unit
+	 * @return the tag validation or <code>null</code> if there is none
+	 * @since 1.3.600
+	 */
+	TagValidation getTagValidation(String path) {
+		TagValidation validation = tagValidations.get(path);
+		if (validation == null) {
+			validation = previousTagValidations.get(path);
+		}
+		return validation;
+	}
+
+	/**
+	 * Records the result of the tag validation of the compilation unit with
+	 * the given project relative path
+	 *
+	 * @param path the project relative path of the compilation unit
+	 * @param validation the result of the validation
+	 * @since 1.3.600
+	 */
+	void setTagValidation(String path, TagValidation validation) {
+		tagValidations.put(path, validation);
+	}
+
+	/**
+	 * Removes the result of the tag validation of the compilation unit with
+	 * the given project relative path, e.g. because the compilation unit was
+	 * removed
+	 *
+	 * @param path the project relative path of the compilation unit
+	 * @since 1.3.600
+	 */
+	void removeTagValidation(String path) {
+		tagValidations.remove(path);
+	}
+
+	/**
+	 * Returns the problems found by the tag validation of the compilation unit
+	 * with the given project relative path, as recorded in this state
+	 *
+	 * @param path the project relative path of the compilation unit
+	 * @return the problems or <code>null</code> if no validation is recorded
+	 *         for the compilation unit
+	 * @since 1.3.600
+	 */
+	IApiProblem[] getTagProblems(String path) {
+		TagValidation validation = tagValidations.get(path);
+		return validation == null ? null : validation.problems();
+	}
+
+	/**
+	 * Makes the tag validations of the given previous state available to the
+	 * full build using this state
+	 *
+	 * @param previous the state of the previous build
+	 * @since 1.3.600
+	 */
+	void setPreviousTagValidations(BuildState previous) {
+		previousTagValidations = previous.tagValidations;
+	}
+
 	/**
 	 * Return the last built state for the given project, or null if none
 	 */
@@ -638,6 +841,12 @@ public class BuildState {
 	/**
 	 * Computes and returns a CRC of the projects resolved build path, or -1 if
 	 * unknown.
+	 * <p>
+	 * The CRC covers the paths of the entries and the content of the library
+	 * archives, so that it changes when a library is replaced by another one
+	 * with the same path, and not when a library is only touched or copied
+	 * again, such as when the target platform is reloaded.
+	 * </p>
 	 *
 	 * @param project project
 	 * @return build path CRC or -1
@@ -649,6 +858,12 @@ public class BuildState {
 			CRC32 crc32 = new CRC32();
 			for (IClasspathEntry entry : classpath) {
 				crc32.update(entry.getPath().toPortableString().getBytes());
+				if (entry.getEntryKind() == IClasspathEntry.CPE_LIBRARY) {
+					long content = getLibraryCRC(entry.getPath());
+					for (int i = 0; i < Long.BYTES; i++) {
+						crc32.update((int) (content >>> (i * 8)));
+					}
+				}
 			}
 			return crc32.getValue();
 		} catch (JavaModelException e) {
@@ -656,4 +871,72 @@ public class BuildState {
 		}
 		return -1L;
 	}
+
+	/**
+	 * Returns the CRC of the content of the library archive at the given build
+	 * path location, or <code>0</code> for class folders, which are tracked by
+	 * resource deltas. The CRC is computed again only when the size or the time
+	 * stamp of the archive changed.
+	 *
+	 * @param path the path of a library entry
+	 * @return the CRC of the content of the library
+	 */
+	private static long getLibraryCRC(IPath path) {
+		IResource resource = ResourcesPlugin.getWorkspace().getRoot().findMember(path);
+		IPath location = resource != null ? resource.getLocation() : path;
+		if (location == null) {
+			return 0L;
+		}
+		File file = location.toFile();
+		if (!file.isFile()) {
+			return 0L;
+		}
+		long length = file.length();
+		long lastModified = file.lastModified();
+		String key = file.getAbsolutePath();
+		LibraryCRC cached = fgLibraryCRCs.get(key);
+		if (cached != null && cached.length() == length && cached.lastModified() == lastModified) {
+			return cached.crc();
+		}
+		CRC32 crc32 = new CRC32();
+		try (InputStream stream = new FileInputStream(file)) {
+			byte[] buffer = new byte[8192];
+			int read;
+			while ((read = stream.read(buffer)) != -1) {
+				crc32.update(buffer, 0, read);
+			}
+		} catch (IOException e) {
+			// fall back to the size and the time stamp, which is not cached
+			return length * 31 + lastModified;
+		}
+		fgLibraryCRCs.put(key, new LibraryCRC(length, lastModified, crc32.getValue()));
+		return crc32.getValue();
+	}
+
+	/**
+	 * Handles a change of the build path of the given project. If only the
+	 * resolved build path changed, for example because the target platform was
+	 * reloaded, and the content of the libraries is the same as in the last
+	 * built state, the state is kept so that the next build of the project is
+	 * incremental. Otherwise the last built state is discarded so that the
+	 * next build is a full build.
+	 *
+	 * @param project the project whose build path changed
+	 * @param resolvedOnly whether only the resolved build path changed, the
+	 *            raw build path being the same
+	 * @throws CoreException if the last built state could not be discarded
+	 * @since 1.3.600
+	 */
+	public static void buildPathChanged(IProject project, boolean resolvedOnly) throws CoreException {
+		if (resolvedOnly) {
+			BuildState state = getLastBuiltState(project);
+			if (state != null && state.getBuildPathCRC() != -1L && state.getBuildPathCRC() == computeBuildPathCRC(project)) {
+				if (ApiPlugin.DEBUG_BUILDER) {
+					System.out.println("BuildState: Keeping the last built state of " + project.getName() + " since the content of its libraries did not change"); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+				return;
+			}
+		}
+		setLastBuiltState(project, null);
+	}
 }
@@ -234,6 +234,13 @@ public class IncrementalApiBuilder {
 			for (IResourceDelta delta : deltas) {
 				delta.accept(visitor);
 			}
+			for (Change change : visitor.changes) {
+				// removed or renamed compilation units drop their tag
+				// validation, a renamed unit is validated under its new path
+				if (change.fileKind == JAVA__FILE && change.deltaKind == IResourceDelta.REMOVED && change.project.equals(project)) {
+					buildstate.removeTagValidation(change.resource.getProjectRelativePath().toPortableString());
+				}
+			}
 			buildContext(project, state, visitor.changes, depprojects);
 			build(project, baseline, wbaseline, state, buildstate, localmonitor.split(1));
 		} catch (OperationCanceledException oce) {
@@ -14,13 +14,22 @@
 package org.eclipse.pde.api.tools.internal.builder;
 
 import java.text.MessageFormat;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
 import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.pde.api.tools.internal.provisional.ApiDescriptionVisitor;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
@@ -45,9 +54,10 @@ import org.eclipse.pde.api.tools.internal.provisional.problems.IApiProblem;
 public class ReferenceAnalyzer {
 
 	/**
-	 * Natural log of 2.
+	 * System property setting the number of packages whose references are
+	 * extracted concurrently. References are extracted serially by default.
 	 */
-	private static final double LOG2 = Math.log(2);
+	private static final String PARALLELISM = "org.eclipse.pde.api.tools.referenceAnalysisParallelism"; //$NON-NLS-1$
 
 	/**
 	 * Empty result collection.
@@ -84,40 +94,7 @@ public class ReferenceAnalyzer {
 		public void visit(String packageName, IApiTypeRoot classFile) {
 			if (!fMonitor.isCanceled()) {
 				try {
-					IApiType type = classFile.getStructure();
-					if (type == null) {
-						// do nothing for bad class files
-						return;
-					}
-					// don't process inner/anonymous/local types, this is done
-					// in the extractor
-					if (type.isMemberType() || type.isLocal() || type.isAnonymous()) {
-						return;
-					}
-					List<IReference> references = type.extractReferences(fAllReferenceKinds, null);
-					// keep potential matches
-					for (IReference ref : references) {
-						if (fMonitor.isCanceled()) {
-							break;
-						}
-						// compute index of interested problem detectors
-						int index = getLog2(ref.getReferenceKind());
-						IApiProblemDetector[] detectors = fIndexedDetectors[index];
-						boolean added = false;
-						if (detectors != null) {
-							for (IApiProblemDetector detector : detectors) {
-								if (fMonitor.isCanceled()) {
-									break;
-								}
-								if (detector.considerReference(ref, fMonitor)) {
-									if (!added) {
-										fReferences.add(ref);
-										added = true;
-									}
-								}
-							}
-						}
-					}
+					considerReferences(extractReferences(classFile, fAllReferenceKinds), fMonitor);
 				} catch (CoreException e) {
 					fStatus.add(e.getStatus());
 					AbstractProblemDetector.checkIfDisposed(classFile.getApiComponent(), fMonitor);
@@ -126,6 +103,40 @@ public class ReferenceAnalyzer {
 		}
 	}
 
+	/**
+	 * Collects the class files of each package, to extract their references
+	 * concurrently.
+	 */
+	private static class PackageCollector extends ApiTypeContainerVisitor {
+
+		final List<List<IApiTypeRoot>> fPackages = new ArrayList<>();
+		private List<IApiTypeRoot> fCurrent = null;
+
+		@Override
+		public boolean visitPackage(String packageName) {
+			fCurrent = new ArrayList<>();
+			return true;
+		}
+
+		@Override
+		public void endVisitPackage(String packageName) {
+			fPackages.add(fCurrent);
+			fCurrent = null;
+		}
+
+		@Override
+		public void visit(String packageName, IApiTypeRoot classFile) {
+			fCurrent.add(classFile);
+		}
+	}
+
+	/**
+	 * The references extracted from a class file, or the status of the
+	 * failed extraction
+	 */
+	private record ClassFileReferences(IApiTypeRoot classFile, List<IReference> references, IStatus status) {
+	}
+
 	/**
 	 * Scan status
 	 */
@@ -139,7 +150,16 @@ public class ReferenceAnalyzer {
 	/**
 	 * List of references to consider/resolve.
 	 */
-	List<IReference> fReferences = new LinkedList<>();
+	List<IReference> fReferences = new ArrayList<>();
+
+	/**
+	 * The maximum number of packages whose references are extracted
+	 * concurrently, read from the
+	 * <code>org.eclipse.pde.api.tools.referenceAnalysisParallelism</code>
+	 * system property when the analyzer is created. A value of <code>1</code>
+	 * means the references are extracted serially.
+	 */
+	private final int fParallelism = Math.max(1, Integer.getInteger(PARALLELISM, 1));
 
 	/**
 	 * Problem detectors indexed by the log base 2 of each reference kind they
@@ -181,16 +201,65 @@ public class ReferenceAnalyzer {
 	}
 
 	/**
-	 * log 2 (x) = ln(x) / ln(2)
+	 * log 2 (x), the number of trailing zero bits of x
 	 *
 	 * @param bitConstant a single bit constant (0x1 << n)
 	 * @return log base 2 of the constant (the power of 2 the constant is equal
 	 *         to)
 	 */
 	int getLog2(int bitConstant) {
-		double logX = Math.log(bitConstant);
-		double pow = logX / LOG2;
-		return (int) Math.round(pow);
+		return bitConstant == 0 ? 0 : Integer.numberOfTrailingZeros(bitConstant);
+	}
+
+	/**
+	 * Extracts the references of the given kinds from the given class file.
+	 * This method does not use the state of this analyzer, so it can be called
+	 * concurrently for different class files.
+	 *
+	 * @param kinds the bit mask of the reference kinds to extract
+	 * @return the references, or an empty list for member, local and anonymous
+	 *         types which are processed with their top level type
+	 */
+	static List<IReference> extractReferences(IApiTypeRoot classFile, int kinds) throws CoreException {
+		IApiType type = classFile.getStructure();
+		if (type == null) {
+			// do nothing for bad class files
+			return Collections.emptyList();
+		}
+		// don't process inner/anonymous/local types, this is done
+		// in the extractor
+		if (type.isMemberType() || type.isLocal() || type.isAnonymous()) {
+			return Collections.emptyList();
+		}
+		return type.extractReferences(kinds, null);
+	}
+
+	/**
+	 * Hands the given references to the interested problem detectors, keeping
+	 * the references at least one of them considers.
+	 */
+	void considerReferences(List<IReference> references, IProgressMonitor monitor) {
+		for (IReference ref : references) {
+			if (monitor.isCanceled()) {
+				break;
+			}
+			// compute index of interested problem detectors
+			IApiProblemDetector[] detectors = fIndexedDetectors[getLog2(ref.getReferenceKind())];
+			boolean added = false;
+			if (detectors != null) {
+				for (IApiProblemDetector detector : detectors) {
+					if (monitor.isCanceled()) {
+						break;
+					}
+					if (detector.considerReference(ref, monitor)) {
+						if (!added) {
+							fReferences.add(ref);
+							added = true;
+						}
+					}
+				}
+			}
+		}
 	}
 
 	/**
@@ -204,10 +273,13 @@ public class ReferenceAnalyzer {
 		fStatus = new MultiStatus(ApiPlugin.PLUGIN_ID, 0, BuilderMessages.ReferenceAnalyzer_api_analysis_error, null);
 		String[] packageNames = scope.getPackageNames();
 		SubMonitor localMonitor = SubMonitor.convert(monitor, packageNames.length);
-		ApiTypeContainerVisitor visitor = new Visitor(localMonitor);
 		long start = System.currentTimeMillis();
 		try {
-			scope.accept(visitor);
+			if (fParallelism > 1 && packageNames.length > 1) {
+				extractReferencesInParallel(scope, localMonitor);
+			} else {
+				scope.accept(new Visitor(localMonitor));
+			}
 		} catch (CoreException e) {
 			fStatus.add(e.getStatus());
 		}
@@ -220,6 +292,81 @@ public class ReferenceAnalyzer {
 		}
 	}
 
+	/**
+	 * Extracts the references of each package of the given scope concurrently
+	 * in a bounded {@link ForkJoinPool}. The references and the failures are
+	 * handed over on the calling thread in the order of the class files, so
+	 * the problem detectors and the scan status see the same as with a serial
+	 * scan. The extraction tasks do not use the monitor or the state of this
+	 * analyzer, and only a few packages per thread are extracted ahead of the
+	 * detectors, so that the references of a large scope are not all held at
+	 * once.
+	 */
+	private void extractReferencesInParallel(IApiTypeContainer scope, SubMonitor monitor) throws CoreException {
+		PackageCollector collector = new PackageCollector();
+		scope.accept(collector);
+		List<List<IApiTypeRoot>> packages = collector.fPackages;
+		monitor.setWorkRemaining(packages.size());
+		int parallelism = Math.min(fParallelism, Math.max(1, packages.size()));
+		int window = parallelism * 2;
+		int kinds = fAllReferenceKinds;
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try {
+			Deque<ForkJoinTask<List<ClassFileReferences>>> pending = new ArrayDeque<>(window);
+			int next = 0;
+			while (next < packages.size() || !pending.isEmpty()) {
+				while (next < packages.size() && pending.size() < window) {
+					List<IApiTypeRoot> classFiles = packages.get(next++);
+					pending.add(pool.submit(() -> {
+						List<ClassFileReferences> result = new ArrayList<>(classFiles.size());
+						for (IApiTypeRoot classFile : classFiles) {
+							try {
+								result.add(new ClassFileReferences(classFile, extractReferences(classFile, kinds), null));
+							} catch (CoreException e) {
+								result.add(new ClassFileReferences(classFile, null, e.getStatus()));
+							}
+						}
+						return result;
+					}));
+				}
+				if (monitor.isCanceled()) {
+					throw new OperationCanceledException();
+				}
+				List<ClassFileReferences> result;
+				try {
+					result = pending.removeFirst().get();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new OperationCanceledException();
+				} catch (ExecutionException e) {
+					// fail as the serial scan would
+					Throwable cause = e.getCause();
+					if (cause instanceof RuntimeException runtimeException) {
+						throw runtimeException;
+					}
+					if (cause instanceof Error error) {
+						throw error;
+					}
+					throw new CoreException(Status.error(cause.getMessage(), cause));
+				}
+				for (ClassFileReferences references : result) {
+					if (monitor.isCanceled()) {
+						break;
+					}
+					if (references.status() == null) {
+						considerReferences(references.references(), monitor);
+					} else {
+						fStatus.add(references.status());
+						AbstractProblemDetector.checkIfDisposed(references.classFile().getApiComponent(), monitor);
+					}
+				}
+				monitor.split(1);
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
 	/**
 	 * Analyzes the given {@link IApiComponent} within the given
 	 * {@link IApiTypeContainer} (scope) and returns a collection of detected
@@ -18,6 +18,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.Stack;
@@ -278,7 +279,7 @@ public class ReferenceExtractor extends ClassVisitor {
 				default -> -1;
 			};
 			if (refType != -1) {
-				Reference reference = ReferenceExtractor.this.addFieldReference(Type.getObjectType(owner), name, refType);
+				Reference reference = ReferenceExtractor.this.addFieldReference(owner, name, refType);
 				if (reference != null) {
 					this.linePositionTracker.addLocation(reference);
 					if (refType == IReference.REF_GETFIELD || refType == IReference.REF_PUTFIELD) {
@@ -291,8 +292,7 @@ public class ReferenceExtractor extends ClassVisitor {
 		@Override
 		public void visitTryCatchBlock(Label start, Label end, Label handler, String type) {
 			if (type != null) {
-				Type ctype = Type.getObjectType(type);
-				Reference reference = ReferenceExtractor.this.addTypeReference(ctype, IReference.REF_CATCHEXCEPTION);
+				Reference reference = ReferenceExtractor.this.addTypeReference(type, IReference.REF_CATCHEXCEPTION);
 				if (reference != null) {
 					this.linePositionTracker.addCatchLabelInfos(reference, handler);
 					this.linePositionTracker.addLocation(reference);
@@ -318,18 +318,17 @@ public class ReferenceExtractor extends ClassVisitor {
 
 		@Override
 		public void visitMethodInsn(int opcode, String owner, String name, String desc, boolean inf) {
-			Type declaringType = Type.getObjectType(owner);
 			int kind = -1;
 			int flags = 0;
 			switch (opcode) {
 				case Opcodes.INVOKESPECIAL -> {
 					kind = ("<init>".equals(name) ? IReference.REF_CONSTRUCTORMETHOD : IReference.REF_SPECIALMETHOD); //$NON-NLS-1$
 					if (kind == IReference.REF_CONSTRUCTORMETHOD) {
-						if (!implicitConstructor && this.methodName.equals("<init>") && !fSuperStack.isEmpty() && (fSuperStack.peek()).equals(declaringType.getClassName())) { //$NON-NLS-1$
+						if (!implicitConstructor && this.methodName.equals("<init>") && !fSuperStack.isEmpty() && (fSuperStack.peek()).equals(ReferenceExtractor.this.resolveTypeName(owner))) { //$NON-NLS-1$
 							implicitConstructor = true;
 							kind = IReference.REF_SUPER_CONSTRUCTORMETHOD;
 						} else {
-							Reference reference = ReferenceExtractor.this.addTypeReference(declaringType, IReference.REF_INSTANTIATE);
+							Reference reference = ReferenceExtractor.this.addTypeReference(owner, IReference.REF_INSTANTIATE);
 							if (reference != null) {
 								this.linePositionTracker.addLocation(reference);
 							}
@@ -360,39 +359,8 @@ public class ReferenceExtractor extends ClassVisitor {
 				case Opcodes.INVOKEVIRTUAL -> {
 					kind = IReference.REF_VIRTUALMETHOD;
 					// try to determine if this is a default method
-					if (fVersion >= Opcodes.V1_8) {
-						IApiMember member = ReferenceExtractor.this.getMember();
-						if (member != null) {
-							try {
-								IApiComponent comp = fType.getApiComponent();
-								if (comp != null) {
-									String owner_sig = processName(owner);
-									AbstractApiTypeRoot root = (AbstractApiTypeRoot) comp.findTypeRoot(owner_sig);
-									if (root == null) {
-										// a quick look did not find it, now ask
-										// for the components that provide the
-										// package
-										IApiBaseline baseline = comp.getBaseline();
-										IApiComponent[] comps = baseline.resolvePackage(comp, Signatures.getPackageName(owner_sig));
-										for (IApiComponent c : comps) {
-											root = (AbstractApiTypeRoot) c.findTypeRoot(owner_sig);
-											if (root != null) {
-												break;
-											}
-										}
-									}
-									if (root != null) {
-										IApiType type = root.getStructure();
-										if (type != null && (!"<init>".equals(name)) //$NON-NLS-1$
-												&& getDefaultDefined(type, name, desc, false) != null) {
-											flags = IReference.F_DEFAULT_METHOD;
-										}
-									}
-								}
-							} catch (CoreException ce) {
-								// do nothing, give up
-							}
-						}
+					if (fVersion >= Opcodes.V1_8 && ReferenceExtractor.this.getMember() != null && ReferenceExtractor.this.isDefaultMethod(owner, name, desc)) {
+						flags = IReference.F_DEFAULT_METHOD;
 					}
 				}
 				case Opcodes.INVOKEINTERFACE -> {
@@ -401,7 +369,7 @@ public class ReferenceExtractor extends ClassVisitor {
 				default -> { /**/ }
 			}
 			if (kind != -1) {
-				Reference reference = ReferenceExtractor.this.addMethodReference(declaringType, name, desc, kind, flags);
+				Reference reference = ReferenceExtractor.this.addMethodReference(owner, name, desc, kind, flags);
 				if (reference != null) {
 					this.linePositionTracker.addLocation(reference);
 					if (kind == IReference.REF_STATICMETHOD) {
@@ -416,8 +384,7 @@ public class ReferenceExtractor extends ClassVisitor {
 		public void visitInvokeDynamicInsn(String name, String desc, Handle bsm, Object... bsmArgs) {
 			for (Object arg : bsmArgs) {
 				if (arg instanceof Handle handle) {
-					Type declaringType = Type.getObjectType(handle.getOwner());
-					Reference reference = ReferenceExtractor.this.addMethodReference(declaringType, handle.getName(), handle.getDesc(), IReference.REF_VIRTUALMETHOD, 0);
+					Reference reference = ReferenceExtractor.this.addMethodReference(handle.getOwner(), handle.getName(), handle.getDesc(), IReference.REF_VIRTUALMETHOD, 0);
 					if (reference != null) {
 						this.linePositionTracker.addLocation(reference);
 					}
@@ -876,6 +843,26 @@ public class ReferenceExtractor extends ClassVisitor {
 	 */
 	HashMap<String, List<Reference>> fAnonymousTypes = new HashMap<>();
 
+	/**
+	 * Class names of the referenced types by internal name, shared with the
+	 * extractors of the inner classes so that all references to a type share
+	 * the same name. Types that are not referenced (primitive types) are
+	 * mapped to <code>null</code>.
+	 */
+	private Map<String, String> fTypeNames = new HashMap<>();
+
+	/**
+	 * Whether the referenced methods are default methods, by owner, name and
+	 * descriptor
+	 */
+	private final Map<MethodKey, Boolean> fDefaultMethods = new HashMap<>();
+
+	/**
+	 * Key of a referenced method
+	 */
+	private record MethodKey(String owner, String name, String desc) {
+	}
+
 	/**
 	 * Whether to extract references to elements within the classfile being
 	 * scanned.
@@ -1044,38 +1031,52 @@ public class ReferenceExtractor extends ClassVisitor {
 	}
 
 	/**
-	 * Adds a reference to the given field from the current member. Discards the
-	 * reference if the field is defined in the class file being scanned.
+	 * Adds a reference to the type with the given internal name from the
+	 * current member.
 	 *
-	 * @param declaringType type declaring the field being referenced
+	 * @param internalName internal name of the referenced type
+	 * @param kind kind of reference
+	 * @return reference added, or <code>null</code> if none
+	 * @see #addTypeReference(Type, int)
+	 */
+	protected Reference addTypeReference(String internalName, int kind) {
+		String typeName = resolveTypeName(internalName);
+		if (typeName != null) {
+			return addReference(Reference.typeReference(getMember(), typeName, kind));
+		}
+		return null;
+	}
+
+	/**
+	 * Adds a reference to the given field from the current member.
+	 *
+	 * @param owner internal name of the type declaring the field
 	 * @param name of the field being referenced
 	 * @param kind kind of reference
 	 * @return reference added, or <code>null</code> if none
 	 */
-	protected Reference addFieldReference(Type declaringType, String name, int kind) {
-		Type rtype = this.resolveType(declaringType.getDescriptor());
-		if (rtype != null) {
-			return addReference(Reference.fieldReference(getMember(), rtype.getClassName(), name, kind));
+	protected Reference addFieldReference(String owner, String name, int kind) {
+		String typeName = resolveTypeName(owner);
+		if (typeName != null) {
+			return addReference(Reference.fieldReference(getMember(), typeName, name, kind));
 		}
 		return null;
 	}
 
 	/**
-	 * Adds a reference to the given method from the current member. Discards
-	 * the reference if the method is defined in the class file being scanned.
+	 * Adds a reference to the given method from the current member.
 	 *
-	 * @param declaringType type declaring the method (but could be a virtual
-	 *            lookup)
+	 * @param owner internal name of the type declaring the method
 	 * @param name of the method being referenced
 	 * @param signature signature of the method
 	 * @param kind kind of reference
 	 * @param flags the flags for the reference
 	 * @return reference added, or <code>null</code> if none
 	 */
-	protected Reference addMethodReference(Type declaringType, String name, String signature, int kind, int flags) {
-		Type rtype = this.resolveType(declaringType.getDescriptor());
-		if (rtype != null) {
-			return this.addReference(Reference.methodReference(getMember(), rtype.getClassName(), name, signature, kind, flags));
+	protected Reference addMethodReference(String owner, String name, String signature, int kind, int flags) {
+		String typeName = resolveTypeName(owner);
+		if (typeName != null) {
+			return this.addReference(Reference.methodReference(getMember(), typeName, name, signature, kind, flags));
 		}
 		return null;
 	}
@@ -1150,6 +1151,65 @@ public class ReferenceExtractor extends ClassVisitor {
 		return null;
 	}
 
+	/**
+	 * Returns the class name of the type with the given internal name, or
+	 * <code>null</code> if it is not a reference type. Names are computed once
+	 * per type.
+	 *
+	 * @param internalName the internal name of a type or the descriptor of an
+	 *            array type
+	 * @return the '.' separated name of the type or of the element type of the
+	 *         array
+	 */
+	protected String resolveTypeName(String internalName) {
+		String typeName = fTypeNames.get(internalName);
+		if (typeName == null && !fTypeNames.containsKey(internalName)) {
+			Type type = resolveType(Type.getObjectType(internalName).getDescriptor());
+			typeName = type != null ? type.getClassName() : null;
+			fTypeNames.put(internalName, typeName);
+		}
+		return typeName;
+	}
+
+	/**
+	 * Returns whether the given virtual method call targets a default method.
+	 * The result is computed once per owner, name and descriptor.
+	 */
+	boolean isDefaultMethod(String owner, String name, String desc) {
+		return fDefaultMethods.computeIfAbsent(new MethodKey(owner, name, desc), key -> Boolean.valueOf(findDefaultMethod(owner, name, desc))).booleanValue();
+	}
+
+	private boolean findDefaultMethod(String owner, String name, String desc) {
+		try {
+			IApiComponent comp = fType.getApiComponent();
+			if (comp != null) {
+				String owner_sig = processName(owner);
+				AbstractApiTypeRoot root = (AbstractApiTypeRoot) comp.findTypeRoot(owner_sig);
+				if (root == null) {
+					// a quick look did not find it, now ask
+					// for the components that provide the
+					// package
+					IApiBaseline baseline = comp.getBaseline();
+					IApiComponent[] comps = baseline.resolvePackage(comp, Signatures.getPackageName(owner_sig));
+					for (IApiComponent c : comps) {
+						root = (AbstractApiTypeRoot) c.findTypeRoot(owner_sig);
+						if (root != null) {
+							break;
+						}
+					}
+				}
+				if (root != null) {
+					IApiType type = root.getStructure();
+					return type != null && (!"<init>".equals(name)) //$NON-NLS-1$
+							&& getDefaultDefined(type, name, desc, false) != null;
+				}
+			}
+		} catch (CoreException ce) {
+			// do nothing, give up
+		}
+		return false;
+	}
+
 	@Override
 	public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
 		this.fVersion = version;
@@ -1274,6 +1334,7 @@ public class ReferenceExtractor extends ClassVisitor {
 	private Set<Reference> processInnerClass(IApiType type, int refkinds) throws CoreException {
 		HashSet<Reference> refs = new HashSet<>();
 		ReferenceExtractor extractor = new ReferenceExtractor(type, refs, refkinds, this.fieldtracker);
+		extractor.fTypeNames = this.fTypeNames;
 		ClassReader reader = new ClassReader(((AbstractApiTypeRoot) type.getTypeRoot()).getContents());
 		reader.accept(extractor, ClassReader.SKIP_FRAMES);
 		return refs;
@@ -46,11 +46,11 @@ public final class ReferenceResolver {
 	public static void resolveReferences(List<IReference> references) throws CoreException {
 		// sort references by target type for 'shared' resolution
 		int refcount = references.size();
-		Map<String, List<IReference>> sigtoref = new LinkedHashMap<>(refcount);
+		Map<SignatureKey, List<IReference>> sigtoref = new LinkedHashMap<>(refcount);
 
 		List<IReference> refs = null;
-		String key = null;
-		List<Reference> methodDecls = new ArrayList<>(refcount);
+		SignatureKey key = null;
+		List<Reference> methodDecls = new ArrayList<>();
 		long start = System.currentTimeMillis();
 		for (IReference ref : references) {
 			if (ref.getReferenceKind() == IReference.REF_OVERRIDE) {
@@ -59,7 +59,7 @@ public final class ReferenceResolver {
 				key = createSignatureKey(ref);
 				refs = sigtoref.get(key);
 				if (refs == null) {
-					refs = new ArrayList<>(20);
+					refs = new ArrayList<>(2);
 					sigtoref.put(key, refs);
 				}
 				refs.add(ref);
@@ -94,7 +94,7 @@ public final class ReferenceResolver {
 	 * @param map the mapping of keys to sets of {@link IReference}s
 	 * @throws CoreException if something bad happens
 	 */
-	private static void resolveReferenceSets(Map<String, List<IReference>> map) throws CoreException {
+	private static void resolveReferenceSets(Map<SignatureKey, List<IReference>> map) throws CoreException {
 		IReference ref = null;
 		for (List<IReference> refs : map.values()) {
 			ref = refs.get(0);
@@ -109,31 +109,28 @@ public final class ReferenceResolver {
 	}
 
 	/**
-	 * Creates a unique string key for a given reference. The key is of the form
-	 * "component X references type/member"
-	 *
-	 * <pre>
-	 * [component_id]#[type_name](#[member_name]#[member_signature])
-	 * </pre>
+	 * Unique key of the target of a reference, of the form "component X
+	 * references type/member". The member name and signature are
+	 * <code>null</code> for type references and the signature is
+	 * <code>null</code> for field references.
+	 */
+	private record SignatureKey(String componentId, String typeName, String memberName, String signature) {
+	}
+
+	/**
+	 * Creates a unique key for a given reference. Only the strings already held
+	 * by the reference are used, no key string is built.
 	 *
 	 * @param reference reference
-	 * @return a string key for the given reference.
+	 * @return a key for the given reference.
 	 */
-	private static String createSignatureKey(IReference reference) {
-		StringBuilder buffer = new StringBuilder();
-		buffer.append(reference.getMember().getApiComponent().getSymbolicName());
-		buffer.append("#"); //$NON-NLS-1$
-		buffer.append(reference.getReferencedTypeName());
-		if (reference.getReferenceType() == IReference.T_FIELD_REFERENCE) {
-			buffer.append("#"); //$NON-NLS-1$
-			buffer.append(reference.getReferencedMemberName());
-
-		} else if (reference.getReferenceType() == IReference.T_METHOD_REFERENCE) {
-			buffer.append("#"); //$NON-NLS-1$
-			buffer.append(reference.getReferencedMemberName());
-			buffer.append("#"); //$NON-NLS-1$
-			buffer.append(reference.getReferencedSignature());
-		}
-		return buffer.toString();
+	private static SignatureKey createSignatureKey(IReference reference) {
+		String componentId = reference.getMember().getApiComponent().getSymbolicName();
+		return switch (reference.getReferenceType())
+			{
+			case IReference.T_FIELD_REFERENCE -> new SignatureKey(componentId, reference.getReferencedTypeName(), reference.getReferencedMemberName(), null);
+			case IReference.T_METHOD_REFERENCE -> new SignatureKey(componentId, reference.getReferencedTypeName(), reference.getReferencedMemberName(), reference.getReferencedSignature());
+			default -> new SignatureKey(componentId, reference.getReferencedTypeName(), null, null);
+			};
 	}
 }
@@ -44,6 +44,16 @@ public abstract class AbstractApiTypeRoot extends ApiElement implements IApiType
 
 	public abstract byte[] getContents() throws CoreException;
 
+	/**
+	 * Builds the type structure of this type root from its contents
+	 *
+	 * @return the type structure or <code>null</code> if the contents are
+	 *         not a valid class file
+	 */
+	protected IApiType buildStructure() throws CoreException {
+		return TypeStructureBuilder.buildTypeStructure(getContents(), getApiComponent(), this);
+	}
+
 	@Override
 	public IApiType getStructure() throws CoreException {
 		// if exists return
@@ -59,7 +69,7 @@ public abstract class AbstractApiTypeRoot extends ApiElement implements IApiType
 			type = (IApiType) cache.getElementInfo(baseline.getName(), comp.getSymbolicName(), this.getTypeName(), IApiElement.TYPE);
 		}
 		if (type == null) {
-			type = TypeStructureBuilder.buildTypeStructure(getContents(), getApiComponent(), this);
+			type = buildStructure();
 			if (type == null) {
 				return null;
 			}
@@ -362,8 +362,12 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 			return;
 		}
 		HashSet<String> ees = new HashSet<>();
-		for (IApiComponent apiComponent : components) {
-			BundleComponent component = (BundleComponent) apiComponent;
+		// load the manifests that are not loaded yet concurrently, only the
+		// state updates are serial
+		BundleComponent[] bundles = new BundleComponent[components.length];
+		System.arraycopy(components, 0, bundles, 0, components.length);
+		ApiModelFactory.validateBundles(bundles, null);
+		for (BundleComponent component : bundles) {
 			if (component.isSourceComponent()) {
 				continue;
 			}
@@ -14,10 +14,11 @@
 package org.eclipse.pde.api.tools.internal.model;
 
 import java.util.List;
+import java.util.function.ToIntFunction;
 
 import org.eclipse.core.runtime.CoreException;
-import org.eclipse.jdt.internal.core.util.LRUCache;
-import org.eclipse.pde.api.tools.internal.SynchronizedOverflowingLRUCache;
+import org.eclipse.pde.api.tools.internal.StripedLRUCache;
+import org.eclipse.pde.api.tools.internal.StripedLRUCache.Statistics;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
@@ -33,33 +34,41 @@ public final class ApiModelCache {
 	/**
 	 * Cache used for {@link IApiElement}s
 	 */
-	static class Cache<K, V> extends SynchronizedOverflowingLRUCache<K, V> {
+	static class Cache<K, V> extends StripedLRUCache<K, V> {
 
 		/**
-		 * Constructor
+		 * Constructor for a cache bounded by the weight of its elements
 		 */
-		public Cache(int size, int overflow) {
-			super(size, overflow);
+		public Cache(long maxWeight, ToIntFunction<? super V> weigher, Statistics statistics) {
+			super(maxWeight, weigher, statistics);
 		}
 
-		@Override
-		protected boolean close(LRUCacheEntry<K, V> entry) {
-			return true;
-		}
-
-		@Override
-		protected LRUCache<K, V> newInstance(int size, int newOverflow) {
-			return new Cache<>(size, newOverflow);
+		/**
+		 * Constructor for a cache bounded by its number of entries
+		 */
+		public Cache(int size, Statistics statistics) {
+			super(size, statistics);
 		}
-
 	}
 
-	static final int DEFAULT_CACHE_SIZE = 1000;
-	static final int DEFAULT_OVERFLOW = (int) (DEFAULT_CACHE_SIZE * 0.1f);
+	/**
+	 * Maximum weight of the cached types of one component, where the weight of
+	 * a type is one plus its number of fields and methods. Can be set with the
+	 * <code>org.eclipse.pde.api.tools.modelCacheWeight</code> system property.
+	 */
+	static final long DEFAULT_CACHE_WEIGHT = Long.getLong("org.eclipse.pde.api.tools.modelCacheWeight", 40000); //$NON-NLS-1$
+	static final int DEFAULT_BASELINE_COUNT = 8;
+	static final int DEFAULT_COMPONENT_COUNT = 500;
+	static final int DEFAULT_MEMBER_ROOT_COUNT = 1000;
 	static ApiModelCache fInstance = null;
 
-	Cache<String, Cache<String, Cache<String, IApiElement>>> fRootCache;
-	Cache<String, Cache<String, ApiType>> fMemberTypeCache;
+	/**
+	 * Eviction counter of all the caches, and hit and miss counters of
+	 * {@link #getElementInfo(String, String, String, int)}
+	 */
+	final Statistics fStatistics = new Statistics();
+	final Cache<String, Cache<String, Cache<String, IApiElement>>> fRootCache = new Cache<>(DEFAULT_BASELINE_COUNT, fStatistics);
+	final Cache<String, Cache<String, ApiType>> fMemberTypeCache = new Cache<>(DEFAULT_MEMBER_ROOT_COUNT, fStatistics);
 
 	/**
 	 * Constructor - no instantiation
@@ -103,9 +112,6 @@ public final class ApiModelCache {
 	public void cacheElementInfo(IApiElement element) throws CoreException {
 		switch (element.getType()) {
 			case IApiElement.TYPE: {
-				if (fRootCache == null) {
-					fRootCache = new Cache<>(DEFAULT_CACHE_SIZE / 150, DEFAULT_OVERFLOW / 150);
-				}
 				IApiComponent comp = element.getApiComponent();
 				if (comp != null) {
 					IApiBaseline baseline = comp.getBaseline();
@@ -113,15 +119,13 @@ public final class ApiModelCache {
 					if (id == null) {
 						return;
 					}
-					Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baseline.getName());
+					Cache<String, Cache<String, IApiElement>> compcache = fRootCache.peek(baseline.getName());
 					if (compcache == null) {
-						compcache = new Cache<>(DEFAULT_CACHE_SIZE / 2, DEFAULT_OVERFLOW / 2);
-						fRootCache.put(baseline.getName(), compcache);
+						compcache = fRootCache.putIfAbsent(baseline.getName(), new Cache<>(DEFAULT_COMPONENT_COUNT, fStatistics));
 					}
-					Cache<String, IApiElement> typecache = compcache.get(id);
+					Cache<String, IApiElement> typecache = compcache.peek(id);
 					if (typecache == null) {
-						typecache = new Cache<>(DEFAULT_CACHE_SIZE * 2, DEFAULT_OVERFLOW);
-						compcache.put(comp.getSymbolicName(), typecache);
+						typecache = compcache.putIfAbsent(id, new Cache<>(DEFAULT_CACHE_WEIGHT, ApiModelCache::getWeight, fStatistics));
 					}
 					ApiType type = (ApiType) element;
 					if (type.isMemberType() || isMemberType(type.getName()) /*
@@ -140,14 +144,10 @@ public final class ApiModelCache {
 																			 * as
 																			 * well
 																			 */) {
-						if (this.fMemberTypeCache == null) {
-							this.fMemberTypeCache = new Cache<>(DEFAULT_CACHE_SIZE, DEFAULT_OVERFLOW);
-						}
 						String key = getCacheKey(baseline.getName(), id, getRootName(type.getName()));
-						Cache<String, ApiType> mcache = this.fMemberTypeCache.get(key);
+						Cache<String, ApiType> mcache = this.fMemberTypeCache.peek(key);
 						if (mcache == null) {
-							mcache = new Cache<>(DEFAULT_CACHE_SIZE, DEFAULT_OVERFLOW);
-							this.fMemberTypeCache.put(key, mcache);
+							mcache = this.fMemberTypeCache.putIfAbsent(key, new Cache<>(DEFAULT_CACHE_WEIGHT / 4, ApiModelCache::getWeight, fStatistics));
 						}
 						mcache.put(type.getName(), type);
 					} else {
@@ -175,6 +175,19 @@ public final class ApiModelCache {
 		return typename;
 	}
 
+	/**
+	 * Returns the weight of the given element in the caches
+	 *
+	 * @return one plus the number of fields and methods for a type,
+	 *         <code>1</code> otherwise
+	 */
+	static int getWeight(IApiElement element) {
+		if (element instanceof ApiType type) {
+			return 1 + type.getMemberCount();
+		}
+		return 1;
+	}
+
 	/**
 	 * Method to see if the type boundary char appears in the type name
 	 *
@@ -203,28 +216,32 @@ public final class ApiModelCache {
 		if (baselineid == null || componentid == null) {
 			return null;
 		}
+		// the nested caches are read with peek so that each lookup is counted
+		// once, whatever the number of caches it went through
+		IApiElement element = lookupElementInfo(baselineid, componentid, identifier, type);
+		fStatistics.recordLookup(element != null);
+		return element;
+	}
+
+	private IApiElement lookupElementInfo(String baselineid, String componentid, String identifier, int type) {
 		switch (type) {
 			case IApiElement.TYPE: {
 				if (isMemberType(identifier)) {
-					if (this.fMemberTypeCache != null) {
-						Cache<String, ApiType> mcache = this.fMemberTypeCache
-								.get(getCacheKey(baselineid, componentid, getRootName(identifier)));
-						if (mcache != null) {
-							return mcache.get(identifier);
-						}
+					Cache<String, ApiType> mcache = this.fMemberTypeCache
+							.peek(getCacheKey(baselineid, componentid, getRootName(identifier)));
+					if (mcache != null) {
+						return mcache.peek(identifier);
 					}
 				} else {
-					if (this.fRootCache != null) {
-						Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baselineid);
-						if (compcache != null) {
-							Cache<String, IApiElement> typecache = compcache.get(componentid);
-							if (typecache != null && identifier != null) {
-								IApiElement ele = typecache.get(identifier);
-								if (ele != null) {
-									return ele;
-								}
-
+					Cache<String, Cache<String, IApiElement>> compcache = fRootCache.peek(baselineid);
+					if (compcache != null) {
+						Cache<String, IApiElement> typecache = compcache.peek(componentid);
+						if (typecache != null && identifier != null) {
+							IApiElement ele = typecache.peek(identifier);
+							if (ele != null) {
+								return ele;
 							}
+
 						}
 					}
 				}
@@ -233,7 +250,7 @@ public final class ApiModelCache {
 			default:
 				break;
 			}
-		if (componentid.startsWith("JavaSE-") && this.fRootCache != null) { //$NON-NLS-1$
+		if (componentid.startsWith("JavaSE-")) { //$NON-NLS-1$
 			// for system component, retrieve element from any baseline instead
 			// of recreating the structure and caching the equivalent element info
 			IApiElement element = getElementInfoFromAnyBaseline(baselineid, componentid, identifier);
@@ -250,11 +267,11 @@ public final class ApiModelCache {
 				if (otherBaselines.equals(baselineid)) {
 					continue;
 				}
-				Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(otherBaselines);
+				Cache<String, Cache<String, IApiElement>> compcache = fRootCache.peek(otherBaselines);
 				if (compcache != null) {
-					Cache<String, IApiElement> typecache = compcache.get(componentid);
+					Cache<String, IApiElement> typecache = compcache.peek(componentid);
 					if (typecache != null && updatedIdentifier != null) {
-						IApiElement ele = typecache.get(updatedIdentifier);
+						IApiElement ele = typecache.peek(updatedIdentifier);
 						if (ele != null) {
 							return ele;
 						}
@@ -284,42 +301,36 @@ public final class ApiModelCache {
 				if (componentid != null && identifier != null) {
 					boolean removed = true;
 					// clean member type cache
-					if (this.fMemberTypeCache != null) {
-						if (isMemberType(identifier)) {
-							Cache<String, ApiType> mcache = this.fMemberTypeCache.get(getCacheKey(baselineid, componentid, getRootName(identifier)));
-							if (mcache != null) {
-								return mcache.remove(identifier) != null;
-							}
-						} else {
-							this.fMemberTypeCache.remove(getCacheKey(baselineid, componentid, getRootName(identifier)));
+					if (isMemberType(identifier)) {
+						Cache<String, ApiType> mcache = this.fMemberTypeCache.peek(getCacheKey(baselineid, componentid, getRootName(identifier)));
+						if (mcache != null) {
+							return mcache.remove(identifier) != null;
 						}
+					} else {
+						this.fMemberTypeCache.remove(getCacheKey(baselineid, componentid, getRootName(identifier)));
 					}
-					if (fRootCache != null) {
-						Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baselineid);
-						if (compcache != null) {
-							Cache<String, IApiElement> typecache = compcache.get(componentid);
-							if (typecache != null) {
-								removed &= typecache.remove(identifier) != null;
-								if (typecache.isEmpty()) {
-									removed &= compcache.remove(componentid) != null;
-								}
-								if (compcache.isEmpty()) {
-									removed &= fRootCache.remove(baselineid) != null;
-								}
-								return removed;
+					Cache<String, Cache<String, IApiElement>> compcache = fRootCache.peek(baselineid);
+					if (compcache != null) {
+						Cache<String, IApiElement> typecache = compcache.peek(componentid);
+						if (typecache != null) {
+							removed &= typecache.remove(identifier) != null;
+							if (typecache.isEmpty()) {
+								removed &= compcache.remove(componentid) != null;
 							}
-
+							if (compcache.isEmpty()) {
+								removed &= fRootCache.remove(baselineid) != null;
+							}
+							return removed;
 						}
-					} else {
-						return false;
+
 					}
 				}
 				break;
 			}
 			case IApiElement.COMPONENT: {
 				flushMemberCache();
-				if (fRootCache != null && componentid != null) {
-					Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baselineid);
+				if (componentid != null) {
+					Cache<String, Cache<String, IApiElement>> compcache = fRootCache.peek(baselineid);
 					if (compcache != null) {
 						boolean removed = compcache.remove(componentid) != null;
 						if (compcache.isEmpty()) {
@@ -332,10 +343,7 @@ public final class ApiModelCache {
 			}
 			case IApiElement.BASELINE: {
 				flushMemberCache();
-				if (fRootCache != null) {
-					return fRootCache.remove(baselineid) != null;
-				}
-				break;
+				return fRootCache.remove(baselineid) != null;
 			}
 			default:
 				break;
@@ -356,26 +364,21 @@ public final class ApiModelCache {
 		switch (element.getType()) {
 			case IApiElement.COMPONENT:
 			case IApiElement.TYPE: {
-				if (fRootCache != null) {
-					IApiComponent comp = element.getApiComponent();
-					if (comp != null) {
-						try {
-							IApiBaseline baseline = comp.getBaseline();
-							return removeElementInfo(baseline.getName(), comp.getSymbolicName(), element.getName(), element.getType());
-						} catch (CoreException ce) {
-							ApiPlugin.log("Failed to remove element info for " + comp.getName(), ce); //$NON-NLS-1$
-						}
+				IApiComponent comp = element.getApiComponent();
+				if (comp != null) {
+					try {
+						IApiBaseline baseline = comp.getBaseline();
+						return removeElementInfo(baseline.getName(), comp.getSymbolicName(), element.getName(), element.getType());
+					} catch (CoreException ce) {
+						ApiPlugin.log("Failed to remove element info for " + comp.getName(), ce); //$NON-NLS-1$
 					}
 				}
 				break;
 			}
 			case IApiElement.BASELINE: {
 				flushMemberCache();
-				if (fRootCache != null) {
-					IApiBaseline baseline = (IApiBaseline) element;
-					return fRootCache.remove(baseline.getName()) != null;
-				}
-				break;
+				IApiBaseline baseline = (IApiBaseline) element;
+				return fRootCache.remove(baseline.getName()) != null;
 			}
 			default:
 				break;
@@ -387,9 +390,7 @@ public final class ApiModelCache {
 	 * Clears out all cached information.
 	 */
 	public void flushCaches() {
-		if (fRootCache != null) {
-			fRootCache.flush();
-		}
+		fRootCache.flush();
 		flushMemberCache();
 	}
 
@@ -397,9 +398,7 @@ public final class ApiModelCache {
 	 * Flushes the cache of member types
 	 */
 	private void flushMemberCache() {
-		if (this.fMemberTypeCache != null) {
-			this.fMemberTypeCache.flush();
-		}
+		this.fMemberTypeCache.flush();
 	}
 
 	/**
@@ -408,13 +407,17 @@ public final class ApiModelCache {
 	 * @return true if the cache has no entries, false otherwise
 	 */
 	public boolean isEmpty() {
-		boolean empty = true;
-		if (fRootCache != null) {
-			empty &= fRootCache.isEmpty();
-		}
-		if (this.fMemberTypeCache != null) {
-			empty &= this.fMemberTypeCache.isEmpty();
-		}
-		return empty;
+		return fRootCache.isEmpty() && this.fMemberTypeCache.isEmpty();
+	}
+
+	/**
+	 * Returns the hit and miss counters of
+	 * {@link #getElementInfo(String, String, String, int)}, which count each
+	 * lookup once, and the eviction counter of all the caches
+	 *
+	 * @return the counters of the caches
+	 */
+	public Statistics getStatistics() {
+		return fStatistics;
 	}
 }
@@ -18,6 +18,12 @@ import java.io.File;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
@@ -26,6 +32,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.URIUtil;
 import org.eclipse.jdt.launching.environments.ExecutionEnvironmentDescription;
@@ -63,6 +70,14 @@ public class ApiModelFactory {
 	 */
 	private static final String TARGET_PREFIX = "target:"; //$NON-NLS-1$
 
+	/**
+	 * Maximum number of bundle manifests loaded concurrently when creating
+	 * several components at once, can be set with the
+	 * <code>org.eclipse.pde.api.tools.componentLoadingParallelism</code>
+	 * system property. Defaults to the number of available processors.
+	 */
+	private static final int COMPONENT_LOADING_PARALLELISM = Math.max(1, Integer.getInteger("org.eclipse.pde.api.tools.componentLoadingParallelism", Runtime.getRuntime().availableProcessors())); //$NON-NLS-1$
+
 	/**
 	 * Next available bundle id
 	 */
@@ -95,6 +110,121 @@ public class ApiModelFactory {
 		return null;
 	}
 
+	/**
+	 * Creates and returns new API components for this baseline at the specified
+	 * locations. The manifests of the components are loaded concurrently,
+	 * locations that do not contain a valid API component are skipped. The
+	 * components are not added to the baseline.
+	 *
+	 * @param locations absolute paths in the local file system to the API
+	 *            components
+	 * @return the valid API components in the order of their locations, never
+	 *         <code>null</code>
+	 * @exception CoreException if unable to create a component
+	 */
+	public static IApiComponent[] newApiComponents(IApiBaseline baseline, List<String> locations) throws CoreException {
+		return newApiComponents(baseline, locations, null);
+	}
+
+	/**
+	 * Creates the components at the given locations and reports them as added
+	 * to the given monitor as soon as their manifests are loaded.
+	 *
+	 * @throws OperationCanceledException if the monitor is cancelled
+	 */
+	private static IApiComponent[] newApiComponents(IApiBaseline baseline, List<String> locations, IProgressMonitor monitor) throws CoreException {
+		BundleComponent[] components = new BundleComponent[locations.size()];
+		// bundle ids are assigned serially so they do not depend on scheduling
+		for (int i = 0; i < components.length; i++) {
+			components[i] = new BundleComponent(baseline, locations.get(i), getBundleID());
+		}
+		boolean[] valid = validateBundles(components, monitor);
+		List<IApiComponent> result = new ArrayList<>(components.length);
+		for (int i = 0; i < components.length; i++) {
+			if (valid[i]) {
+				result.add(components[i]);
+			}
+		}
+		return result.toArray(new IApiComponent[result.size()]);
+	}
+
+	/**
+	 * Loads the manifests of the given components concurrently and returns
+	 * which of them are valid bundles. The manifests that are already loaded
+	 * are not loaded again. Nothing is added to the OSGi state of the
+	 * baseline, which callers must still do serially.
+	 *
+	 * @param components the components to validate
+	 * @param monitor progress monitor or <code>null</code>, a valid component
+	 *            is reported as added when its manifest is loaded
+	 * @return for each component if it is a valid bundle
+	 * @throws OperationCanceledException if the monitor is cancelled
+	 * @see BundleComponent#isValidBundle()
+	 */
+	static boolean[] validateBundles(BundleComponent[] components, IProgressMonitor monitor) {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, components.length);
+		boolean[] valid = new boolean[components.length];
+		List<Integer> pending = new ArrayList<>(components.length);
+		for (int i = 0; i < components.length; i++) {
+			if (components[i].isManifestLoaded()) {
+				valid[i] = components[i].isValidBundle();
+				validated(components[i], valid[i], subMonitor);
+			} else {
+				pending.add(i);
+			}
+		}
+		int parallelism = Math.min(COMPONENT_LOADING_PARALLELISM, pending.size());
+		if (parallelism <= 1) {
+			for (int i : pending) {
+				valid[i] = components[i].isValidBundle();
+				validated(components[i], valid[i], subMonitor);
+			}
+			return valid;
+		}
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try {
+			CompletionService<Integer> completion = new ExecutorCompletionService<>(pool);
+			for (int i : pending) {
+				BundleComponent component = components[i];
+				completion.submit(() -> {
+					valid[i] = component.isValidBundle();
+					return i;
+				});
+			}
+			for (int done = 0; done < pending.size(); done++) {
+				Future<Integer> task;
+				while ((task = completion.poll(100, TimeUnit.MILLISECONDS)) == null) {
+					subMonitor.checkCanceled();
+				}
+				try {
+					int i = task.get().intValue();
+					validated(components[i], valid[i], subMonitor);
+				} catch (ExecutionException e) {
+					ApiPlugin.log(e.getCause());
+					subMonitor.split(1);
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} finally {
+			pool.shutdownNow();
+		}
+		return valid;
+	}
+
+	/**
+	 * Reports the given component as added if it is valid.
+	 *
+	 * @throws OperationCanceledException if the monitor is cancelled
+	 */
+	private static void validated(BundleComponent component, boolean valid, SubMonitor monitor) {
+		monitor.split(1);
+		if (valid) {
+			monitor.subTask(NLS.bind(Messages.adding_component__0, component.getSymbolicName()));
+		}
+	}
+
 	/**
 	 * Creates and returns a new API component for this baseline based on the
 	 * given model or <code>null</code> if the given model cannot be resolved or
@@ -261,21 +391,7 @@ public class ApiModelFactory {
 				container.resolve(definition, subMonitor.split(30));
 				subMonitor.split(1);
 				TargetBundle[] bundles = container.getBundles();
-				List<IApiComponent> components = new ArrayList<>();
-				if (bundles.length > 0) {
-					subMonitor.setWorkRemaining(bundles.length);
-					for (TargetBundle bundle : bundles) {
-						subMonitor.split(1);
-						if (!bundle.isSourceBundle()) {
-							IApiComponent component = ApiModelFactory.newApiComponent(baseline, URIUtil.toFile(bundle.getBundleInfo().getLocation()).getAbsolutePath());
-							if (component != null) {
-								subMonitor.subTask(NLS.bind(Messages.adding_component__0, component.getSymbolicName()));
-								components.add(component);
-							}
-						}
-					}
-				}
-				result = components.toArray(new IApiComponent[components.size()]);
+				result = newApiComponents(baseline, getBinaryBundleLocations(bundles), subMonitor.split(18));
 			} else {
 				// The target platform service is unavailable (OSGi isn't
 				// running), add components by searching the plug-ins directory
@@ -285,14 +401,11 @@ public class ApiModelFactory {
 					if (files == null) {
 						return NO_COMPONENTS;
 					}
-					List<IApiComponent> components = new ArrayList<>();
+					List<String> locations = new ArrayList<>(files.length);
 					for (File bundle : files) {
-						IApiComponent component = ApiModelFactory.newApiComponent(baseline, bundle.getAbsolutePath());
-						if (component != null) {
-							components.add(component);
-						}
+						locations.add(bundle.getAbsolutePath());
 					}
-					result = components.toArray(new IApiComponent[components.size()]);
+					result = newApiComponents(baseline, locations);
 				}
 			}
 			if (result != null) {
@@ -316,21 +429,7 @@ public class ApiModelFactory {
 			}
 			subMonitor.split(1);
 			TargetBundle[] bundles = definition.getBundles();
-			List<IApiComponent> components = new ArrayList<>();
-			if (bundles.length > 0) {
-				subMonitor.setWorkRemaining(bundles.length);
-				for (TargetBundle bundle : bundles) {
-					subMonitor.split(1);
-					if (!bundle.isSourceBundle()) {
-						IApiComponent component = ApiModelFactory.newApiComponent(baseline, URIUtil.toFile(bundle.getBundleInfo().getLocation()).getAbsolutePath());
-						if (component != null) {
-							subMonitor.subTask(NLS.bind(Messages.adding_component__0, component.getSymbolicName()));
-							components.add(component);
-						}
-					}
-				}
-			}
-			baseline.addApiComponents(components.toArray(new IApiComponent[components.size()]));
+			baseline.addApiComponents(newApiComponents(baseline, getBinaryBundleLocations(bundles), subMonitor.split(19)));
 			baseline.setLocation(generateTargetLocation(definition));
 			return baseline;
 		} finally {
@@ -338,6 +437,20 @@ public class ApiModelFactory {
 		}
 	}
 
+	/**
+	 * @return the file system locations of the given bundles that are not
+	 *         source bundles
+	 */
+	private static List<String> getBinaryBundleLocations(TargetBundle[] bundles) {
+		List<String> locations = new ArrayList<>(bundles.length);
+		for (TargetBundle bundle : bundles) {
+			if (!bundle.isSourceBundle()) {
+				locations.add(URIUtil.toFile(bundle.getBundleInfo().getLocation()).getAbsolutePath());
+			}
+		}
+		return locations;
+	}
+
 	/**
 	 * Create predictable location description for a target definition. Form is
 	 * <code>target:/targetSeq/definitionLocation</code>. A location must be
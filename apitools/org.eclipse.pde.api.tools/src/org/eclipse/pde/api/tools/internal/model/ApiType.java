@@ -14,11 +14,13 @@
 package org.eclipse.pde.api.tools.internal.model;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -159,7 +161,7 @@ public class ApiType extends ApiMember implements IApiType {
 		ReferenceExtractor extractor = new ReferenceExtractor(this, references, referenceMask);
 		ClassReader reader = new ClassReader(((AbstractApiTypeRoot) fStorage).getContents());
 		reader.accept(extractor, ClassReader.SKIP_FRAMES);
-		return new LinkedList<>(references);
+		return new ArrayList<>(references);
 	}
 
 	@Override
@@ -178,6 +180,58 @@ public class ApiType extends ApiMember implements IApiType {
 		return EMPTY_FIELDS;
 	}
 
+	/**
+	 * @return the name of the enclosing type given when building the type
+	 *         structure, or <code>null</code>
+	 */
+	String getEnclosingTypeName() {
+		return fEnclosingTypeName;
+	}
+
+	/**
+	 * @return the name of the enclosing method set when building the type
+	 *         structure, or <code>null</code> if not known or there is none
+	 */
+	String getEnclosingMethodName() {
+		return fEnclosingMethodName == NO_ENCLOSING_METHOD ? null : fEnclosingMethodName;
+	}
+
+	/**
+	 * @return the signature of the enclosing method set when building the type
+	 *         structure, or <code>null</code> if not known or there is none
+	 */
+	String getEnclosingMethodSignature() {
+		return fEnclosingMethodSignature == NO_ENCLOSING_METHOD ? null : fEnclosingMethodSignature;
+	}
+
+	/**
+	 * @return whether the enclosing method information was set when building
+	 *         the type structure
+	 */
+	boolean hasEnclosingMethodInfo() {
+		return fEnclosingMethodName != null;
+	}
+
+	/**
+	 * @return the simple names of the member types of this type
+	 */
+	Set<String> getMemberTypeNames() {
+		if (fMemberTypes == null) {
+			return Collections.emptySet();
+		}
+		return fMemberTypes.keySet();
+	}
+
+	/**
+	 * Returns the number of fields and methods of this type, used to weigh the
+	 * type in the {@link ApiModelCache}
+	 *
+	 * @return the number of fields and methods of this type
+	 */
+	int getMemberCount() {
+		return (fFields == null ? 0 : fFields.size()) + (fMethods == null ? 0 : fMethods.size());
+	}
+
 	@Override
 	public String getPackageName() {
 		return getName().substring(0, getName().lastIndexOf('.'));
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.model;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
@@ -24,8 +25,10 @@ import java.util.TreeMap;
 import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
 import org.eclipse.pde.api.tools.internal.util.Signatures;
@@ -87,15 +90,44 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 			}
 			ArchiveApiTypeContainer archive = (ArchiveApiTypeContainer) getParent();
 			try {
-				Path location = archive.getLocation();
-				Path classLocation = location.resolve(getName());
-				fContents = Files.readAllBytes(classLocation);
+				MappedArchive mapped = archive.fMappedArchive;
+				if (mapped != null) {
+					try {
+						fContents = mapped.read(getName());
+					} catch (IOException e) {
+						if (ApiPlugin.DEBUG_BUILDER) {
+							ApiPlugin.log("Falling back to the zip file system for " + getName() + " in " + archive.fLocation, e); //$NON-NLS-1$ //$NON-NLS-2$
+						}
+					}
+				}
+				if (fContents == null) {
+					Path location = archive.getLocation();
+					Path classLocation = location.resolve(getName());
+					fContents = Files.readAllBytes(classLocation);
+				}
 			} catch (IOException e) {
 				abort("Failed to open class file: " + getTypeName() + " in archive: " + archive.fLocation, e); //$NON-NLS-1$ //$NON-NLS-2$
 			}
 			return fContents;
 		}
 
+		@Override
+		protected IApiType buildStructure() throws CoreException {
+			ArchiveApiTypeContainer archive = (ArchiveApiTypeContainer) getParent();
+			TypeStructureIndex index = archive.getIndex();
+			if (index != null) {
+				IApiType type = index.read(fTypeName, getApiComponent(), this);
+				if (type != null) {
+					return type;
+				}
+			}
+			IApiType type = super.buildStructure();
+			if (type instanceof ApiType apiType && archive.isIndexed()) {
+				archive.addToIndex(apiType);
+			}
+			return type;
+		}
+
 		@Override
 		public String toString() {
 			return getTypeName();
@@ -113,11 +145,57 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 */
 	private Map<String, Map<String, String>> fPackages;
 
+	/**
+	 * Whether archives are read through a memory mapping instead of the zip
+	 * file system, can be set with the
+	 * <code>org.eclipse.pde.api.tools.mappedArchives</code> system property.
+	 * A mapping is only released when it is garbage collected after the
+	 * container is closed, so on Windows the archive cannot be deleted or
+	 * replaced until then.
+	 */
+	private static final boolean MAPPED_ACCESS = Boolean.getBoolean("org.eclipse.pde.api.tools.mappedArchives"); //$NON-NLS-1$
+
+	/**
+	 * Memory mapping of the archive, or <code>null</code> if the archive is
+	 * read through the zip file system
+	 */
+	volatile MappedArchive fMappedArchive;
+
 	/**
 	 * Cache of package names in this archive.
 	 */
 	private String[] fPackageNames;
 
+	/**
+	 * The persistent index of the type structures of this archive, or
+	 * <code>null</code> if there is none
+	 */
+	private TypeStructureIndex fIndex;
+
+	/**
+	 * Whether the index of this archive has been loaded
+	 */
+	private boolean fIndexLoaded = false;
+
+	/**
+	 * Number of new type structures after which the index is written, so that
+	 * the encoded structures kept in memory stay bounded
+	 */
+	private static final int INDEX_FLUSH_THRESHOLD = 1000;
+
+	/**
+	 * The encoded type structures built from class files because they were
+	 * not in the index, or <code>null</code> if there are none. They are
+	 * written to the index in batches and when this container is closed.
+	 */
+	private TypeStructureIndex.Builder fIndexBuilder;
+
+	/**
+	 * Whether the listing of the packages and types of this archive is shared
+	 * with the other containers of the same archive
+	 */
+	private final boolean fShareListing;
+
 	/**
 	 * Constructs an {@link IApiTypeContainer} container for the given jar or zip
 	 * file at the specified location.
@@ -126,8 +204,28 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 * @param path   location of the file in the local file system
 	 */
 	public ArchiveApiTypeContainer(IApiElement parent, String path) {
+		this(parent, path, false);
+	}
+
+	/**
+	 * Constructs an {@link IApiTypeContainer} container for the given jar or zip
+	 * file at the specified location.
+	 * <p>
+	 * The listing of the packages and types of a shared container is read once
+	 * and shared by all the shared containers of the same archive, as long as
+	 * the size and time stamp of the archive do not change. Only archives that
+	 * do not change while they are in use, like the libraries of a Java
+	 * runtime, should be shared.
+	 * </p>
+	 *
+	 * @param parent the parent {@link IApiElement} or <code>null</code> if none
+	 * @param path   location of the file in the local file system
+	 * @param share  whether the listing of the archive is shared
+	 */
+	public ArchiveApiTypeContainer(IApiElement parent, String path, boolean share) {
 		super(parent, IApiElement.API_TYPE_CONTAINER, path);
 		this.fLocation = path;
+		this.fShareListing = share;
 	}
 
 	/**
@@ -153,8 +251,8 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	@Override
 	public void accept(ApiTypeContainerVisitor visitor) throws CoreException {
 		if (visitor.visit(this)) {
-			init();
-			for (Map.Entry<String, Map<String, String>> entry : fPackages.entrySet()) {
+			Map<String, Map<String, String>> packages = init();
+			for (Map.Entry<String, Map<String, String>> entry : packages.entrySet()) {
 				String pkg = entry.getKey();
 				if (visitor.visitPackage(pkg)) {
 					Map<String, String> classes = entry.getValue();
@@ -185,7 +283,70 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 */
 	@Override
 	public synchronized void close() throws CoreException {
-		//
+		// the mapping is released once no type root reads from it anymore and
+		// it is garbage collected, the contents read from it are copies and
+		// stay valid. Entries are read through the zip file system from now on
+		fMappedArchive = null;
+		if (fShareListing) {
+			// the listing may be dropped once no container holds it
+			fPackages = null;
+			fPackageNames = null;
+		}
+		if (fIndexBuilder != null) {
+			fIndexBuilder.write(new File(fLocation));
+			fIndexBuilder = null;
+		}
+		fIndex = null;
+		fIndexLoaded = false;
+	}
+
+	/**
+	 * Adds the given type structure, built from its class file, to the index
+	 * of this archive. The index is written once enough new structures have
+	 * been added.
+	 *
+	 * @param type the type structure
+	 */
+	synchronized void addToIndex(ApiType type) {
+		if (fIndexBuilder == null) {
+			fIndexBuilder = new TypeStructureIndex.Builder(getIndex());
+		}
+		fIndexBuilder.add(type);
+		if (fIndexBuilder.size() >= INDEX_FLUSH_THRESHOLD) {
+			File archive = new File(fLocation);
+			fIndexBuilder.write(archive);
+			fIndexBuilder = null;
+			fIndex = TypeStructureIndex.load(archive);
+		}
+	}
+
+	/**
+	 * Returns whether the type structures of this archive are stored in a
+	 * persistent index. Archives of the Java runtime and archives of workspace
+	 * projects are never indexed.
+	 *
+	 * @return whether the type structures of this archive are indexed
+	 */
+	@SuppressWarnings("restriction")
+	boolean isIndexed() {
+		return !fLocation.endsWith(org.eclipse.jdt.internal.compiler.util.JRTUtil.JRT_FS_JAR) && !(getApiComponent() instanceof ProjectComponent) && TypeStructureIndex.getIndexDirectory() != null;
+	}
+
+	/**
+	 * Returns the persistent index of the type structures of this archive,
+	 * loading it if needed.
+	 *
+	 * @return the index or <code>null</code> if there is no index for the
+	 *         current content of this archive
+	 */
+	synchronized TypeStructureIndex getIndex() {
+		if (!fIndexLoaded) {
+			fIndexLoaded = true;
+			if (isIndexed()) {
+				fIndex = TypeStructureIndex.load(new File(fLocation));
+			}
+		}
+		return fIndex;
 	}
 
 	/**
@@ -193,9 +354,9 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 */
 	@Override
 	public IApiTypeRoot findTypeRoot(String qualifiedName) throws CoreException {
-		init();
+		Map<String, Map<String, String>> packages = init();
 		String packageName = Signatures.getPackageName(qualifiedName);
-		Map<String, String> classFileNames = fPackages.get(packageName);
+		Map<String, String> classFileNames = packages.get(packageName);
 		if (classFileNames != null) {
 			String fileName = classFileNames.get(qualifiedName);
 			if (fileName != null) {
@@ -210,10 +371,10 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 */
 	@Override
 	public String[] getPackageNames() throws CoreException {
-		init();
+		Map<String, Map<String, String>> packages = init();
 		synchronized (this) {
 			if (fPackageNames == null) {
-				fPackageNames = fPackages.keySet().toArray(String[]::new);
+				fPackageNames = packages.keySet().toArray(String[]::new);
 			}
 			return fPackageNames;
 		}
@@ -221,31 +382,84 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 
 	/**
 	 * Initializes cache of packages and types.
+	 *
+	 * @return the cache of packages and types
 	 */
-	private synchronized void init() throws CoreException {
+	private synchronized Map<String, Map<String, String>> init() throws CoreException {
 		if (fPackages == null) {
-			fPackages = new TreeMap<>();
-			try {
-				Path location = getLocation();
-				boolean isJrt = "jrt".equals(location.toUri().getScheme()); //$NON-NLS-1$
-				try (Stream<Path> walk = Files.walk(location)) {
-					walk.forEach(it -> {
-						String name = location.relativize(it).toString();
-						if (name.endsWith(Util.DOT_CLASS_SUFFIX)) {
-							// In the JRT file system, the first segment will be the module name,
-							// which we must strip.
-							String className = name.substring(isJrt ? name.indexOf('/') + 1 : 0,
-									name.length() - Util.DOT_CLASS_SUFFIX.length()).replace('/', '.');
-							String pkg = Signatures.getPackageName(className);
-							Map<String, String> fileNames = fPackages.computeIfAbsent(pkg, p -> new TreeMap<>());
-							fileNames.put(className, name);
-						}
-					});
+			if (fShareListing) {
+				fPackages = SharedArchiveListing.get(fLocation, this::listPackages);
+			} else {
+				fPackages = new TreeMap<>();
+				if (!initMapped()) {
+					fPackages = listPackages();
 				}
-			} catch (IOException e) {
-				abort("Failed to process archive: " + fLocation, e); //$NON-NLS-1$
 			}
 		}
+		return fPackages;
+	}
+
+	/**
+	 * Lists the packages and types of the archive through its file system.
+	 *
+	 * @return map of package names to a map of class names to class files
+	 *         paths in that package
+	 */
+	private Map<String, Map<String, String>> listPackages() throws CoreException {
+		Map<String, Map<String, String>> packages = new TreeMap<>();
+		try {
+			Path location = getLocation();
+			boolean isJrt = "jrt".equals(location.toUri().getScheme()); //$NON-NLS-1$
+			try (Stream<Path> walk = Files.walk(location)) {
+				walk.forEach(it -> {
+					String name = location.relativize(it).toString();
+					if (name.endsWith(Util.DOT_CLASS_SUFFIX)) {
+						// In the JRT file system, the first segment will be the module name,
+						// which we must strip.
+						String className = name.substring(isJrt ? name.indexOf('/') + 1 : 0,
+								name.length() - Util.DOT_CLASS_SUFFIX.length()).replace('/', '.');
+						String pkg = Signatures.getPackageName(className);
+						Map<String, String> fileNames = packages.computeIfAbsent(pkg, p -> new TreeMap<>());
+						fileNames.put(className, name);
+					}
+				});
+			}
+		} catch (IOException e) {
+			abort("Failed to process archive: " + fLocation, e); //$NON-NLS-1$
+		}
+		return packages;
+	}
+
+	/**
+	 * Initializes the cache of packages and types from a memory mapping of the
+	 * archive, if mapped access is enabled and the archive can be mapped.
+	 *
+	 * @return whether the cache was initialized
+	 */
+	@SuppressWarnings("restriction")
+	private boolean initMapped() {
+		if (!MAPPED_ACCESS || fLocation.endsWith(org.eclipse.jdt.internal.compiler.util.JRTUtil.JRT_FS_JAR)) {
+			return false;
+		}
+		MappedArchive mapped;
+		try {
+			mapped = new MappedArchive(Path.of(fLocation));
+		} catch (IOException | RuntimeException e) {
+			if (ApiPlugin.DEBUG_BUILDER) {
+				ApiPlugin.log("Falling back to the zip file system for " + fLocation, e); //$NON-NLS-1$
+			}
+			return false;
+		}
+		for (String name : mapped.getEntryNames()) {
+			if (name.endsWith(Util.DOT_CLASS_SUFFIX)) {
+				String className = name.substring(0, name.length() - Util.DOT_CLASS_SUFFIX.length()).replace('/', '.');
+				String pkg = Signatures.getPackageName(className);
+				Map<String, String> fileNames = fPackages.computeIfAbsent(pkg, p -> new TreeMap<>());
+				fileNames.put(className, name);
+			}
+		}
+		fMappedArchive = mapped;
+		return true;
 	}
 
 	@Override
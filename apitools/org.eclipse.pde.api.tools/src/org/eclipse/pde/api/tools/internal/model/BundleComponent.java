@@ -53,6 +53,7 @@ import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.api.tools.internal.ApiBaselineManager;
 import org.eclipse.pde.api.tools.internal.ApiDescription;
 import org.eclipse.pde.api.tools.internal.ApiDescriptionProcessor;
+import org.eclipse.pde.api.tools.internal.BinaryApiDescription;
 import org.eclipse.pde.api.tools.internal.BundleVersionRange;
 import org.eclipse.pde.api.tools.internal.CompositeApiDescription;
 import org.eclipse.pde.api.tools.internal.FilterStore;
@@ -201,6 +202,14 @@ public class BundleComponent extends Component {
 		}
 	}
 
+	/**
+	 * @return whether the manifest of this bundle is loaded, i.e. whether
+	 *         {@link #isValidBundle()} returns without reading the bundle
+	 */
+	boolean isManifestLoaded() {
+		return fManifest != null;
+	}
+
 	/**
 	 * Returns this bundle's manifest as a dictionary or <code>null</code> if no
 	 * manifest was found.
@@ -428,18 +437,37 @@ public class BundleComponent extends Component {
 	 * @throws CoreException if unable to initialize
 	 */
 	protected IApiDescription createLocalApiDescription() throws CoreException {
-		IApiDescription apiDesc = new ApiDescription(getSymbolicName());
+		ApiDescription apiDesc = new ApiDescription(getSymbolicName());
 		// first mark all packages as internal
 		initializeApiDescription(apiDesc, getBundleDescription(), getLocalPackageNames());
 		try {
 			String xml = loadApiDescription(new File(fLocation));
 			setHasApiDescription(xml != null);
 			if (xml != null) {
+				byte[] binary = loadBinaryApiDescription(new File(fLocation));
+				if (binary != null) {
+					try {
+						// only used if written with the same XML file
+						BinaryApiDescription.read(apiDesc, binary, xml);
+						// the description of a bundle does not change once loaded
+						apiDesc.compact();
+						return apiDesc;
+					} catch (IOException e) {
+						// fall back to the XML file
+						if (ApiPlugin.DEBUG_API_DESCRIPTION) {
+							System.out.println("Unable to read binary API description of " + getSymbolicName() + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+						}
+						apiDesc = new ApiDescription(getSymbolicName());
+						initializeApiDescription(apiDesc, getBundleDescription(), getLocalPackageNames());
+					}
+				}
 				ApiDescriptionProcessor.annotateApiSettings(null, apiDesc, xml);
 			}
 		} catch (IOException e) {
 			abort("Unable to load .api_description file ", e); //$NON-NLS-1$
 		}
+		// the description of a bundle does not change once loaded
+		apiDesc.compact();
 		return apiDesc;
 	}
 
@@ -849,6 +877,32 @@ public class BundleComponent extends Component {
 		return contents;
 	}
 
+	/**
+	 * Returns the content of a bundle's binary API description. The file may be
+	 * in a jar or in a directory at the specified location.
+	 *
+	 * @param bundleLocation root location of the bundle
+	 * @return binary API description or <code>null</code> if none
+	 * @throws IOException if unable to read
+	 * @since 1.3.600
+	 */
+	protected static byte[] loadBinaryApiDescription(File bundleLocation) throws IOException {
+		String extension = IPath.fromOSString(bundleLocation.getName()).getFileExtension();
+		if (extension != null && extension.equals("jar") && bundleLocation.isFile()) { //$NON-NLS-1$
+			try (ZipFile jarFile = new ZipFile(bundleLocation, ZipFile.OPEN_READ)) {
+				ZipEntry entry = jarFile.getEntry(IApiCoreConstants.API_DESCRIPTION_BINARY_NAME);
+				if (entry == null) {
+					return null;
+				}
+				try (InputStream stream = jarFile.getInputStream(entry)) {
+					return stream.readAllBytes();
+				}
+			}
+		}
+		Path file = bundleLocation.toPath().resolve(IApiCoreConstants.API_DESCRIPTION_BINARY_NAME);
+		return Files.isRegularFile(file) ? Files.readAllBytes(file) : null;
+	}
+
 	@Override
 	public List<String> getExecutionEnvironments() throws CoreException {
 		// Return the EE from the description only if explicitly specified in the
@@ -0,0 +1,227 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Read-only view of a zip archive backed by a memory mapping of the whole
+ * file.
+ * <p>
+ * The central directory is read once when the archive is opened. Stored
+ * entries are copied straight out of the mapping and deflated entries are
+ * inflated from the mapping into an array of their exact size with an
+ * {@link Inflater} reused by each thread, so no stream or intermediate buffer
+ * is allocated per entry. The sizes of the entries are taken from the central
+ * directory, so entries followed by a data descriptor are read as well. Zip64
+ * and encrypted archives are not supported and fail to open, as do archives
+ * whose central directory is truncated or corrupt. An entry that cannot be
+ * read fails with an {@link IOException}. In both cases callers are expected
+ * to fall back to another access method.
+ * </p>
+ * <p>
+ * The content of an entry is always returned as a new array rather than a
+ * slice of the mapping: the class readers consuming the entries need heap
+ * arrays, and no reference into the mapping escapes this class. The mapping
+ * has no explicit close, it is released when the archive is no longer
+ * referenced and is garbage collected. Until then the file stays mapped,
+ * which on Windows prevents it from being deleted or replaced.
+ * </p>
+ *
+ * @since 1.3.600
+ */
+public final class MappedArchive {
+
+	private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+	private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+	private static final int END_SIGNATURE = 0x06054b50;
+	private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+	private static final int ZIP64_LOCATOR_SIZE = 20;
+	private static final int END_HEADER_SIZE = 22;
+	private static final int LOCAL_HEADER_SIZE = 30;
+	private static final int CENTRAL_HEADER_SIZE = 46;
+
+	private static final int STORED = 0;
+	private static final int DEFLATED = 8;
+
+	private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(() -> new Inflater(true));
+
+	/**
+	 * An entry of the central directory
+	 */
+	private static final class Entry {
+		final int method;
+		final int compressedSize;
+		final int size;
+		final int localHeaderOffset;
+
+		Entry(int method, int compressedSize, int size, int localHeaderOffset) {
+			this.method = method;
+			this.compressedSize = compressedSize;
+			this.size = size;
+			this.localHeaderOffset = localHeaderOffset;
+		}
+	}
+
+	private final Path fPath;
+	private final ByteBuffer fBuffer;
+	private final Map<String, Entry> fEntries;
+
+	/**
+	 * Opens and maps the given archive and reads its central directory.
+	 *
+	 * @param path the archive
+	 * @throws IOException if the archive cannot be mapped or is not a
+	 *             supported zip archive
+	 */
+	public MappedArchive(Path path) throws IOException {
+		fPath = path;
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size > Integer.MAX_VALUE) {
+				throw new IOException("Archive too large to be mapped: " + path); //$NON-NLS-1$
+			}
+			fBuffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size).order(ByteOrder.LITTLE_ENDIAN);
+		}
+		try {
+			fEntries = readCentralDirectory();
+		} catch (IndexOutOfBoundsException | BufferUnderflowException e) {
+			throw new IOException("Invalid central directory in archive: " + path, e); //$NON-NLS-1$
+		}
+	}
+
+	private Map<String, Entry> readCentralDirectory() throws IOException {
+		int end = findEndOfCentralDirectory();
+		int count = Short.toUnsignedInt(fBuffer.getShort(end + 10));
+		long directoryOffset = Integer.toUnsignedLong(fBuffer.getInt(end + 16));
+		boolean zip64 = end >= ZIP64_LOCATOR_SIZE && fBuffer.getInt(end - ZIP64_LOCATOR_SIZE) == ZIP64_LOCATOR_SIGNATURE;
+		if (zip64 || count == 0xFFFF || directoryOffset == 0xFFFFFFFFL) {
+			throw new IOException("Zip64 archives are not supported: " + fPath); //$NON-NLS-1$
+		}
+		Map<String, Entry> entries = new LinkedHashMap<>(count * 2);
+		int position = (int) directoryOffset;
+		for (int i = 0; i < count; i++) {
+			if (fBuffer.getInt(position) != CENTRAL_HEADER_SIGNATURE) {
+				throw new IOException("Invalid central directory in archive: " + fPath); //$NON-NLS-1$
+			}
+			int flags = Short.toUnsignedInt(fBuffer.getShort(position + 8));
+			int method = Short.toUnsignedInt(fBuffer.getShort(position + 10));
+			int compressedSize = fBuffer.getInt(position + 20);
+			int size = fBuffer.getInt(position + 24);
+			int nameLength = Short.toUnsignedInt(fBuffer.getShort(position + 28));
+			int extraLength = Short.toUnsignedInt(fBuffer.getShort(position + 30));
+			int commentLength = Short.toUnsignedInt(fBuffer.getShort(position + 32));
+			int localHeaderOffset = fBuffer.getInt(position + 42);
+			if ((flags & 1) != 0 || compressedSize < 0 || size < 0 || localHeaderOffset < 0) {
+				throw new IOException("Encrypted or Zip64 entries are not supported: " + fPath); //$NON-NLS-1$
+			}
+			byte[] name = new byte[nameLength];
+			fBuffer.get(position + CENTRAL_HEADER_SIZE, name);
+			entries.put(new String(name, StandardCharsets.UTF_8), new Entry(method, compressedSize, size, localHeaderOffset));
+			position += CENTRAL_HEADER_SIZE + nameLength + extraLength + commentLength;
+		}
+		return entries;
+	}
+
+	private int findEndOfCentralDirectory() throws IOException {
+		int limit = Math.max(0, fBuffer.limit() - END_HEADER_SIZE - 0xFFFF);
+		for (int position = fBuffer.limit() - END_HEADER_SIZE; position >= limit; position--) {
+			if (fBuffer.getInt(position) == END_SIGNATURE) {
+				return position;
+			}
+		}
+		throw new IOException("Not a zip archive: " + fPath); //$NON-NLS-1$
+	}
+
+	/**
+	 * @return the names of the entries of the archive, in central directory
+	 *         order
+	 */
+	public Set<String> getEntryNames() {
+		return fEntries.keySet();
+	}
+
+	/**
+	 * Returns the uncompressed content of the entry with the given name.
+	 *
+	 * @param name the entry name
+	 * @return a new array with the content, which does not reference the
+	 *         mapping, or <code>null</code> if there is no such entry
+	 * @throws IOException if the entry cannot be read
+	 */
+	public byte[] read(String name) throws IOException {
+		Entry entry = fEntries.get(name);
+		if (entry == null) {
+			return null;
+		}
+		try {
+			return read(name, entry);
+		} catch (IndexOutOfBoundsException | BufferUnderflowException e) {
+			throw new IOException("Truncated entry " + name + " in archive: " + fPath, e); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	private byte[] read(String name, Entry entry) throws IOException {
+		int local = entry.localHeaderOffset;
+		if (fBuffer.getInt(local) != LOCAL_HEADER_SIGNATURE) {
+			throw new IOException("Invalid local header for " + name + " in archive: " + fPath); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		int dataStart = local + LOCAL_HEADER_SIZE + Short.toUnsignedInt(fBuffer.getShort(local + 26)) + Short.toUnsignedInt(fBuffer.getShort(local + 28));
+		ByteBuffer data = fBuffer.slice(dataStart, entry.compressedSize);
+		byte[] bytes = new byte[entry.size];
+		switch (entry.method) {
+			case STORED:
+				if (entry.compressedSize != entry.size) {
+					throw new IOException("Invalid size of entry " + name + " in archive: " + fPath); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+				data.get(bytes);
+				break;
+			case DEFLATED:
+				Inflater inflater = INFLATER.get();
+				inflater.reset();
+				inflater.setInput(data);
+				try {
+					int read = 0;
+					while (read < bytes.length) {
+						int count = inflater.inflate(bytes, read, bytes.length - read);
+						if (count == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+							break;
+						}
+						read += count;
+					}
+					if (read != bytes.length) {
+						throw new IOException("Truncated entry " + name + " in archive: " + fPath); //$NON-NLS-1$ //$NON-NLS-2$
+					}
+				} catch (DataFormatException e) {
+					throw new IOException("Corrupted entry " + name + " in archive: " + fPath, e); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+				break;
+			default:
+				throw new IOException("Unsupported compression method for " + name + " in archive: " + fPath); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return bytes;
+	}
+}
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.io.File;
+import java.lang.ref.SoftReference;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+
+/**
+ * Listing of the packages and types of an archive, shared by the
+ * {@link ArchiveApiTypeContainer}s of the same archive in all the baselines.
+ * <p>
+ * Only the listing is shared. The type containers are not, since their type
+ * roots belong to the component of one baseline, and neither are the type
+ * structures, since an {@link ApiType} resolves its supertypes and members
+ * through its own component and baseline.
+ * </p>
+ * <p>
+ * Listings are keyed by the location of the archive with its size and time
+ * stamp, so that an archive replaced in place is listed again. A listing is
+ * softly referenced: it is kept as long as a container holds it and may be
+ * dropped once no container does, without containers having to release it.
+ * Listings of different archives are read concurrently.
+ * </p>
+ */
+final class SharedArchiveListing {
+
+	/**
+	 * Reads the listing of an archive
+	 */
+	@FunctionalInterface
+	interface Loader {
+		Map<String, Map<String, String>> load() throws CoreException;
+	}
+
+	/**
+	 * Location of an archive with the size and time stamp of the file its
+	 * content is read from
+	 */
+	private record Key(String location, long length, long lastModified) {
+	}
+
+	/**
+	 * The listings by archive
+	 */
+	private static final Map<Key, SharedArchiveListing> fgListings = new HashMap<>();
+
+	private SoftReference<Map<String, Map<String, String>>> fPackages = new SoftReference<>(null);
+
+	private SharedArchiveListing() {
+	}
+
+	/**
+	 * Returns the listing of the archive at the given location, reading it
+	 * with the given loader if it is not cached or was dropped.
+	 *
+	 * @param location the location of the archive
+	 * @param loader reads the listing of the archive
+	 * @return the unmodifiable map of package names to a map of class names to
+	 *         class files paths in that package
+	 * @throws CoreException if the listing cannot be read
+	 */
+	static Map<String, Map<String, String>> get(String location, Loader loader) throws CoreException {
+		Key key = newKey(location);
+		SharedArchiveListing listing;
+		synchronized (fgListings) {
+			// the listings of a previous version of the archive are stale
+			fgListings.keySet().removeIf(k -> k.location().equals(location) && !k.equals(key));
+			listing = fgListings.computeIfAbsent(key, k -> new SharedArchiveListing());
+		}
+		return listing.load(loader);
+	}
+
+	@SuppressWarnings("restriction")
+	private static Key newKey(String location) {
+		File file = new File(location);
+		if (location.endsWith(org.eclipse.jdt.internal.compiler.util.JRTUtil.JRT_FS_JAR)) {
+			// the classes of a modular runtime are in the image next to it
+			file = new File(file.getParentFile(), "modules"); //$NON-NLS-1$
+		}
+		return new Key(location, file.length(), file.lastModified());
+	}
+
+	private synchronized Map<String, Map<String, String>> load(Loader loader) throws CoreException {
+		Map<String, Map<String, String>> packages = fPackages.get();
+		if (packages == null) {
+			packages = loader.load();
+			packages.replaceAll((name, types) -> Collections.unmodifiableMap(types));
+			packages = Collections.unmodifiableMap(packages);
+			fPackages = new SoftReference<>(packages);
+		}
+		return packages;
+	}
+}
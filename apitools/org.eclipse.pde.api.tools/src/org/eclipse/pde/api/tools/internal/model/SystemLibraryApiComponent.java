@@ -116,7 +116,7 @@ public class SystemLibraryApiComponent extends Component {
 	protected List<IApiTypeContainer> createApiTypeContainers() throws CoreException {
 		List<IApiTypeContainer> libs = new ArrayList<>(fLibraries.length);
 		for (LibraryLocation lib : fLibraries) {
-			libs.add(new ArchiveApiTypeContainer(this, lib.getSystemLibraryPath().toOSString()));
+			libs.add(new ArchiveApiTypeContainer(this, lib.getSystemLibraryPath().toOSString(), true));
 		}
 		if (fLibraries.length == 0) {
 			if (fLocation != null) {
@@ -125,7 +125,7 @@ public class SystemLibraryApiComponent extends Component {
 				// the JRT file system.
 				newPath = newPath.append("lib").append("jrt-fs.jar"); //$NON-NLS-1$ //$NON-NLS-2$
 				if (newPath.toFile().exists()) {
-					libs.add(new ArchiveApiTypeContainer(this, newPath.toOSString()));
+					libs.add(new ArchiveApiTypeContainer(this, newPath.toOSString(), true));
 				}
 			}
 		}
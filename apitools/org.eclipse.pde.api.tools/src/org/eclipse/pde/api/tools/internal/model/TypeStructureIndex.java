@@ -0,0 +1,648 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiField;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMethod;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+
+/**
+ * A persistent index of the type structures of the class files of one archive.
+ * <p>
+ * The index is stored in a versioned binary file in the API tools state
+ * location and is keyed by the path, size and time stamp of the archive, so an
+ * index is only used as long as the archive is unchanged. The file is memory
+ * mapped when loaded and type structures are only decoded when they are
+ * requested. An extended index is written to a file of a new generation
+ * rather than over the previous file, which may still be mapped, and the
+ * least recently used index files are removed once the indexes exceed their
+ * maximum total size. The file format is:
+ * </p>
+ *
+ * <pre>
+ * int magic, short version
+ * string archive path, long archive size, long archive time stamp
+ * int string count, (int length, UTF-8 bytes)*
+ * int type count, (int name index, int record offset)*
+ * type records
+ * </pre>
+ *
+ * where strings are referenced by their index in the string pool, or
+ * <code>-1</code> for <code>null</code>.
+ * <p>
+ * Structures missing from an index are added with a {@link Builder}, which
+ * encodes them as they are added so that no type structure is retained, and
+ * copies the records of the previous index without decoding them.
+ * </p>
+ *
+ * @since 1.3.600
+ */
+final class TypeStructureIndex {
+
+	private static final int MAGIC = 0x41504954; // APIT
+	private static final short VERSION = 1;
+
+	private static final int FLAG_ANONYMOUS = 0x01;
+	private static final int FLAG_LOCAL = 0x02;
+	private static final int FLAG_MEMBER = 0x04;
+	private static final int FLAG_ENCLOSING_METHOD = 0x08;
+
+	private static final byte VALUE_NONE = 0;
+	private static final byte VALUE_INTEGER = 1;
+	private static final byte VALUE_LONG = 2;
+	private static final byte VALUE_FLOAT = 3;
+	private static final byte VALUE_DOUBLE = 4;
+	private static final byte VALUE_STRING = 5;
+
+	/**
+	 * Whether type structure indexes are enabled, can be disabled with the
+	 * <code>org.eclipse.pde.api.tools.typeStructureIndex</code> system property
+	 */
+	private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("org.eclipse.pde.api.tools.typeStructureIndex", Boolean.TRUE.toString())); //$NON-NLS-1$
+
+	/**
+	 * Maximum total size of the index files in bytes, can be set with the
+	 * <code>org.eclipse.pde.api.tools.typeStructureIndexSize</code> system
+	 * property
+	 */
+	private static final long MAX_INDEX_SIZE = Long.getLong("org.eclipse.pde.api.tools.typeStructureIndexSize", 256L * 1024 * 1024).longValue(); //$NON-NLS-1$
+
+	private static final String INDEX_EXTENSION = ".idx"; //$NON-NLS-1$
+
+	/**
+	 * Builds a new index from the records of a previous index and new type
+	 * structures. Type structures are encoded as soon as they are added.
+	 */
+	static final class Builder {
+
+		private final TypeStructureIndex fBase;
+		private final Map<String, Integer> fPool = new LinkedHashMap<>();
+		private final Map<String, Integer> fEntries = new LinkedHashMap<>();
+		private final ByteArrayOutputStream fRecords = new ByteArrayOutputStream();
+		private final DataOutputStream fOut = new DataOutputStream(fRecords);
+
+		/**
+		 * Creates a builder that extends the given index.
+		 *
+		 * @param base the previous index of the archive or <code>null</code>
+		 */
+		Builder(TypeStructureIndex base) {
+			fBase = base;
+			if (base != null) {
+				// the pool of the previous index is kept as is, so that its
+				// records can be copied unchanged
+				for (int i = 0; i < base.fStringOffsets.length; i++) {
+					fPool.put(base.getString(i), Integer.valueOf(i));
+				}
+			}
+		}
+
+		/**
+		 * Encodes the given type structure, unless its type is already in the
+		 * index.
+		 *
+		 * @param type the type structure
+		 */
+		synchronized void add(ApiType type) {
+			String name = type.getName();
+			if ((fBase != null && fBase.fRecords.containsKey(name)) || fEntries.containsKey(name)) {
+				return;
+			}
+			try {
+				int offset = fOut.size();
+				writeType(fOut, fPool, type);
+				fEntries.put(name, Integer.valueOf(offset));
+			} catch (IOException e) {
+				// writing to memory does not fail
+				throw new IllegalStateException(e);
+			}
+		}
+
+		/**
+		 * @return the number of type structures added to this builder
+		 */
+		synchronized int size() {
+			return fEntries.size();
+		}
+
+		/**
+		 * Writes the index of the given archive, replacing any previous index.
+		 *
+		 * @param archive the archive
+		 */
+		synchronized void write(File archive) {
+			File directory = getIndexDirectory();
+			if (directory == null) {
+				return;
+			}
+			String prefix = getIndexPrefix(archive);
+			List<File> previous = getIndexFiles(directory, prefix);
+			long generation = previous.isEmpty() ? 0 : getGeneration(prefix, previous.get(0).getName()) + 1;
+			File file = new File(directory, prefix + generation + INDEX_EXTENSION);
+			try {
+				Files.createDirectories(directory.toPath());
+				Path temp = Files.createTempFile(directory.toPath(), archive.getName(), ".tmp"); //$NON-NLS-1$
+				try {
+					try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+						writeHeader(out, archive);
+						ByteBuffer baseRecords = null;
+						int baseLength = 0;
+						List<Map.Entry<String, Integer>> baseEntries = List.of();
+						if (fBase != null) {
+							baseRecords = fBase.fBuffer.duplicate();
+							baseRecords.position(fBase.fRecordsStart);
+							baseLength = baseRecords.remaining();
+							baseEntries = new ArrayList<>(fBase.fRecords.entrySet());
+						}
+						out.writeInt(baseEntries.size() + fEntries.size());
+						for (Map.Entry<String, Integer> entry : baseEntries) {
+							out.writeInt(fPool.get(entry.getKey()).intValue());
+							out.writeInt(entry.getValue().intValue() - fBase.fRecordsStart);
+						}
+						for (Map.Entry<String, Integer> entry : fEntries.entrySet()) {
+							out.writeInt(fPool.get(entry.getKey()).intValue());
+							out.writeInt(baseLength + entry.getValue().intValue());
+						}
+						if (baseRecords != null) {
+							byte[] chunk = new byte[8192];
+							while (baseRecords.hasRemaining()) {
+								int length = Math.min(chunk.length, baseRecords.remaining());
+								baseRecords.get(chunk, 0, length);
+								out.write(chunk, 0, length);
+							}
+						}
+						fOut.flush();
+						fRecords.writeTo(out);
+					}
+					try {
+						Files.move(temp, file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+					} catch (FileAlreadyExistsException e) {
+						// written concurrently by another container of the
+						// same archive
+						return;
+					}
+				} finally {
+					Files.deleteIfExists(temp);
+				}
+			} catch (IOException e) {
+				ApiPlugin.log("Failed to write the type structure index " + file, e); //$NON-NLS-1$
+				return;
+			}
+			// a previous generation that is still mapped cannot be deleted
+			// on some platforms, it is removed by a later pruning
+			for (File old : previous) {
+				old.delete();
+			}
+			prune(directory, file);
+		}
+
+		private void writeHeader(DataOutputStream out, File archive) throws IOException {
+			out.writeInt(MAGIC);
+			out.writeShort(VERSION);
+			byte[] path = archive.getAbsolutePath().getBytes(StandardCharsets.UTF_8);
+			out.writeInt(path.length);
+			out.write(path);
+			out.writeLong(archive.length());
+			out.writeLong(archive.lastModified());
+			out.writeInt(fPool.size());
+			for (String string : fPool.keySet()) {
+				byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+				out.writeInt(bytes.length);
+				out.write(bytes);
+			}
+		}
+	}
+
+	private final ByteBuffer fBuffer;
+	private final int[] fStringOffsets;
+	private final String[] fStrings;
+	private final Map<String, Integer> fRecords;
+	private final int fRecordsStart;
+
+	private TypeStructureIndex(ByteBuffer buffer, int[] stringOffsets, Map<String, Integer> records, int recordsStart) {
+		fBuffer = buffer;
+		fStringOffsets = stringOffsets;
+		fStrings = new String[stringOffsets.length];
+		fRecords = records;
+		fRecordsStart = recordsStart;
+	}
+
+	/**
+	 * Returns the directory the indexes are stored in, or <code>null</code> if
+	 * indexes are disabled or the framework is not running.
+	 *
+	 * @return the index directory or <code>null</code>
+	 */
+	static File getIndexDirectory() {
+		if (!ENABLED || !ApiPlugin.isRunningInFramework()) {
+			return null;
+		}
+		return ApiPlugin.getDefault().getStateLocation().append(".type_structures").toFile(); //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns the prefix of the names of the index files of the given archive,
+	 * which is followed by the generation of the index
+	 *
+	 * @param archive the archive
+	 * @return the prefix of the index file names
+	 */
+	private static String getIndexPrefix(File archive) {
+		String path = archive.getAbsolutePath();
+		return archive.getName() + '_' + Integer.toHexString(path.hashCode()) + '.';
+	}
+
+	/**
+	 * Returns the generation of the index file with the given name
+	 *
+	 * @param prefix the prefix of the index files of an archive
+	 * @param name the name of a file
+	 * @return the generation or <code>-1</code> if the file is not an index
+	 *         of the archive
+	 */
+	private static long getGeneration(String prefix, String name) {
+		if (!name.startsWith(prefix) || !name.endsWith(INDEX_EXTENSION)) {
+			return -1;
+		}
+		try {
+			return Long.parseLong(name.substring(prefix.length(), name.length() - INDEX_EXTENSION.length()));
+		} catch (NumberFormatException | IndexOutOfBoundsException e) {
+			return -1;
+		}
+	}
+
+	/**
+	 * Returns the index files of an archive
+	 *
+	 * @param directory the index directory
+	 * @param prefix the prefix of the index files of the archive
+	 * @return the index files, the most recent generation first
+	 */
+	private static List<File> getIndexFiles(File directory, String prefix) {
+		File[] files = directory.listFiles((dir, name) -> getGeneration(prefix, name) >= 0);
+		if (files == null) {
+			return List.of();
+		}
+		List<File> result = new ArrayList<>(Arrays.asList(files));
+		result.sort(Comparator.comparingLong((File file) -> getGeneration(prefix, file.getName())).reversed());
+		return result;
+	}
+
+	/**
+	 * Removes the least recently used index files, including those of
+	 * archives that were deleted, moved or changed, until the indexes fit in
+	 * {@link #MAX_INDEX_SIZE}. Loading an index marks it as used.
+	 *
+	 * @param directory the index directory
+	 * @param keep an index file that is not removed
+	 */
+	private static void prune(File directory, File keep) {
+		File[] files = directory.listFiles((dir, name) -> name.endsWith(INDEX_EXTENSION));
+		if (files == null) {
+			return;
+		}
+		long[] lastModified = new long[files.length];
+		Integer[] order = new Integer[files.length];
+		for (int i = 0; i < files.length; i++) {
+			lastModified[i] = files[i].lastModified();
+			order[i] = Integer.valueOf(i);
+		}
+		Arrays.sort(order, Comparator.comparingLong((Integer i) -> lastModified[i.intValue()]).reversed());
+		long size = 0;
+		for (Integer i : order) {
+			File file = files[i.intValue()];
+			size += file.length();
+			if (size > MAX_INDEX_SIZE && !file.equals(keep)) {
+				// a file that is still mapped is removed by a later pruning
+				file.delete();
+			}
+		}
+	}
+
+	/**
+	 * Loads the index of the given archive.
+	 *
+	 * @param archive the archive
+	 * @return the index or <code>null</code> if there is no index for the
+	 *         current content of the archive
+	 */
+	static TypeStructureIndex load(File archive) {
+		File directory = getIndexDirectory();
+		if (directory == null) {
+			return null;
+		}
+		List<File> files = getIndexFiles(directory, getIndexPrefix(archive));
+		if (files.isEmpty()) {
+			return null;
+		}
+		File file = files.get(0);
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			if (buffer.getInt() != MAGIC || buffer.getShort() != VERSION) {
+				return null;
+			}
+			byte[] path = new byte[buffer.getInt()];
+			buffer.get(path);
+			if (!archive.getAbsolutePath().equals(new String(path, StandardCharsets.UTF_8)) || buffer.getLong() != archive.length() || buffer.getLong() != archive.lastModified()) {
+				return null;
+			}
+			int[] offsets = new int[buffer.getInt()];
+			for (int i = 0; i < offsets.length; i++) {
+				offsets[i] = buffer.position();
+				buffer.position(buffer.position() + 4 + buffer.getInt());
+			}
+			int typeCount = buffer.getInt();
+			int[] names = new int[typeCount];
+			int[] recordOffsets = new int[typeCount];
+			for (int i = 0; i < typeCount; i++) {
+				names[i] = buffer.getInt();
+				recordOffsets[i] = buffer.getInt();
+			}
+			int recordsStart = buffer.position();
+			TypeStructureIndex index = new TypeStructureIndex(buffer, offsets, new HashMap<>(typeCount * 2), recordsStart);
+			for (int i = 0; i < typeCount; i++) {
+				index.fRecords.put(index.getString(names[i]), Integer.valueOf(recordsStart + recordOffsets[i]));
+			}
+			// marks the index as recently used for the pruning
+			file.setLastModified(System.currentTimeMillis());
+			return index;
+		} catch (IOException | RuntimeException e) {
+			ApiPlugin.log("Failed to load the type structure index " + file, e); //$NON-NLS-1$
+		}
+		return null;
+	}
+
+	/**
+	 * Decodes the structure of the given type.
+	 *
+	 * @param typeName the qualified name of the type
+	 * @param component the component of the type
+	 * @param storage the type root of the type
+	 * @return the type structure or <code>null</code> if the type is not in
+	 *         this index
+	 */
+	ApiType read(String typeName, IApiComponent component, IApiTypeRoot storage) {
+		Integer offset = fRecords.get(typeName);
+		if (offset == null) {
+			return null;
+		}
+		// only absolute reads so that the buffer can be shared by threads
+		int[] position = new int[] { offset.intValue() };
+		String name = readString(position);
+		String signature = readString(position);
+		String genericSignature = readString(position);
+		int modifiers = readInt(position);
+		String enclosingName = readString(position);
+		ApiType type = new ApiType(component, name, signature, genericSignature, modifiers, enclosingName, storage);
+		type.setSuperclassName(readString(position));
+		int interfaces = readInt(position);
+		if (interfaces > 0) {
+			String[] names = new String[interfaces];
+			for (int i = 0; i < interfaces; i++) {
+				names[i] = readString(position);
+			}
+			type.setSuperInterfaceNames(names);
+		}
+		int flags = fBuffer.get(position[0]++);
+		if ((flags & FLAG_ANONYMOUS) != 0) {
+			type.setAnonymous();
+		}
+		if ((flags & FLAG_LOCAL) != 0) {
+			type.setLocal();
+		}
+		if ((flags & FLAG_MEMBER) != 0) {
+			type.setMemberType();
+		}
+		String simpleName = readString(position);
+		if (simpleName != null) {
+			type.setSimpleName(simpleName);
+		}
+		String enclosingMethodName = readString(position);
+		String enclosingMethodSignature = readString(position);
+		if ((flags & FLAG_ENCLOSING_METHOD) != 0) {
+			type.setEnclosingMethodInfo(enclosingMethodName, enclosingMethodSignature);
+		}
+		int memberTypes = readInt(position);
+		for (int i = 0; i < memberTypes; i++) {
+			type.addMemberType(readString(position));
+		}
+		int fields = readInt(position);
+		for (int i = 0; i < fields; i++) {
+			String fieldName = readString(position);
+			String descriptor = readString(position);
+			String fieldGenericSignature = readString(position);
+			int fieldModifiers = readInt(position);
+			Object value = readValue(position);
+			type.addField(fieldName, descriptor, fieldGenericSignature, fieldModifiers, value);
+		}
+		int methods = readInt(position);
+		for (int i = 0; i < methods; i++) {
+			String methodName = readString(position);
+			String descriptor = readString(position);
+			String methodGenericSignature = readString(position);
+			int methodModifiers = readInt(position);
+			int exceptionCount = readInt(position);
+			String[] exceptions = null;
+			if (exceptionCount >= 0) {
+				exceptions = new String[exceptionCount];
+				for (int j = 0; j < exceptionCount; j++) {
+					exceptions[j] = readString(position);
+				}
+			}
+			ApiMethod method = type.addMethod(methodName, descriptor, methodGenericSignature, methodModifiers, exceptions);
+			String defaultValue = readString(position);
+			if (defaultValue != null) {
+				method.setDefaultValue(defaultValue);
+			}
+		}
+		return type;
+	}
+
+	private int readInt(int[] position) {
+		int value = fBuffer.getInt(position[0]);
+		position[0] += 4;
+		return value;
+	}
+
+	private String readString(int[] position) {
+		return getString(readInt(position));
+	}
+
+	private Object readValue(int[] position) {
+		byte kind = fBuffer.get(position[0]++);
+		Object value = null;
+		switch (kind) {
+			case VALUE_INTEGER:
+				value = Integer.valueOf(fBuffer.getInt(position[0]));
+				position[0] += 4;
+				break;
+			case VALUE_LONG:
+				value = Long.valueOf(fBuffer.getLong(position[0]));
+				position[0] += 8;
+				break;
+			case VALUE_FLOAT:
+				value = Float.valueOf(fBuffer.getFloat(position[0]));
+				position[0] += 4;
+				break;
+			case VALUE_DOUBLE:
+				value = Double.valueOf(fBuffer.getDouble(position[0]));
+				position[0] += 8;
+				break;
+			case VALUE_STRING:
+				value = readString(position);
+				break;
+			default:
+				break;
+		}
+		return value;
+	}
+
+	private String getString(int index) {
+		if (index < 0) {
+			return null;
+		}
+		String string = fStrings[index];
+		if (string == null) {
+			int offset = fStringOffsets[index];
+			byte[] bytes = new byte[fBuffer.getInt(offset)];
+			fBuffer.get(offset + 4, bytes);
+			string = new String(bytes, StandardCharsets.UTF_8);
+			fStrings[index] = string;
+		}
+		return string;
+	}
+
+	private static int index(Map<String, Integer> pool, String string) {
+		if (string == null) {
+			return -1;
+		}
+		Integer index = pool.get(string);
+		if (index == null) {
+			index = Integer.valueOf(pool.size());
+			pool.put(string, index);
+		}
+		return index.intValue();
+	}
+
+	private static void writeType(DataOutputStream out, Map<String, Integer> pool, ApiType type) throws IOException {
+		out.writeInt(index(pool, type.getName()));
+		out.writeInt(index(pool, type.getSignature()));
+		out.writeInt(index(pool, type.getGenericSignature()));
+		out.writeInt(type.getModifiers());
+		out.writeInt(index(pool, type.getEnclosingTypeName()));
+		out.writeInt(index(pool, type.getSuperclassName()));
+		String[] interfaces = type.getSuperInterfaceNames();
+		if (interfaces == null) {
+			out.writeInt(0);
+		} else {
+			out.writeInt(interfaces.length);
+			for (String name : interfaces) {
+				out.writeInt(index(pool, name));
+			}
+		}
+		int flags = 0;
+		if (type.isAnonymous()) {
+			flags |= FLAG_ANONYMOUS;
+		}
+		if (type.isLocal()) {
+			flags |= FLAG_LOCAL;
+		}
+		if (type.isMemberType()) {
+			flags |= FLAG_MEMBER;
+		}
+		if (type.hasEnclosingMethodInfo()) {
+			flags |= FLAG_ENCLOSING_METHOD;
+		}
+		out.writeByte(flags);
+		out.writeInt(index(pool, type.isLocal() || type.isMemberType() ? type.getSimpleName() : null));
+		out.writeInt(index(pool, type.getEnclosingMethodName()));
+		out.writeInt(index(pool, type.getEnclosingMethodSignature()));
+		out.writeInt(type.getMemberTypeNames().size());
+		for (String name : type.getMemberTypeNames()) {
+			out.writeInt(index(pool, name));
+		}
+		IApiField[] fields = type.getFields();
+		out.writeInt(fields.length);
+		for (IApiField field : fields) {
+			out.writeInt(index(pool, field.getName()));
+			out.writeInt(index(pool, field.getSignature()));
+			out.writeInt(index(pool, field.getGenericSignature()));
+			out.writeInt(field.getModifiers());
+			writeValue(out, pool, field.getConstantValue());
+		}
+		IApiMethod[] methods = type.getMethods();
+		out.writeInt(methods.length);
+		for (IApiMethod method : methods) {
+			out.writeInt(index(pool, method.getName()));
+			out.writeInt(index(pool, method.getSignature()));
+			out.writeInt(index(pool, method.getGenericSignature()));
+			out.writeInt(method.getModifiers());
+			String[] exceptions = method.getExceptionNames();
+			if (exceptions == null) {
+				out.writeInt(-1);
+			} else {
+				out.writeInt(exceptions.length);
+				for (String exception : exceptions) {
+					out.writeInt(index(pool, exception));
+				}
+			}
+			out.writeInt(index(pool, method.getDefaultValue()));
+		}
+	}
+
+	private static void writeValue(DataOutputStream out, Map<String, Integer> pool, Object value) throws IOException {
+		if (value instanceof Integer integer) {
+			out.writeByte(VALUE_INTEGER);
+			out.writeInt(integer.intValue());
+		} else if (value instanceof Long longValue) {
+			out.writeByte(VALUE_LONG);
+			out.writeLong(longValue.longValue());
+		} else if (value instanceof Float floatValue) {
+			out.writeByte(VALUE_FLOAT);
+			out.writeFloat(floatValue.floatValue());
+		} else if (value instanceof Double doubleValue) {
+			out.writeByte(VALUE_DOUBLE);
+			out.writeDouble(doubleValue.doubleValue());
+		} else if (value instanceof String string) {
+			out.writeByte(VALUE_STRING);
+			out.writeInt(index(pool, string));
+		} else {
+			out.writeByte(VALUE_NONE);
+		}
+	}
+}
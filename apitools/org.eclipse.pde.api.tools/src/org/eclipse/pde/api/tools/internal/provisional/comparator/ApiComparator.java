@@ -13,12 +13,19 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.provisional.comparator;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.jdt.core.Flags;
 import org.eclipse.pde.api.tools.internal.builder.AbstractProblemDetector;
@@ -52,6 +59,14 @@ public class ApiComparator {
 	 */
 	public static final IDelta NO_DELTA = new Delta();
 
+	/**
+	 * Default number of components compared concurrently when comparing two
+	 * baselines, can be set with the
+	 * <code>org.eclipse.pde.api.tools.comparisonParallelism</code> system
+	 * property. Components are compared serially by default.
+	 */
+	private static final int DEFAULT_PARALLELISM = Math.max(1, Integer.getInteger("org.eclipse.pde.api.tools.comparisonParallelism", 1)); //$NON-NLS-1$
+
 	/**
 	 * Returns a delta for a API component version change
 	 */
@@ -99,6 +114,37 @@ public class ApiComparator {
 	 * @throws IllegalArgumentException if one of the two baselines is null
 	 */
 	public static IDelta compare(final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final IProgressMonitor monitor) {
+		return compare(referenceBaseline, baseline, visibilityModifiers, force, DEFAULT_PARALLELISM, monitor);
+	}
+
+	/**
+	 * Returns a delta that corresponds to the difference between the given
+	 * baseline and the reference, comparing up to <code>parallelism</code>
+	 * components concurrently.
+	 * <p>
+	 * The deltas of the components are added to the returned delta in the
+	 * order of the components of the reference baseline, so the result does
+	 * not depend on the parallelism.
+	 * </p>
+	 *
+	 * @param referenceBaseline the given API baseline which is used as the
+	 *            reference
+	 * @param baseline the given API baseline to compare with
+	 * @param visibilityModifiers the given visibility that triggers what
+	 *            visibility should be used for the comparison
+	 * @param force a flag to force the comparison of nested API components with
+	 *            the same versions
+	 * @param parallelism the maximum number of components compared
+	 *            concurrently, values lower than <code>2</code> compare the
+	 *            components serially
+	 * @param monitor
+	 *
+	 * @return a delta, an empty delta if no difference is found or null if the
+	 *         delta detection failed
+	 * @throws IllegalArgumentException if one of the two baselines is null
+	 * @since 1.3.600
+	 */
+	public static IDelta compare(final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final int parallelism, final IProgressMonitor monitor) {
 		SubMonitor localmonitor = SubMonitor.convert(monitor, 2);
 		if (referenceBaseline == null || baseline == null) {
 			throw new IllegalArgumentException("None of the baselines must be null"); //$NON-NLS-1$
@@ -108,41 +154,55 @@ public class ApiComparator {
 		Set<String> apiComponentsIds = new HashSet<>();
 		final Delta globalDelta = new Delta();
 		SubMonitor apiLoopMonitor = localmonitor.split(1).setWorkRemaining(apiComponents.length);
-		for (IApiComponent apiComponentMainLoop : apiComponents) {
-			apiLoopMonitor.split(1);
-			IApiComponent apiComponent = apiComponentMainLoop;
-			if (!apiComponent.isSystemComponent()) {
-				String id = apiComponent.getSymbolicName();
-				IApiComponent apiComponentBaseline = baseline.getApiComponent(id);
-				IDelta delta = null;
-				if (apiComponentBaseline == null) {
-					// report removal of an API component
-					delta = new Delta(null, IDelta.API_BASELINE_ELEMENT_TYPE, IDelta.REMOVED, IDelta.API_COMPONENT,
-							null, id, id);
-				} else {
-					apiComponentsIds.add(id);
-					String versionString = apiComponent.getVersion();
-					String versionString2 = apiComponentBaseline.getVersion();
-					IDelta bundleVersionChangesDelta = checkBundleVersionChanges(apiComponentBaseline, id,
-							versionString, versionString2);
-					if (bundleVersionChangesDelta != null) {
-						globalDelta.add(bundleVersionChangesDelta);
+		if (parallelism > 1 && apiComponents.length > 1) {
+			ForkJoinPool pool = new ForkJoinPool(Math.min(parallelism, apiComponents.length));
+			try {
+				List<ForkJoinTask<IDelta[]>> tasks = new ArrayList<>(apiComponents.length);
+				for (IApiComponent apiComponent : apiComponents) {
+					if (apiComponent.isSystemComponent()) {
+						continue;
 					}
-					if (!versionString.equals(versionString2) || force) {
-						long time = System.currentTimeMillis();
-						try {
-							delta = compare(apiComponent, apiComponentBaseline, referenceBaseline, baseline,
-									visibilityModifiers, localmonitor.split(1));
-						} finally {
-							if (ApiPlugin.DEBUG_API_COMPARATOR) {
-								System.out.println("Time spent for " + id + " " + versionString + " : " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-										+ (System.currentTimeMillis() - time) + "ms"); //$NON-NLS-1$
-							}
+					apiComponentsIds.add(apiComponent.getSymbolicName());
+					tasks.add(pool.submit(() -> {
+						if (apiLoopMonitor.isCanceled()) {
+							return null;
 						}
+						return compareComponent(apiComponent, referenceBaseline, baseline, visibilityModifiers, force, null);
+					}));
+				}
+				for (ForkJoinTask<IDelta[]> task : tasks) {
+					apiLoopMonitor.split(1);
+					try {
+						addComponentDeltas(globalDelta, task.get());
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						throw new OperationCanceledException();
+					} catch (ExecutionException e) {
+						// fail as the serial comparison would
+						Throwable cause = e.getCause();
+						if (cause instanceof RuntimeException runtimeException) {
+							throw runtimeException;
+						}
+						if (cause instanceof Error error) {
+							throw error;
+						}
+						throw new IllegalStateException(cause);
 					}
 				}
-				if (delta != null && delta != NO_DELTA) {
-					globalDelta.add(delta);
+			} finally {
+				pool.shutdownNow();
+			}
+			// components only present in the reference are not added
+			apiComponentsIds.removeIf(id -> baseline.getApiComponent(id) == null);
+		} else {
+			for (IApiComponent apiComponent : apiComponents) {
+				SubMonitor iterationMonitor = apiLoopMonitor.split(1);
+				if (!apiComponent.isSystemComponent()) {
+					String id = apiComponent.getSymbolicName();
+					if (baseline.getApiComponent(id) != null) {
+						apiComponentsIds.add(id);
+					}
+					addComponentDeltas(globalDelta, compareComponent(apiComponent, referenceBaseline, baseline, visibilityModifiers, force, iterationMonitor));
 				}
 			}
 		}
@@ -162,6 +222,58 @@ public class ApiComparator {
 		return globalDelta.isEmpty() ? NO_DELTA : globalDelta;
 	}
 
+	/**
+	 * Compares a component of the reference baseline with the component of the
+	 * same name in the given baseline. This method has no side effect, so it
+	 * can be called concurrently for different components.
+	 *
+	 * @return the version change delta and the delta of the component, either
+	 *         can be <code>null</code>
+	 */
+	private static IDelta[] compareComponent(final IApiComponent apiComponent, final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final IProgressMonitor monitor) {
+		String id = apiComponent.getSymbolicName();
+		IApiComponent apiComponentBaseline = baseline.getApiComponent(id);
+		if (apiComponentBaseline == null) {
+			// report removal of an API component
+			return new IDelta[] {
+					null,
+					new Delta(null, IDelta.API_BASELINE_ELEMENT_TYPE, IDelta.REMOVED, IDelta.API_COMPONENT, null, id, id) };
+		}
+		String versionString = apiComponent.getVersion();
+		String versionString2 = apiComponentBaseline.getVersion();
+		IDelta bundleVersionChangesDelta = checkBundleVersionChanges(apiComponentBaseline, id, versionString, versionString2);
+		IDelta delta = null;
+		if (!versionString.equals(versionString2) || force) {
+			long time = System.currentTimeMillis();
+			try {
+				delta = compare(apiComponent, apiComponentBaseline, referenceBaseline, baseline, visibilityModifiers, monitor);
+			} finally {
+				if (ApiPlugin.DEBUG_API_COMPARATOR) {
+					System.out.println("Time spent for " + id + " " + versionString + " : " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+							+ (System.currentTimeMillis() - time) + "ms"); //$NON-NLS-1$
+				}
+			}
+		}
+		return new IDelta[] { bundleVersionChangesDelta, delta };
+	}
+
+	/**
+	 * Adds the deltas computed by
+	 * {@link #compareComponent(IApiComponent, IApiBaseline, IApiBaseline, int, boolean, IProgressMonitor)}
+	 * to the given global delta
+	 */
+	private static void addComponentDeltas(Delta globalDelta, IDelta[] deltas) {
+		if (deltas == null) {
+			return;
+		}
+		if (deltas[0] != null) {
+			globalDelta.add(deltas[0]);
+		}
+		if (deltas[1] != null && deltas[1] != NO_DELTA) {
+			globalDelta.add(deltas[1]);
+		}
+	}
+
 	/**
 	 * Returns a delta that corresponds to the difference between the given
 	 * component and the reference baseline.
@@ -529,14 +641,45 @@ public class ApiComparator {
 	 *             visited
 	 */
 	public static IDelta compare(final IApiScope scope, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final boolean continueOnResolverError, final IProgressMonitor monitor) throws CoreException {
+		return compare(scope, baseline, visibilityModifiers, force, continueOnResolverError, DEFAULT_PARALLELISM, monitor);
+	}
+
+	/**
+	 * Returns a delta that corresponds to the comparison of the given scope
+	 * with the given baseline, comparing up to <code>parallelism</code>
+	 * components concurrently when the scope contains a whole baseline. The
+	 * resulting delta does not depend on the parallelism.
+	 *
+	 * @param scope the given scope for the comparison
+	 * @param baseline the given API baseline to compare with
+	 * @param visibilityModifiers the given visibility that triggers what
+	 *            visibility should be used for the comparison
+	 * @param force a flag to force the comparison of nested API components with
+	 *            the same versions
+	 * @param continueOnResolverError if <code>true</code> the comparison will
+	 *            continue even if a component in the scope has a resolver error
+	 * @param parallelism the maximum number of components compared
+	 *            concurrently
+	 * @param monitor the given progress monitor to report progress
+	 *
+	 * @return a delta, an empty delta if no difference is found or null if the
+	 *         delta detection failed. If set to continue on resolver error a
+	 *         delta, possibly empty, will always be returned
+	 * @throws CoreException if one of the element in the scope cannot be
+	 *             visited
+	 * @since 1.3.600
+	 */
+	public static IDelta compare(final IApiScope scope, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final boolean continueOnResolverError, final int parallelism, final IProgressMonitor monitor) throws CoreException {
 
 		if (scope == null || baseline == null) {
 			throw new IllegalArgumentException("None of the scope or the baseline must be null"); //$NON-NLS-1$
 		}
 		SubMonitor localmonitor = SubMonitor.convert(monitor, 2);
-		final Set<IDelta> deltas = new HashSet<>();
+		// keep the deltas in visit order so that the result is deterministic
+		final Set<IDelta> deltas = new LinkedHashSet<>();
 		final CompareApiScopeVisitor visitor = new CompareApiScopeVisitor(deltas, baseline, force, visibilityModifiers,
 				continueOnResolverError, localmonitor.split(1));
+		visitor.setParallelism(parallelism);
 		scope.accept(visitor);
 
 		// If set to continue on error, return whatever deltas were
@@ -40,6 +40,7 @@ public class CompareApiScopeVisitor extends ApiScopeVisitor {
 	boolean continueOnResolverError = false;
 	boolean containsErrors = false;
 	SubMonitor monitor;
+	int parallelism = 1;
 
 	public CompareApiScopeVisitor(final Set<IDelta> deltas, final IApiBaseline baseline, final boolean force, final int visibilityModifiers, final boolean continueOnResolverError, final SubMonitor monitor) {
 		this.deltas = deltas;
@@ -50,10 +51,22 @@ public class CompareApiScopeVisitor extends ApiScopeVisitor {
 		this.monitor = monitor;
 	}
 
+	/**
+	 * Sets the maximum number of components compared concurrently when a
+	 * baseline is visited
+	 *
+	 * @param parallelism the maximum number of components compared
+	 *            concurrently
+	 * @since 1.3.600
+	 */
+	public void setParallelism(int parallelism) {
+		this.parallelism = parallelism;
+	}
+
 	@Override
 	public boolean visit(IApiBaseline baseline) throws CoreException {
 		this.monitor.setWorkRemaining(100).split(1);
-		IDelta delta = ApiComparator.compare(this.referenceBaseline, baseline, this.visibilityModifiers, this.force, null);
+		IDelta delta = ApiComparator.compare(this.referenceBaseline, baseline, this.visibilityModifiers, this.force, this.parallelism, null);
 		if (delta != null) {
 			delta.accept(new DeltaVisitor() {
 				@Override
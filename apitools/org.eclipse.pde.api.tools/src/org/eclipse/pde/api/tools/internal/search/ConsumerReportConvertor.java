@@ -30,7 +30,6 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
-import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
 import org.eclipse.pde.api.tools.internal.provisional.descriptors.IComponentDescriptor;
 import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
 import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMemberDescriptor;
@@ -159,6 +158,10 @@ public class ConsumerReportConvertor extends UseReportConverter {
 					ApiPlugin.log(e);
 				}
 			}
+			// the producer page is written, only the counts of the producer
+			// are needed for the consumer page
+			this.currentProducer.types.clear();
+			this.keys.clear();
 		}
 
 		@Override
@@ -214,114 +217,11 @@ public class ConsumerReportConvertor extends UseReportConverter {
 				this.currentmember.children.put(refname, refs);
 			}
 			refs.add(new Reference(fromMember, lineNumber, visibility, formatMessages(reference.getProblemMessages())));
-			switch (fromMember.getElementType()) {
-				case IElementDescriptor.TYPE -> {
-					switch (visibility) {
-						case VisibilityModifiers.API -> {
-							this.consumer.counts.total_api_type_count++;
-							this.currentProducer.counts.total_api_type_count++;
-							this.currentmember.counts.total_api_type_count++;
-							this.currenttype.counts.total_api_type_count++;
-						}
-						case VisibilityModifiers.PRIVATE -> {
-							this.consumer.counts.total_private_type_count++;
-							this.currentProducer.counts.total_private_type_count++;
-							this.currentmember.counts.total_private_type_count++;
-							this.currenttype.counts.total_private_type_count++;
-						}
-						case VisibilityModifiers.PRIVATE_PERMISSIBLE -> {
-							this.consumer.counts.total_permissable_type_count++;
-							this.currentProducer.counts.total_permissable_type_count++;
-							this.currentmember.counts.total_permissable_type_count++;
-							this.currenttype.counts.total_permissable_type_count++;
-						}
-						case FRAGMENT_PERMISSIBLE -> {
-							this.consumer.counts.total_fragment_permissible_type_count++;
-							this.currentProducer.counts.total_fragment_permissible_type_count++;
-							this.currentmember.counts.total_fragment_permissible_type_count++;
-							this.currenttype.counts.total_fragment_permissible_type_count++;
-						}
-						case VisibilityModifiers.ILLEGAL_API -> {
-							this.consumer.counts.total_illegal_type_count++;
-							this.currentProducer.counts.total_illegal_type_count++;
-							this.currentmember.counts.total_illegal_type_count++;
-							this.currenttype.counts.total_illegal_type_count++;
-						}
-						default -> { /**/ }
-					}
-				}
-				case IElementDescriptor.METHOD -> {
-					switch (visibility) {
-						case VisibilityModifiers.API -> {
-							this.consumer.counts.total_api_method_count++;
-							this.currentProducer.counts.total_api_method_count++;
-							this.currentmember.counts.total_api_method_count++;
-							this.currenttype.counts.total_api_method_count++;
-						}
-						case VisibilityModifiers.PRIVATE -> {
-							this.consumer.counts.total_private_method_count++;
-							this.currentProducer.counts.total_private_method_count++;
-							this.currentmember.counts.total_private_method_count++;
-							this.currenttype.counts.total_private_method_count++;
-						}
-						case VisibilityModifiers.PRIVATE_PERMISSIBLE -> {
-							this.consumer.counts.total_permissable_method_count++;
-							this.currentProducer.counts.total_permissable_method_count++;
-							this.currentmember.counts.total_permissable_method_count++;
-							this.currenttype.counts.total_permissable_method_count++;
-						}
-						case FRAGMENT_PERMISSIBLE -> {
-							this.consumer.counts.total_fragment_permissible_method_count++;
-							this.currentProducer.counts.total_fragment_permissible_method_count++;
-							this.currentmember.counts.total_fragment_permissible_method_count++;
-							this.currenttype.counts.total_fragment_permissible_method_count++;
-						}
-						case VisibilityModifiers.ILLEGAL_API -> {
-							this.consumer.counts.total_illegal_method_count++;
-							this.currentProducer.counts.total_illegal_method_count++;
-							this.currentmember.counts.total_illegal_method_count++;
-							this.currenttype.counts.total_illegal_method_count++;
-						}
-						default -> { /**/ }
-					}
-				}
-				case IElementDescriptor.FIELD -> {
-					switch (visibility) {
-						case VisibilityModifiers.API -> {
-							this.consumer.counts.total_api_field_count++;
-							this.currentProducer.counts.total_api_field_count++;
-							this.currentmember.counts.total_api_field_count++;
-							this.currenttype.counts.total_api_field_count++;
-						}
-						case VisibilityModifiers.PRIVATE -> {
-							this.consumer.counts.total_private_field_count++;
-							this.currentProducer.counts.total_private_field_count++;
-							this.currentmember.counts.total_private_field_count++;
-							this.currenttype.counts.total_private_field_count++;
-						}
-						case VisibilityModifiers.PRIVATE_PERMISSIBLE -> {
-							this.consumer.counts.total_permissable_field_count++;
-							this.currentProducer.counts.total_permissable_field_count++;
-							this.currentmember.counts.total_permissable_field_count++;
-							this.currenttype.counts.total_permissable_field_count++;
-						}
-						case FRAGMENT_PERMISSIBLE -> {
-							this.consumer.counts.total_fragment_permissible_field_count++;
-							this.currentProducer.counts.total_fragment_permissible_field_count++;
-							this.currentmember.counts.total_fragment_permissible_field_count++;
-							this.currenttype.counts.total_fragment_permissible_field_count++;
-						}
-						case VisibilityModifiers.ILLEGAL_API -> {
-							this.consumer.counts.total_illegal_field_count++;
-							this.currentProducer.counts.total_illegal_field_count++;
-							this.currentmember.counts.total_illegal_field_count++;
-							this.currenttype.counts.total_illegal_field_count++;
-						}
-						default -> { /**/ }
-					}
-				}
-				default -> { /**/ }
-			}
+			int elementType = fromMember.getElementType();
+			this.consumer.counts.count(elementType, visibility);
+			this.currentProducer.counts.count(elementType, visibility);
+			this.currentmember.counts.count(elementType, visibility);
+			this.currenttype.counts.count(elementType, visibility);
 		}
 
 		/**
@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.search;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IFieldDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMemberDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMethodDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IReferenceTypeDescriptor;
+import org.eclipse.pde.api.tools.internal.search.UseReportConverter.Member;
+import org.eclipse.pde.api.tools.internal.search.UseReportConverter.Reference;
+
+/**
+ * Temporary file holding the references visited for a referenced component
+ * while its report is being built, so that only the references of the type
+ * whose page is being written have to be kept in memory.
+ * <p>
+ * References are written in blocks, a block holding the references to one
+ * member found in one file of the use scan. The offsets of the blocks are
+ * grouped by referenced type by the caller and read back type by type.
+ * </p>
+ */
+final class ReferenceSpill implements Closeable {
+
+	private static final byte END_OF_BLOCK = 0;
+	private static final byte REFERENCE = 1;
+
+	/**
+	 * Output stream that counts the bytes written to it, the count of a
+	 * {@link DataOutputStream} is limited to an int
+	 */
+	private static final class CountingOutputStream extends FilterOutputStream {
+		long count = 0;
+
+		CountingOutputStream(OutputStream out) {
+			super(out);
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			out.write(b);
+			count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			out.write(b, off, len);
+			count += len;
+		}
+	}
+
+	private final Path fFile;
+	private final CountingOutputStream fCounter;
+	private final DataOutputStream fOutput;
+	private FileChannel fChannel = null;
+
+	/**
+	 * Constructor, creates the temporary file
+	 *
+	 * @throws IOException if the file cannot be created
+	 */
+	ReferenceSpill() throws IOException {
+		fFile = Files.createTempFile("apiuse", ".refs"); //$NON-NLS-1$ //$NON-NLS-2$
+		fCounter = new CountingOutputStream(new BufferedOutputStream(Files.newOutputStream(fFile)));
+		fOutput = new DataOutputStream(fCounter);
+	}
+
+	/**
+	 * Starts a new block of references to the given member
+	 *
+	 * @return the offset of the block
+	 */
+	long startBlock(IMemberDescriptor member) throws IOException {
+		long offset = fCounter.count;
+		writeDescriptor(member);
+		return offset;
+	}
+
+	/**
+	 * Adds a reference of the given kind to the current block
+	 */
+	void writeReference(String kind, Reference reference) throws IOException {
+		fOutput.writeByte(REFERENCE);
+		writeString(kind);
+		writeDescriptor(reference.desc);
+		fOutput.writeInt(reference.line);
+		fOutput.writeInt(reference.vis);
+		writeString(reference.message);
+	}
+
+	/**
+	 * Ends the current block
+	 */
+	void endBlock() throws IOException {
+		fOutput.writeByte(END_OF_BLOCK);
+	}
+
+	/**
+	 * Reads the blocks at the given offsets and adds their references to the
+	 * given members, by referenced member.
+	 */
+	void readBlocks(List<Long> offsets, Map<IMemberDescriptor, Member> members) throws IOException {
+		if (fChannel == null) {
+			fOutput.flush();
+			fChannel = FileChannel.open(fFile, StandardOpenOption.READ);
+		}
+		for (Long offset : offsets) {
+			// the stream is not closed as this would close the channel
+			DataInputStream input = new DataInputStream(new BufferedInputStream(Channels.newInputStream(fChannel.position(offset.longValue()))));
+			Member member = members.computeIfAbsent((IMemberDescriptor) readDescriptor(input), Member::new);
+			while (input.readByte() == REFERENCE) {
+				String kind = readString(input);
+				IElementDescriptor desc = readDescriptor(input);
+				int line = input.readInt();
+				int vis = input.readInt();
+				String message = readString(input);
+				member.children.computeIfAbsent(kind, k -> new ArrayList<>()).add(new Reference(desc, line, vis, message));
+			}
+		}
+	}
+
+	/**
+	 * Closes and deletes the temporary file
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			fOutput.close();
+			if (fChannel != null) {
+				fChannel.close();
+			}
+		} finally {
+			Files.deleteIfExists(fFile);
+		}
+	}
+
+	private void writeDescriptor(IElementDescriptor desc) throws IOException {
+		int type = desc.getElementType();
+		fOutput.writeByte(type);
+		switch (type) {
+			case IElementDescriptor.TYPE -> writeString(((IReferenceTypeDescriptor) desc).getQualifiedName());
+			case IElementDescriptor.METHOD -> {
+				IMethodDescriptor method = (IMethodDescriptor) desc;
+				writeString(method.getEnclosingType().getQualifiedName());
+				writeString(method.getName());
+				writeString(method.getSignature());
+			}
+			case IElementDescriptor.FIELD -> {
+				IFieldDescriptor field = (IFieldDescriptor) desc;
+				writeString(field.getEnclosingType().getQualifiedName());
+				writeString(field.getName());
+			}
+			default -> throw new IOException("Unsupported element type: " + type); //$NON-NLS-1$
+		}
+	}
+
+	private static IElementDescriptor readDescriptor(DataInputStream input) throws IOException {
+		int type = input.readByte();
+		return switch (type)
+			{
+			case IElementDescriptor.TYPE -> Factory.typeDescriptor(readString(input));
+			case IElementDescriptor.METHOD -> Factory.methodDescriptor(readString(input), readString(input), readString(input));
+			case IElementDescriptor.FIELD -> Factory.fieldDescriptor(readString(input), readString(input));
+			default -> throw new IOException("Unsupported element type: " + type); //$NON-NLS-1$
+			};
+	}
+
+	private void writeString(String value) throws IOException {
+		if (value == null) {
+			fOutput.writeInt(-1);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		fOutput.writeInt(bytes.length);
+		fOutput.write(bytes);
+	}
+
+	private static String readString(DataInputStream input) throws IOException {
+		int length = input.readInt();
+		if (length < 0) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		input.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -87,7 +87,13 @@ public class UseReportConverter extends HTMLConvertor {
 		List<Report> reports = new ArrayList<>();
 		Report currentreport = null;
 		Type currenttype = null, currentreferee = null;
-		Member currentmember = null;
+		IMemberDescriptor currentmember = null;
+		/**
+		 * Offset of the block of references to the current member in the
+		 * spill of the current report, <code>-1</code> until a reference to
+		 * the member is accepted
+		 */
+		long currentblock = -1;
 		Map<IReferenceTypeDescriptor, Type> keys = new HashMap<>();
 		List<Type> referees = new ArrayList<>();
 
@@ -139,7 +145,7 @@ public class UseReportConverter extends HTMLConvertor {
 					System.out.println("Writing report for bundle: " + target.getId()); //$NON-NLS-1$
 					start = System.currentTimeMillis();
 				}
-				if (this.currentreport.counts.getTotalRefCount() > 0) {
+				if (this.currentreport.counts.getTotalRefCount() > 0 && this.currentreport.spill != null) {
 					writeReferencedMemberPage(this.currentreport, this.referees);
 				} else {
 					this.reports.remove(this.currentreport);
@@ -153,6 +159,14 @@ public class UseReportConverter extends HTMLConvertor {
 				// clear any children as we have written them out - keep the
 				// report object to write a sorted index page
 				this.currentreport.children.clear();
+				if (this.currentreport.spill != null) {
+					try {
+						this.currentreport.spill.close();
+					} catch (IOException e) {
+						ApiPlugin.log(e);
+					}
+					this.currentreport.spill = null;
+				}
 				this.keys.clear();
 				this.referees.clear();
 			}
@@ -178,23 +192,25 @@ public class UseReportConverter extends HTMLConvertor {
 				return false;
 			}
 			this.currenttype = this.keys.computeIfAbsent(desc, Type::new);
-			Map<IMemberDescriptor, Member> map = this.currentreport.children.computeIfAbsent(this.currenttype,
-					t -> new TreeMap<>(compare));
-			this.currentmember = map.computeIfAbsent(referencedMember, Member::new);
+			this.currentmember = referencedMember;
+			this.currentblock = -1;
 			return true;
 		}
 
 		@Override
 		public void endVisitMember(IMemberDescriptor referencedMember) {
-			if (this.currentmember.children.isEmpty()) {
-				TreeMap<IMemberDescriptor, Member> map = this.currentreport.children.get(this.currenttype);
-				map.remove(referencedMember);
+			if (this.currentblock != -1) {
+				try {
+					this.currentreport.spill.endBlock();
+				} catch (IOException e) {
+					ApiPlugin.log(e);
+				}
+				this.currentblock = -1;
 			}
 			if (this.currenttype.counts.getTotalRefCount() == 0) {
 				IReferenceTypeDescriptor desc = getEnclosingDescriptor(referencedMember);
 				if (desc != null) {
 					this.keys.remove(desc);
-					this.currentreport.children.remove(this.currenttype);
 				}
 			}
 		}
@@ -228,120 +244,23 @@ public class UseReportConverter extends HTMLConvertor {
 			int refKind = reference.getReferenceKind();
 			int visibility = reference.getVisibility();
 			String refname = org.eclipse.pde.api.tools.internal.builder.Reference.getReferenceText(refKind);
-			List<Reference> refs = this.currentmember.children.get(refname);
-			if (refs == null) {
-				refs = new ArrayList<>();
-				this.currentmember.children.put(refname, refs);
-			}
-			refs.add(new Reference(fromMember, lineNumber, visibility, formatMessages(reference.getProblemMessages())));
-			switch (fromMember.getElementType()) {
-				case IElementDescriptor.TYPE -> {
-					switch (visibility) {
-						case VisibilityModifiers.API -> {
-							this.currentmember.counts.total_api_type_count++;
-							this.currenttype.counts.total_api_type_count++;
-							this.currentreferee.counts.total_api_type_count++;
-							this.currentreport.counts.total_api_type_count++;
-						}
-						case VisibilityModifiers.PRIVATE -> {
-							this.currentmember.counts.total_private_type_count++;
-							this.currenttype.counts.total_private_type_count++;
-							this.currentreferee.counts.total_private_type_count++;
-							this.currentreport.counts.total_private_type_count++;
-						}
-						case VisibilityModifiers.PRIVATE_PERMISSIBLE -> {
-							this.currentmember.counts.total_permissable_type_count++;
-							this.currenttype.counts.total_permissable_type_count++;
-							this.currentreferee.counts.total_permissable_type_count++;
-							this.currentreport.counts.total_permissable_type_count++;
-						}
-						case FRAGMENT_PERMISSIBLE -> {
-							this.currentmember.counts.total_fragment_permissible_type_count++;
-							this.currenttype.counts.total_fragment_permissible_type_count++;
-							this.currentreferee.counts.total_fragment_permissible_type_count++;
-							this.currentreport.counts.total_fragment_permissible_type_count++;
-						}
-						case VisibilityModifiers.ILLEGAL_API -> {
-							this.currentmember.counts.total_illegal_type_count++;
-							this.currenttype.counts.total_illegal_type_count++;
-							this.currentreferee.counts.total_illegal_type_count++;
-							this.currentreport.counts.total_illegal_type_count++;
-						}
-						default -> { /**/ }
-					}
-				}
-				case IElementDescriptor.METHOD -> {
-					switch (visibility) {
-						case VisibilityModifiers.API -> {
-							this.currentmember.counts.total_api_method_count++;
-							this.currenttype.counts.total_api_method_count++;
-							this.currentreferee.counts.total_api_method_count++;
-							this.currentreport.counts.total_api_method_count++;
-						}
-						case VisibilityModifiers.PRIVATE -> {
-							this.currentmember.counts.total_private_method_count++;
-							this.currenttype.counts.total_private_method_count++;
-							this.currentreferee.counts.total_private_method_count++;
-							this.currentreport.counts.total_private_method_count++;
-						}
-						case VisibilityModifiers.PRIVATE_PERMISSIBLE -> {
-							this.currentmember.counts.total_permissable_method_count++;
-							this.currenttype.counts.total_permissable_method_count++;
-							this.currentreferee.counts.total_permissable_method_count++;
-							this.currentreport.counts.total_permissable_method_count++;
-						}
-						case FRAGMENT_PERMISSIBLE -> {
-							this.currentmember.counts.total_fragment_permissible_method_count++;
-							this.currenttype.counts.total_fragment_permissible_method_count++;
-							this.currentreferee.counts.total_fragment_permissible_method_count++;
-							this.currentreport.counts.total_fragment_permissible_method_count++;
-						}
-						case VisibilityModifiers.ILLEGAL_API -> {
-							this.currentmember.counts.total_illegal_method_count++;
-							this.currenttype.counts.total_illegal_method_count++;
-							this.currentreferee.counts.total_illegal_method_count++;
-							this.currentreport.counts.total_illegal_method_count++;
-						}
-						default -> { /**/ }
-					}
-				}
-				case IElementDescriptor.FIELD -> {
-					switch (visibility) {
-						case VisibilityModifiers.API -> {
-							this.currentmember.counts.total_api_field_count++;
-							this.currenttype.counts.total_api_field_count++;
-							this.currentreferee.counts.total_api_field_count++;
-							this.currentreport.counts.total_api_field_count++;
-						}
-						case VisibilityModifiers.PRIVATE -> {
-							this.currentmember.counts.total_private_field_count++;
-							this.currenttype.counts.total_private_field_count++;
-							this.currentreferee.counts.total_private_field_count++;
-							this.currentreport.counts.total_private_field_count++;
-						}
-						case VisibilityModifiers.PRIVATE_PERMISSIBLE -> {
-							this.currentmember.counts.total_permissable_field_count++;
-							this.currenttype.counts.total_permissable_field_count++;
-							this.currentreferee.counts.total_permissable_field_count++;
-							this.currentreport.counts.total_permissable_field_count++;
-						}
-						case FRAGMENT_PERMISSIBLE -> {
-							this.currentmember.counts.total_fragment_permissible_field_count++;
-							this.currenttype.counts.total_fragment_permissible_field_count++;
-							this.currentreferee.counts.total_fragment_permissible_field_count++;
-							this.currentreport.counts.total_fragment_permissible_field_count++;
-						}
-						case VisibilityModifiers.ILLEGAL_API -> {
-							this.currentmember.counts.total_illegal_field_count++;
-							this.currenttype.counts.total_illegal_field_count++;
-							this.currentreferee.counts.total_illegal_field_count++;
-							this.currentreport.counts.total_illegal_field_count++;
-						}
-						default -> { /**/ }
+			try {
+				if (this.currentblock == -1) {
+					if (this.currentreport.spill == null) {
+						this.currentreport.spill = new ReferenceSpill();
 					}
+					this.currentblock = this.currentreport.spill.startBlock(this.currentmember);
+					this.currentreport.children.computeIfAbsent(this.currenttype, t -> new ArrayList<>()).add(Long.valueOf(this.currentblock));
 				}
-				default -> { /**/ }
+				this.currentreport.spill.writeReference(refname, new Reference(fromMember, lineNumber, visibility, formatMessages(reference.getProblemMessages())));
+			} catch (IOException e) {
+				ApiPlugin.log(e);
+				return;
 			}
+			int type = fromMember.getElementType();
+			this.currenttype.counts.count(type, visibility);
+			this.currentreferee.counts.count(type, visibility);
+			this.currentreport.counts.count(type, visibility);
 		}
 	}
 
@@ -382,8 +301,15 @@ public class UseReportConverter extends HTMLConvertor {
 	 */
 	static class Report {
 		String name = null;
-		TreeMap<Type, TreeMap<IMemberDescriptor, Member>> children = new TreeMap<>(compare);
+		/**
+		 * The offsets of the blocks of references to each type in the spill
+		 */
+		TreeMap<Type, List<Long>> children = new TreeMap<>(compare);
 		CountGroup counts = new CountGroup();
+		/**
+		 * The references to the component while its pages are being written
+		 */
+		ReferenceSpill spill = null;
 	}
 
 	/**
@@ -470,6 +396,50 @@ public class UseReportConverter extends HTMLConvertor {
 		public int getTotalIllegalRefCount() {
 			return total_illegal_field_count + total_illegal_method_count + total_illegal_type_count;
 		}
+
+		/**
+		 * Counts a reference from an element of the given type with the given
+		 * visibility
+		 *
+		 * @param elementType the {@link IElementDescriptor} type of the
+		 *            referencing element
+		 * @param visibility the visibility of the reference
+		 */
+		void count(int elementType, int visibility) {
+			switch (elementType) {
+				case IElementDescriptor.TYPE -> {
+					switch (visibility) {
+						case VisibilityModifiers.API -> total_api_type_count++;
+						case VisibilityModifiers.PRIVATE -> total_private_type_count++;
+						case VisibilityModifiers.PRIVATE_PERMISSIBLE -> total_permissable_type_count++;
+						case FRAGMENT_PERMISSIBLE -> total_fragment_permissible_type_count++;
+						case VisibilityModifiers.ILLEGAL_API -> total_illegal_type_count++;
+						default -> { /**/ }
+					}
+				}
+				case IElementDescriptor.METHOD -> {
+					switch (visibility) {
+						case VisibilityModifiers.API -> total_api_method_count++;
+						case VisibilityModifiers.PRIVATE -> total_private_method_count++;
+						case VisibilityModifiers.PRIVATE_PERMISSIBLE -> total_permissable_method_count++;
+						case FRAGMENT_PERMISSIBLE -> total_fragment_permissible_method_count++;
+						case VisibilityModifiers.ILLEGAL_API -> total_illegal_method_count++;
+						default -> { /**/ }
+					}
+				}
+				case IElementDescriptor.FIELD -> {
+					switch (visibility) {
+						case VisibilityModifiers.API -> total_api_field_count++;
+						case VisibilityModifiers.PRIVATE -> total_private_field_count++;
+						case VisibilityModifiers.PRIVATE_PERMISSIBLE -> total_permissable_field_count++;
+						case FRAGMENT_PERMISSIBLE -> total_fragment_permissible_field_count++;
+						case VisibilityModifiers.ILLEGAL_API -> total_illegal_field_count++;
+						default -> { /**/ }
+					}
+				}
+				default -> { /**/ }
+			}
+		}
 	}
 
 	/**
@@ -934,8 +904,10 @@ public class UseReportConverter extends HTMLConvertor {
 				buffer.append(additional);
 			}
 			buffer.append(getReferencesTableHeader(SearchMessages.UseReportConverter_references, SearchMessages.UseReportConverter_referenced_type, false));
-			for (Entry<Type, TreeMap<IMemberDescriptor, Member>> entry : report.children.entrySet()) {
-				Map<IMemberDescriptor, Member> map = entry.getValue();
+			for (Entry<Type, List<Long>> entry : report.children.entrySet()) {
+				// only the references to one type are loaded at a time
+				Map<IMemberDescriptor, Member> map = new TreeMap<>(compare);
+				report.spill.readBlocks(entry.getValue(), map);
 				Type type = entry.getKey();
 				CountGroup counts = type.counts;
 
@@ -0,0 +1,468 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.search;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IComponentDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IFieldDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMemberDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMethodDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IReferenceTypeDescriptor;
+
+/**
+ * Binary index of an API use scan, used to look up the references to a
+ * component without parsing the XML reports of the scan.
+ * <p>
+ * The index is built once per scan location by a full pass of the
+ * {@link UseScanParser} and stored in the state location of the plug-in. It
+ * is memory mapped when loaded and only the directory of referenced
+ * components is decoded eagerly. The references are stored as fixed size
+ * records of indexes into a pool of strings, grouped by referenced component
+ * and by the top level type of the referenced member, which is the key used
+ * by {@link IReferenceCollection}. Strings are decoded on first use.
+ * </p>
+ * <p>
+ * An index is only used while the files of the scan keep the size and
+ * modification time they had when the index was built. The index can be
+ * disabled with the <code>org.eclipse.pde.api.tools.useScanIndex</code>
+ * system property.
+ * </p>
+ */
+final class UseScanIndex {
+
+	private static final int MAGIC = 0x41505553; // APUS
+	private static final short VERSION = 1;
+
+	/**
+	 * Number of ints in a reference record
+	 */
+	private static final int RECORD_SIZE = 14;
+
+	private static final int NO_STRING = -1;
+
+	private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("org.eclipse.pde.api.tools.useScanIndex", Boolean.TRUE.toString())); //$NON-NLS-1$
+
+	/**
+	 * The references to one version of a component
+	 */
+	private static final class ComponentEntry {
+		final int id;
+		final int version;
+		final int[] types;
+		final int[] offsets;
+		final int[] counts;
+
+		ComponentEntry(int id, int version, int[] types, int[] offsets, int[] counts) {
+			this.id = id;
+			this.version = version;
+			this.types = types;
+			this.offsets = offsets;
+			this.counts = counts;
+		}
+	}
+
+	private final ByteBuffer fBuffer;
+	private final int[] fStringOffsets;
+	private final String[] fStrings;
+	private final int fRecordsStart;
+	private final Map<String, List<ComponentEntry>> fComponents;
+
+	private UseScanIndex(ByteBuffer buffer, int[] stringOffsets, int recordsStart, Map<String, List<ComponentEntry>> components) {
+		fBuffer = buffer;
+		fStringOffsets = stringOffsets;
+		fStrings = new String[stringOffsets.length];
+		fRecordsStart = recordsStart;
+		fComponents = components;
+	}
+
+	/**
+	 * Returns the index of the API use scan at the given location, building
+	 * it if there is no index for the given content of the scan.
+	 *
+	 * @param scan the root of the XML reports of a use scan
+	 * @param fingerprint the fingerprint of the current content of the scan,
+	 *            see {@link #computeFingerprint(File)}
+	 * @param monitor progress monitor used while building the index
+	 * @return the index or <code>null</code> if indexes are disabled or the
+	 *         index cannot be built
+	 */
+	static UseScanIndex getIndex(File scan, long fingerprint, IProgressMonitor monitor) {
+		File directory = getIndexDirectory();
+		if (directory == null) {
+			return null;
+		}
+		File file = new File(directory, scan.getName() + '_' + Integer.toHexString(scan.getAbsolutePath().hashCode()) + ".idx"); //$NON-NLS-1$
+		try {
+			UseScanIndex index = load(file, scan, fingerprint);
+			if (index == null) {
+				write(file, scan, fingerprint, monitor);
+				index = load(file, scan, fingerprint);
+			}
+			return index;
+		} catch (Exception e) {
+			ApiPlugin.log("Failed to index the API use scan " + scan, e); //$NON-NLS-1$
+		}
+		return null;
+	}
+
+	/**
+	 * @return whether the use scans are indexed
+	 */
+	static boolean isEnabled() {
+		return getIndexDirectory() != null;
+	}
+
+	/**
+	 * Returns the directory the indexes are stored in, or <code>null</code> if
+	 * indexes are disabled or the framework is not running.
+	 *
+	 * @return the index directory or <code>null</code>
+	 */
+	private static File getIndexDirectory() {
+		if (!ENABLED || !ApiPlugin.isRunningInFramework()) {
+			return null;
+		}
+		return ApiPlugin.getDefault().getStateLocation().append(".use_scans").toFile(); //$NON-NLS-1$
+	}
+
+	/**
+	 * Computes a fingerprint of the names, sizes and modification times of the
+	 * files of the given scan
+	 */
+	static long computeFingerprint(File scan) throws IOException {
+		List<Path> files;
+		try (Stream<Path> stream = Files.walk(scan.toPath())) {
+			files = stream.filter(Files::isRegularFile).sorted().toList();
+		}
+		long fingerprint = files.size();
+		for (Path path : files) {
+			File file = path.toFile();
+			fingerprint = 31 * fingerprint + path.toString().hashCode();
+			fingerprint = 31 * fingerprint + file.length();
+			fingerprint = 31 * fingerprint + file.lastModified();
+		}
+		return fingerprint;
+	}
+
+	private static UseScanIndex load(File file, File scan, long fingerprint) {
+		if (!file.isFile()) {
+			return null;
+		}
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			if (channel.size() > Integer.MAX_VALUE) {
+				return null;
+			}
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			if (buffer.getInt() != MAGIC || buffer.getShort() != VERSION) {
+				return null;
+			}
+			byte[] path = new byte[buffer.getInt()];
+			buffer.get(path);
+			if (!scan.getAbsolutePath().equals(new String(path, StandardCharsets.UTF_8)) || buffer.getLong() != fingerprint) {
+				return null;
+			}
+			int[] stringOffsets = new int[buffer.getInt()];
+			for (int i = 0; i < stringOffsets.length; i++) {
+				stringOffsets[i] = buffer.position();
+				buffer.position(buffer.position() + 4 + buffer.getInt());
+			}
+			int componentCount = buffer.getInt();
+			List<ComponentEntry> entries = new ArrayList<>(componentCount);
+			for (int i = 0; i < componentCount; i++) {
+				int id = buffer.getInt();
+				int version = buffer.getInt();
+				int typeCount = buffer.getInt();
+				int[] types = new int[typeCount];
+				int[] offsets = new int[typeCount];
+				int[] counts = new int[typeCount];
+				for (int j = 0; j < typeCount; j++) {
+					types[j] = buffer.getInt();
+					offsets[j] = buffer.getInt();
+					counts[j] = buffer.getInt();
+				}
+				entries.add(new ComponentEntry(id, version, types, offsets, counts));
+			}
+			UseScanIndex index = new UseScanIndex(buffer, stringOffsets, buffer.position(), new HashMap<>(componentCount * 2));
+			for (ComponentEntry entry : entries) {
+				index.fComponents.computeIfAbsent(index.getString(entry.id), id -> new ArrayList<>(1)).add(entry);
+			}
+			return index;
+		} catch (IOException | RuntimeException e) {
+			if (ApiPlugin.DEBUG_USE_REPORT_CONVERTER) {
+				ApiPlugin.log("Failed to load the API use scan index " + file, e); //$NON-NLS-1$
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Collects the references to the given component into the given
+	 * collection.
+	 *
+	 * @param componentId the symbolic name of the referenced component
+	 * @param types the top level types to collect the references to, or
+	 *            <code>null</code> to collect all references
+	 * @param references the collection to add the references to
+	 */
+	void collect(String componentId, String[] types, IReferenceCollection references) {
+		List<ComponentEntry> entries = fComponents.get(componentId);
+		if (entries == null) {
+			return;
+		}
+		List<String> lookup = types == null || types.length == 0 ? null : List.of(types);
+		for (ComponentEntry entry : entries) {
+			IComponentDescriptor target = Factory.componentDescriptor(componentId, getString(entry.version));
+			for (int i = 0; i < entry.types.length; i++) {
+				String type = getString(entry.types[i]);
+				if (lookup != null && !lookup.contains(type)) {
+					continue;
+				}
+				// only absolute reads so that the buffer can be shared by
+				// threads
+				int position = fRecordsStart + entry.offsets[i];
+				for (int j = 0; j < entry.counts[i]; j++) {
+					references.add(type, readReference(position, target));
+					position += RECORD_SIZE * 4;
+				}
+			}
+		}
+	}
+
+	private IReferenceDescriptor readReference(int position, IComponentDescriptor target) {
+		int[] record = new int[RECORD_SIZE];
+		for (int i = 0; i < RECORD_SIZE; i++) {
+			record[i] = fBuffer.getInt(position + i * 4);
+		}
+		IComponentDescriptor origin = Factory.componentDescriptor(getString(record[0]), getString(record[1]));
+		IMemberDescriptor member = newMember(record[2], getString(record[3]), getString(record[4]), getString(record[5]));
+		IMemberDescriptor referenced = newMember(record[7], getString(record[8]), getString(record[9]), getString(record[10]));
+		return new ReferenceDescriptor(origin, member, record[6], target, referenced, record[11], record[12], record[13], null);
+	}
+
+	private static IMemberDescriptor newMember(int elementType, String typeName, String name, String signature) {
+		return switch (elementType)
+			{
+			case IElementDescriptor.METHOD -> Factory.methodDescriptor(typeName, name, signature);
+			case IElementDescriptor.FIELD -> Factory.fieldDescriptor(typeName, name);
+			default -> Factory.typeDescriptor(typeName);
+			};
+	}
+
+	private String getString(int index) {
+		if (index == NO_STRING) {
+			return null;
+		}
+		String string = fStrings[index];
+		if (string == null) {
+			int offset = fStringOffsets[index];
+			byte[] bytes = new byte[fBuffer.getInt(offset)];
+			fBuffer.get(offset + 4, bytes);
+			string = new String(bytes, StandardCharsets.UTF_8);
+			fStrings[index] = string;
+		}
+		return string;
+	}
+
+	/**
+	 * Writes the index of the given scan, replacing any previous index.
+	 */
+	private static void write(File file, File scan, long fingerprint, IProgressMonitor monitor) throws Exception {
+		File directory = file.getParentFile();
+		Files.createDirectories(directory.toPath());
+		Path records = Files.createTempFile(directory.toPath(), scan.getName(), ".records"); //$NON-NLS-1$
+		Path temp = Files.createTempFile(directory.toPath(), scan.getName(), ".tmp"); //$NON-NLS-1$
+		try {
+			IndexWriter writer;
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(records)))) {
+				writer = new IndexWriter(out);
+				new UseScanParser().parse(scan.getAbsolutePath(), monitor, writer);
+				if (writer.fException != null) {
+					throw writer.fException;
+				}
+			}
+			try (DataOutputStream header = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+				header.writeInt(MAGIC);
+				header.writeShort(VERSION);
+				byte[] path = scan.getAbsolutePath().getBytes(StandardCharsets.UTF_8);
+				header.writeInt(path.length);
+				header.write(path);
+				header.writeLong(fingerprint);
+				header.writeInt(writer.fPool.size());
+				for (String string : writer.fPool.keySet()) {
+					byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+					header.writeInt(bytes.length);
+					header.write(bytes);
+				}
+				header.writeInt(writer.fEntries.size());
+				for (ComponentEntry entry : writer.fEntries) {
+					header.writeInt(entry.id);
+					header.writeInt(entry.version);
+					header.writeInt(entry.types.length);
+					for (int i = 0; i < entry.types.length; i++) {
+						header.writeInt(entry.types[i]);
+						header.writeInt(entry.offsets[i]);
+						header.writeInt(entry.counts[i]);
+					}
+				}
+				Files.copy(records, header);
+			}
+			Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(records);
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	/**
+	 * Use scan visitor writing the references of each referenced component as
+	 * records grouped by top level type. Only the references to the component
+	 * being visited are kept in memory.
+	 */
+	private static final class IndexWriter extends UseScanVisitor {
+		final Map<String, Integer> fPool = new LinkedHashMap<>();
+		final List<ComponentEntry> fEntries = new ArrayList<>();
+		final DataOutputStream fOutput;
+		IOException fException = null;
+		Map<String, List<int[]>> fTypes = new LinkedHashMap<>();
+		IComponentDescriptor fReferencingComponent;
+		IMemberDescriptor fReferencedMember;
+		String fReferencedType;
+
+		IndexWriter(DataOutputStream output) {
+			fOutput = output;
+		}
+
+		@Override
+		public boolean visitComponent(IComponentDescriptor target) {
+			fTypes = new LinkedHashMap<>();
+			return true;
+		}
+
+		@Override
+		public void endVisitComponent(IComponentDescriptor target) {
+			if (fTypes.isEmpty() || fException != null) {
+				return;
+			}
+			int size = fTypes.size();
+			int[] types = new int[size];
+			int[] offsets = new int[size];
+			int[] counts = new int[size];
+			int i = 0;
+			try {
+				for (Map.Entry<String, List<int[]>> entry : fTypes.entrySet()) {
+					types[i] = index(entry.getKey());
+					offsets[i] = fOutput.size();
+					counts[i] = entry.getValue().size();
+					for (int[] record : entry.getValue()) {
+						for (int value : record) {
+							fOutput.writeInt(value);
+						}
+					}
+					if (fOutput.size() < 0 || fOutput.size() == Integer.MAX_VALUE) {
+						throw new IOException("API use scan too large to be indexed"); //$NON-NLS-1$
+					}
+					i++;
+				}
+			} catch (IOException e) {
+				fException = e;
+				return;
+			}
+			fEntries.add(new ComponentEntry(index(target.getId()), index(target.getVersion()), types, offsets, counts));
+			fTypes = new LinkedHashMap<>();
+		}
+
+		@Override
+		public boolean visitReferencingComponent(IComponentDescriptor component) {
+			fReferencingComponent = component;
+			return true;
+		}
+
+		@Override
+		public boolean visitMember(IMemberDescriptor referencedMember) {
+			IReferenceTypeDescriptor type = referencedMember instanceof IReferenceTypeDescriptor rtype ? rtype : referencedMember.getEnclosingType();
+			String name = type.getQualifiedName();
+			int index = name.indexOf('$');
+			fReferencedType = index > -1 ? name.substring(0, index) : name;
+			fReferencedMember = referencedMember;
+			return true;
+		}
+
+		@Override
+		public void visitReference(IReferenceDescriptor reference) {
+			int[] record = new int[RECORD_SIZE];
+			record[0] = index(fReferencingComponent.getId());
+			record[1] = index(fReferencingComponent.getVersion());
+			writeMember(record, 2, reference.getMember());
+			record[6] = reference.getLineNumber();
+			writeMember(record, 7, fReferencedMember);
+			record[11] = reference.getReferenceKind();
+			record[12] = reference.getReferenceFlags();
+			record[13] = reference.getVisibility();
+			fTypes.computeIfAbsent(fReferencedType, t -> new ArrayList<>()).add(record);
+		}
+
+		private void writeMember(int[] record, int start, IMemberDescriptor member) {
+			int elementType = member.getElementType();
+			record[start] = elementType;
+			switch (elementType) {
+				case IElementDescriptor.METHOD -> {
+					IMethodDescriptor method = (IMethodDescriptor) member;
+					record[start + 1] = index(method.getEnclosingType().getQualifiedName());
+					record[start + 2] = index(method.getName());
+					record[start + 3] = index(method.getSignature());
+				}
+				case IElementDescriptor.FIELD -> {
+					IFieldDescriptor field = (IFieldDescriptor) member;
+					record[start + 1] = index(field.getEnclosingType().getQualifiedName());
+					record[start + 2] = index(field.getName());
+					record[start + 3] = NO_STRING;
+				}
+				default -> {
+					record[start + 1] = index(((IReferenceTypeDescriptor) member).getQualifiedName());
+					record[start + 2] = NO_STRING;
+					record[start + 3] = NO_STRING;
+				}
+			}
+		}
+
+		private int index(String string) {
+			if (string == null) {
+				return NO_STRING;
+			}
+			return fPool.computeIfAbsent(string, s -> Integer.valueOf(fPool.size())).intValue();
+		}
+	}
+}
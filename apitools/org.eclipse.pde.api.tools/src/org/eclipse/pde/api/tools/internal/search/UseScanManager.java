@@ -19,6 +19,8 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.jar.JarFile;
 import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
@@ -89,6 +91,20 @@ public class UseScanManager {
 
 	private String[] fLocations = null;
 
+	/**
+	 * The index of a scan, or <code>null</code> if the scan could not be
+	 * indexed
+	 */
+	private record ScanIndex(UseScanIndex index) {
+	}
+
+	/**
+	 * Indexes of the scans by exact scan location. The content of a scan is
+	 * only checked against its index when the index is opened, and the index
+	 * is then kept, like the cached references, until {@link #clearCache()}.
+	 */
+	private final Map<String, ScanIndex> fIndexes = new ConcurrentHashMap<>();
+
 	/**
 	 * {@link FileFilter} for finding use scan directories
 	 */
@@ -211,7 +227,12 @@ public class UseScanManager {
 							}
 							throw new Exception(message);
 						}
-						parser.parse(locations[i], iterationMonitor, visitor);
+						UseScanIndex index = getIndex(locations[i], iterationMonitor);
+						if (index != null) {
+							index.collect(apiComponent.getSymbolicName(), types, references);
+						} else {
+							parser.parse(locations[i], iterationMonitor, visitor);
+						}
 					} catch (Exception e) {
 						ApiPlugin.log(e); // log the exception and continue with
 											// next location
@@ -229,6 +250,33 @@ public class UseScanManager {
 		}
 	}
 
+	/**
+	 * Returns the index of the scan at the given exact scan location. The
+	 * index is opened on first use, and built again if the content of the
+	 * scan changed since it was written.
+	 *
+	 * @return the index or <code>null</code> if the scan has to be parsed
+	 */
+	private UseScanIndex getIndex(String location, IProgressMonitor monitor) {
+		if (!UseScanIndex.isEnabled()) {
+			return null;
+		}
+		ScanIndex index = fIndexes.get(location);
+		if (index == null) {
+			File scan = new File(location);
+			long fingerprint;
+			try {
+				fingerprint = UseScanIndex.computeFingerprint(scan);
+			} catch (IOException e) {
+				ApiPlugin.log("Failed to index the API use scan " + scan, e); //$NON-NLS-1$
+				return null;
+			}
+			index = new ScanIndex(UseScanIndex.getIndex(scan, fingerprint, monitor));
+			fIndexes.put(location, index);
+		}
+		return index.index();
+	}
+
 	/**
 	 * Returns the scan
 	 */
@@ -384,5 +432,6 @@ public class UseScanManager {
 			reference.clear();
 		}
 		fApiComponentCache.flush();
+		fIndexes.clear();
 	}
 }
@@ -173,6 +173,41 @@ public class XmlSearchReporter implements IApiSearchReporter {
 		}
 	}
 
+	/**
+	 * @return the number of distinct references reported so far
+	 */
+	public int getReferenceCount() {
+		return referenceCount;
+	}
+
+	/**
+	 * @return the number of distinct illegal references reported so far
+	 */
+	public int getIllegalCount() {
+		return illegalCount;
+	}
+
+	/**
+	 * @return the number of distinct internal references reported so far
+	 */
+	public int getInternalCount() {
+		return internalCount;
+	}
+
+	/**
+	 * Adds the counts of references that were reported by a previous scan and
+	 * copied into the report location without being reported again.
+	 *
+	 * @param references the number of distinct references
+	 * @param illegal the number of distinct illegal references
+	 * @param internal the number of distinct internal references
+	 */
+	public void addCounts(int references, int illegal, int internal) {
+		referenceCount += references;
+		illegalCount += illegal;
+		internalCount += internal;
+	}
+
 	@Override
 	public void reportCounts() {
 		if (this.debug) {
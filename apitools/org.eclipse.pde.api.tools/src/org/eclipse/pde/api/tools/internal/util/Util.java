@@ -1479,11 +1479,10 @@ public final class Util {
 		if (file.exists()) {
 			if (file.isDirectory()) {
 				// directory binary bundle
-				File apiDescription = new File(file, IApiCoreConstants.API_DESCRIPTION_XML_NAME);
-				return apiDescription.exists();
+				return new File(file, IApiCoreConstants.API_DESCRIPTION_XML_NAME).exists() || new File(file, IApiCoreConstants.API_DESCRIPTION_BINARY_NAME).exists();
 			}
 			try (ZipFile zipFile = new ZipFile(file)) {
-				return zipFile.getEntry(IApiCoreConstants.API_DESCRIPTION_XML_NAME) != null;
+				return zipFile.getEntry(IApiCoreConstants.API_DESCRIPTION_XML_NAME) != null || zipFile.getEntry(IApiCoreConstants.API_DESCRIPTION_BINARY_NAME) != null;
 			} catch (IOException e) {
 				// ignore
 			}
@@ -163,6 +163,23 @@ public class ApiFileGenerationTask extends Task/* APIFileGenerator */ {
 		apiFileGenerator.sourceLocations = sourceLocations;
 	}
 
+	/**
+	 * Set if the binary form of the API description should be generated next
+	 * to the <code>.api_description</code> file. Bundles holding it are loaded
+	 * faster when used in an API baseline.
+	 * <p>
+	 * The possible values are: <code>true</code> or <code>false</code>
+	 * </p>
+	 * <p>
+	 * Default is: <code>false</code>.
+	 * </p>
+	 *
+	 * @since 1.3.600
+	 */
+	public void setBinaryApiDescription(String binary) {
+		apiFileGenerator.binaryApiDescription = Boolean.parseBoolean(binary);
+	}
+
 	@Override
 	public void execute() {
 		apiFileGenerator.generateAPIFile();
@@ -15,11 +15,16 @@
 package org.eclipse.pde.api.tools.internal.tasks;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.text.DateFormat;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.regex.Pattern;
@@ -29,12 +34,14 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.osgi.service.resolver.ResolverError;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
 import org.eclipse.pde.api.tools.internal.provisional.search.ApiSearchEngine;
 import org.eclipse.pde.api.tools.internal.provisional.search.IApiSearchReporter;
 import org.eclipse.pde.api.tools.internal.provisional.search.IApiSearchRequestor;
+import org.eclipse.pde.api.tools.internal.provisional.search.IMetadata;
 import org.eclipse.pde.api.tools.internal.search.ApiDescriptionModifier;
 import org.eclipse.pde.api.tools.internal.search.SkippedComponent;
 import org.eclipse.pde.api.tools.internal.search.UseMetadata;
@@ -118,6 +125,57 @@ public final class ApiUseTask extends CommonUtilsTask {
 	 */
 	private String filters = null;
 
+	/**
+	 * Directory holding the results of previous scans to reuse for unchanged
+	 * components or <code>null</code> to scan all components
+	 */
+	private String incrementalLocation = null;
+
+	/**
+	 * Search reporter that records the reference counts reported for each
+	 * searched element
+	 */
+	private static final class CountingReporter implements IApiSearchReporter {
+		private final XmlSearchReporter fReporter;
+		private final Map<IApiElement, int[]> fCounts = new HashMap<>();
+
+		CountingReporter(XmlSearchReporter reporter) {
+			fReporter = reporter;
+		}
+
+		@Override
+		public void reportResults(IApiElement element, IReference[] references) {
+			int total = fReporter.getReferenceCount();
+			int illegal = fReporter.getIllegalCount();
+			int internal = fReporter.getInternalCount();
+			fReporter.reportResults(element, references);
+			int[] counts = fCounts.computeIfAbsent(element, e -> new int[3]);
+			counts[0] += fReporter.getReferenceCount() - total;
+			counts[1] += fReporter.getIllegalCount() - illegal;
+			counts[2] += fReporter.getInternalCount() - internal;
+		}
+
+		@Override
+		public void reportNotSearched(IApiElement[] elements) {
+			fReporter.reportNotSearched(elements);
+		}
+
+		@Override
+		public void reportMetadata(IMetadata data) {
+			fReporter.reportMetadata(data);
+		}
+
+		@Override
+		public void reportCounts() {
+			fReporter.reportCounts();
+		}
+
+		int[] getCounts(IApiElement element) {
+			int[] counts = fCounts.get(element);
+			return counts != null ? counts : new int[3];
+		}
+	}
+
 	/**
 	 * Set the location of the current product you want to search.
 	 *
@@ -295,12 +353,20 @@ public final class ApiUseTask extends CommonUtilsTask {
 		cleanReportLocation();
 		UseMetadata data = new UseMetadata(getSearchFlags(), this.scopepattern, this.referencepattern, this.currentBaselineLocation, this.reportLocation, this.apiPatterns, this.internalPatterns, this.archivePatterns, DateFormat.getDateTimeInstance().format(Calendar.getInstance().getTime()), getDescription());
 		IApiBaseline baseline = getBaseline(CURRENT_BASELINE_NAME, this.currentBaselineLocation);
-		IApiSearchReporter reporter = new XmlSearchReporter(this.reportLocation, this.debug);
+		XmlSearchReporter xmlReporter = new XmlSearchReporter(this.reportLocation, this.debug);
+		IApiSearchReporter reporter = xmlReporter;
 
 		try {
 			Set<String> ids = new HashSet<>();
 			TreeSet<IApiComponent> scope = new TreeSet<>(Util.componentsorter);
 			getContext(baseline, ids, scope);
+			IncrementalUseScan incremental = null;
+			Map<IApiComponent, String> keys = null;
+			if (this.incrementalLocation != null) {
+				incremental = new IncrementalUseScan(this.incrementalLocation, getSettings());
+				keys = reusePreviousResults(incremental, baseline, ids, scope, xmlReporter);
+				reporter = new CountingReporter(xmlReporter);
+			}
 			ApiSearchEngine engine = new ApiSearchEngine();
 			UseSearchRequestor requestor = new UseSearchRequestor(ids, scope.toArray(new IApiElement[scope.size()]), getSearchFlags());
 			requestor.setJarPatterns(archivePatterns);
@@ -320,6 +386,9 @@ public final class ApiUseTask extends CommonUtilsTask {
 
 			ApiPlugin.DEBUG_SEARCH_ENGINE = this.debug;
 			engine.search(baseline, requestor, reporter, null);
+			if (incremental != null) {
+				recordResults(incremental, keys, (CountingReporter) reporter);
+			}
 		} catch (CoreException ce) {
 			throw new BuildException(Messages.ApiUseTask_search_engine_problem, ce);
 		} finally {
@@ -333,6 +402,84 @@ public final class ApiUseTask extends CommonUtilsTask {
 		}
 	}
 
+	/**
+	 * Removes the components whose results of a previous scan can be reused
+	 * from the given scope and copies these results into the report location.
+	 *
+	 * @return the keys of the components left in the scope
+	 */
+	private Map<IApiComponent, String> reusePreviousResults(IncrementalUseScan incremental, IApiBaseline baseline, Set<String> ids, Set<IApiComponent> scope, XmlSearchReporter reporter) throws CoreException {
+		long time = 0;
+		if (this.debug) {
+			time = System.currentTimeMillis();
+			System.out.println("Reusing results of the previous scan..."); //$NON-NLS-1$
+		}
+		File report = new File(this.reportLocation);
+		Map<IApiComponent, String> keys = new HashMap<>();
+		int reused = 0;
+		for (Iterator<IApiComponent> iterator = scope.iterator(); iterator.hasNext();) {
+			IApiComponent component = iterator.next();
+			String key;
+			try {
+				key = incremental.computeKey(baseline, component, ids, this.filters);
+			} catch (IOException e) {
+				// scan the component and do not record its results
+				ApiPlugin.log(e);
+				continue;
+			}
+			int[] counts = incremental.reuse(component, key, report);
+			if (counts != null) {
+				reporter.addCounts(counts[0], counts[1], counts[2]);
+				iterator.remove();
+				reused++;
+			} else {
+				keys.put(component, key);
+			}
+		}
+		if (this.debug) {
+			System.out.println("Reused the results of " + reused + " components, " + scope.size() + " components left to scan"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			System.out.println("done in: " + (System.currentTimeMillis() - time) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return keys;
+	}
+
+	/**
+	 * Records the results of the scanned components so that the next scan can
+	 * reuse them. A component whose results cannot be recorded is scanned
+	 * again by the next scan, the results of the other components are still
+	 * recorded.
+	 */
+	private void recordResults(IncrementalUseScan incremental, Map<IApiComponent, String> keys, CountingReporter reporter) {
+		File report = new File(this.reportLocation);
+		for (Map.Entry<IApiComponent, String> entry : keys.entrySet()) {
+			try {
+				incremental.record(entry.getKey(), entry.getValue(), report, reporter.getCounts(entry.getKey()));
+			} catch (IOException e) {
+				ApiPlugin.log("Failed to record the use scan results of " + entry.getKey().getSymbolicName(), e); //$NON-NLS-1$
+			}
+		}
+		try {
+			incremental.save();
+		} catch (IOException e) {
+			ApiPlugin.log(e);
+		}
+	}
+
+	/**
+	 * Returns the settings of this task that change the references reported
+	 * for a component
+	 */
+	private String getSettings() {
+		StringBuilder buffer = new StringBuilder();
+		buffer.append(getSearchFlags()).append('|');
+		buffer.append(this.referencepattern).append('|');
+		buffer.append(Arrays.toString(this.apiPatterns)).append('|');
+		buffer.append(Arrays.toString(this.internalPatterns)).append('|');
+		buffer.append(Arrays.toString(this.archivePatterns)).append('|');
+		buffer.append(this.filters);
+		return buffer.toString();
+	}
+
 	/**
 	 * Returns if we should add the given component to our search scope
 	 *
@@ -623,4 +770,27 @@ public final class ApiUseTask extends CommonUtilsTask {
 	public void setFilters(String filters) {
 		this.filters = filters;
 	}
+
+	/**
+	 * Set the directory used to reuse the results of previous scans.
+	 *
+	 * <p>
+	 * When set, the results of each scanned component are kept in this
+	 * directory together with a hash of its content, of the content of its
+	 * prerequisites and of the settings of the scan. Components for which
+	 * this hash did not change since the previous scan are not scanned again,
+	 * their previous results are copied into the report location instead.
+	 * </p>
+	 * <p>
+	 * The directory must not be inside the report location, which is deleted
+	 * at the beginning of each scan. The location is set using an absolute
+	 * path.
+	 * </p>
+	 *
+	 * @param incrementalLocation the directory holding the results of
+	 *            previous scans
+	 */
+	public void setIncremental(String incrementalLocation) {
+		this.incrementalLocation = incrementalLocation;
+	}
 }
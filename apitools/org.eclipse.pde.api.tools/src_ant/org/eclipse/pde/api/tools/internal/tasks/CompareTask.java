@@ -49,6 +49,7 @@ public class CompareTask extends CommonUtilsTask {
 	private String componentsList;
 	private String excludeListLocation;
 	private String includeListLocation;
+	private int parallelism = 0;
 
 	@Override
 	public void execute() throws BuildException {
@@ -142,7 +143,11 @@ public class CompareTask extends CommonUtilsTask {
 			scope.addElement(currentBaseline);
 		}
 		try {
-			delta = ApiComparator.compare(scope, referenceBaseline, this.visibilityModifiers, false, null);
+			if (this.parallelism > 0) {
+				delta = ApiComparator.compare(scope, referenceBaseline, this.visibilityModifiers, false, false, this.parallelism, null);
+			} else {
+				delta = ApiComparator.compare(scope, referenceBaseline, this.visibilityModifiers, false, null);
+			}
 		} catch (CoreException e) {
 			// an error occurred during the comparison
 			throw new BuildException(NLS.bind(Messages.illegalElementInScope, e.getMessage()));
@@ -195,6 +200,28 @@ public class CompareTask extends CommonUtilsTask {
 		this.debug = Boolean.toString(true).equals(debugValue);
 	}
 
+	/**
+	 * Set the maximum number of components compared concurrently.
+	 * <p>
+	 * The report does not depend on this value.
+	 * </p>
+	 * <p>
+	 * Default is the value of the
+	 * <code>org.eclipse.pde.api.tools.comparisonParallelism</code> system
+	 * property, or <code>1</code> to compare the components serially.
+	 * </p>
+	 *
+	 * @param value the maximum number of components compared concurrently
+	 * @throws BuildException if the given value is not a number
+	 */
+	public void setParallelism(String value) {
+		try {
+			this.parallelism = Math.max(1, Integer.parseInt(value.trim()));
+		} catch (NumberFormatException e) {
+			throw new BuildException(NLS.bind(Messages.invalidParallelism, value));
+		}
+	}
+
 	/**
 	 * Set the location of the current product or baseline that you want to
 	 * compare against the reference baseline.
@@ -0,0 +1,282 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.tasks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.util.Util;
+
+/**
+ * Keeps the results of an API use scan per scanned component so that the next
+ * scan can reuse them for components that did not change.
+ * <p>
+ * The results of a component are reused when its key is unchanged. The key is
+ * a hash of the scan settings, of the content of the component, of the
+ * content of all of its prerequisite components and whether references to them
+ * are reported, and of its filter file in the filter root. The XML reference
+ * files written for a component are copied into the state location after a
+ * successful scan and copied back into the report location in place of
+ * scanning the component again.
+ * </p>
+ * <p>
+ * The state location contains a <code>use_scan_state.properties</code> file
+ * mapping each component to its key and reference counts, and a folder per
+ * component holding its reference files with the layout of the report
+ * location.
+ * </p>
+ */
+final class IncrementalUseScan {
+
+	private static final String STATE_FILE = "use_scan_state.properties"; //$NON-NLS-1$
+
+	private final File fLocation;
+	private final String fSettings;
+	private final Properties fState = new Properties();
+	private final Map<String, String> fContentHashes = new HashMap<>();
+
+	/**
+	 * Constructor
+	 *
+	 * @param location the folder holding the state of previous scans
+	 * @param settings the settings of the scan, results of a previous scan
+	 *            with different settings are never reused
+	 */
+	IncrementalUseScan(String location, String settings) {
+		fLocation = new File(location);
+		fSettings = settings;
+		File file = new File(fLocation, STATE_FILE);
+		if (file.isFile()) {
+			try (InputStream stream = Files.newInputStream(file.toPath())) {
+				fState.load(stream);
+			} catch (IOException e) {
+				// start over with a full scan
+				fState.clear();
+			}
+		}
+	}
+
+	/**
+	 * Computes the key of the given component. The key changes whenever the
+	 * references reported for the component could change.
+	 *
+	 * @param baseline the baseline being scanned
+	 * @param component the component to compute the key for
+	 * @param ids the ids of the components references to are reported
+	 * @param filters the filter root of the scan or <code>null</code>
+	 * @return the key of the component
+	 * @throws CoreException if the prerequisites cannot be computed
+	 * @throws IOException if the content of a component cannot be read
+	 */
+	String computeKey(IApiBaseline baseline, IApiComponent component, Set<String> ids, String filters) throws CoreException, IOException {
+		MessageDigest digest = newDigest();
+		update(digest, fSettings);
+		update(digest, getContentHash(component));
+		IApiComponent[] prerequisites = baseline.getPrerequisiteComponents(new IApiComponent[] { component });
+		String[] hashes = new String[prerequisites.length];
+		for (int i = 0; i < prerequisites.length; i++) {
+			String id = prerequisites[i].getSymbolicName();
+			hashes[i] = id + (ids.contains(id) ? '+' : '-') + getContentHash(prerequisites[i]);
+		}
+		// the order of the prerequisites is not stable
+		Arrays.sort(hashes);
+		for (String hash : hashes) {
+			update(digest, hash);
+		}
+		if (filters != null) {
+			File filterFile = new File(new File(filters, component.getSymbolicName()), ".api_filters"); //$NON-NLS-1$
+			update(digest, filterFile.isFile() ? hashFile(filterFile.toPath()) : Util.EMPTY_STRING);
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	/**
+	 * Copies the references reported for the given component by a previous
+	 * scan into the report location if its key did not change.
+	 *
+	 * @param component the component
+	 * @param key the current key of the component
+	 * @param report the report location
+	 * @return the reference, illegal and internal counts of the reused
+	 *         results or <code>null</code> if the component must be scanned
+	 */
+	int[] reuse(IApiComponent component, String key, File report) {
+		String origin = getOrigin(component);
+		String[] entry = getEntry(origin);
+		if (entry == null || !entry[0].equals(key)) {
+			return null;
+		}
+		File cached = new File(fLocation, origin);
+		try {
+			int[] counts = new int[] { Integer.parseInt(entry[1]), Integer.parseInt(entry[2]), Integer.parseInt(entry[3]) };
+			File[] referees = cached.listFiles(File::isDirectory);
+			if (referees != null) {
+				for (File referee : referees) {
+					copyTree(referee.toPath(), report.toPath().resolve(referee.getName()).resolve(origin));
+				}
+			}
+			return counts;
+		} catch (IOException | NumberFormatException e) {
+			// scan the component again
+			fState.remove(origin);
+			return null;
+		}
+	}
+
+	/**
+	 * Records the references reported for the given component in this scan.
+	 *
+	 * @param component the scanned component
+	 * @param key the key of the component
+	 * @param report the report location
+	 * @param counts the reference, illegal and internal counts of the
+	 *            component
+	 * @throws IOException if the references cannot be copied
+	 */
+	void record(IApiComponent component, String key, File report, int[] counts) throws IOException {
+		String origin = getOrigin(component);
+		File cached = new File(fLocation, origin);
+		if (cached.exists()) {
+			Util.delete(cached);
+		}
+		fState.remove(origin);
+		File[] referees = report.listFiles(File::isDirectory);
+		if (referees != null) {
+			for (File referee : referees) {
+				File references = new File(referee, origin);
+				if (references.isDirectory()) {
+					copyTree(references.toPath(), cached.toPath().resolve(referee.getName()));
+				}
+			}
+		}
+		fState.setProperty(origin, key + ',' + counts[0] + ',' + counts[1] + ',' + counts[2]);
+	}
+
+	/**
+	 * Writes the recorded keys to the state location.
+	 *
+	 * @throws IOException if the state cannot be written
+	 */
+	void save() throws IOException {
+		fLocation.mkdirs();
+		try (OutputStream stream = Files.newOutputStream(new File(fLocation, STATE_FILE).toPath())) {
+			fState.store(stream, null);
+		}
+	}
+
+	/**
+	 * Returns the name of the folders holding the references from the given
+	 * component, as written by the XML reference writer.
+	 */
+	private static String getOrigin(IApiComponent component) {
+		return component.getSymbolicName() + " (" + component.getVersion() + ')'; //$NON-NLS-1$
+	}
+
+	private String[] getEntry(String origin) {
+		String value = fState.getProperty(origin);
+		if (value == null) {
+			return null;
+		}
+		String[] entry = value.split(","); //$NON-NLS-1$
+		return entry.length == 4 ? entry : null;
+	}
+
+	private String getContentHash(IApiComponent component) throws IOException {
+		String location = component.getLocation();
+		if (location == null) {
+			return Util.EMPTY_STRING;
+		}
+		String hash = fContentHashes.get(location);
+		if (hash == null) {
+			Path path = Path.of(location);
+			if (Files.isDirectory(path)) {
+				MessageDigest digest = newDigest();
+				List<Path> files;
+				try (Stream<Path> stream = Files.walk(path)) {
+					files = stream.filter(Files::isRegularFile).sorted().toList();
+				}
+				for (Path file : files) {
+					update(digest, path.relativize(file).toString());
+					update(digest, hashFile(file));
+				}
+				hash = HexFormat.of().formatHex(digest.digest());
+			} else if (Files.isRegularFile(path)) {
+				hash = hashFile(path);
+			} else {
+				hash = Util.EMPTY_STRING;
+			}
+			fContentHashes.put(location, hash);
+		}
+		return hash;
+	}
+
+	private static String hashFile(Path file) throws IOException {
+		MessageDigest digest = newDigest();
+		byte[] buffer = new byte[8192];
+		try (InputStream stream = Files.newInputStream(file)) {
+			int read;
+			while ((read = stream.read(buffer)) != -1) {
+				digest.update(buffer, 0, read);
+			}
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		digest.update(value.getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static void copyTree(Path source, Path target) throws IOException {
+		List<Path> paths;
+		try (Stream<Path> stream = Files.walk(source)) {
+			paths = stream.toList();
+		}
+		for (Path path : paths) {
+			Path destination = target.resolve(source.relativize(path).toString());
+			if (Files.isDirectory(path)) {
+				Files.createDirectories(destination);
+			} else {
+				Files.copy(path, destination, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+	}
+}
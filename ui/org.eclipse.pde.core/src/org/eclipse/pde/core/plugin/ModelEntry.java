@@ -35,14 +35,18 @@ public class ModelEntry extends PlatformObject {
 	private final String fId;
 
 	/**
-	 * The list of workspace models with the same entry ID
+	 * The list of workspace models with the same entry ID. The list is
+	 * replaced rather than modified, and is volatile so that readers that do
+	 * not lock see the complete list.
 	 */
-	protected ArrayList<IPluginModelBase> fWorkspaceEntries = new ArrayList<>(1);
+	protected volatile ArrayList<IPluginModelBase> fWorkspaceEntries = new ArrayList<>(1);
 
 	/**
-	 * The list of external models with the same entry ID
+	 * The list of external models with the same entry ID. The list is
+	 * replaced rather than modified, and is volatile so that readers that do
+	 * not lock see the complete list.
 	 */
-	protected ArrayList<IPluginModelBase> fExternalEntries = new ArrayList<>(1);
+	protected volatile ArrayList<IPluginModelBase> fExternalEntries = new ArrayList<>(1);
 
 	/**
 	 * Constructor
@@ -59,7 +63,8 @@ public class ModelEntry extends PlatformObject {
 	 * @return an array of workspace plug-ins that have the model entry ID
 	 */
 	public IPluginModelBase[] getWorkspaceModels() {
-		return fWorkspaceEntries.toArray(new IPluginModelBase[fWorkspaceEntries.size()]);
+		ArrayList<IPluginModelBase> workspaceEntries = fWorkspaceEntries;
+		return workspaceEntries.toArray(new IPluginModelBase[workspaceEntries.size()]);
 	}
 
 	/**
@@ -72,7 +77,8 @@ public class ModelEntry extends PlatformObject {
 	 *         entry ID
 	 */
 	public IPluginModelBase[] getExternalModels() {
-		return fExternalEntries.toArray(new IPluginModelBase[fExternalEntries.size()]);
+		ArrayList<IPluginModelBase> externalEntries = fExternalEntries;
+		return externalEntries.toArray(new IPluginModelBase[externalEntries.size()]);
 	}
 
 	/**
@@ -148,14 +154,16 @@ public class ModelEntry extends PlatformObject {
 	 * @return an array of the currently active plug-ins with the model entry ID
 	 */
 	public IPluginModelBase[] getActiveModels() {
-		if (!fWorkspaceEntries.isEmpty()) {
-			return getWorkspaceModels();
+		ArrayList<IPluginModelBase> workspaceEntries = fWorkspaceEntries;
+		if (!workspaceEntries.isEmpty()) {
+			return workspaceEntries.toArray(new IPluginModelBase[workspaceEntries.size()]);
 		}
 
-		if (!fExternalEntries.isEmpty()) {
-			ArrayList<IPluginModelBase> list = new ArrayList<>(fExternalEntries.size());
-			for (int i = 0; i < fExternalEntries.size(); i++) {
-				IPluginModelBase model = fExternalEntries.get(i);
+		ArrayList<IPluginModelBase> externalEntries = fExternalEntries;
+		if (!externalEntries.isEmpty()) {
+			ArrayList<IPluginModelBase> list = new ArrayList<>(externalEntries.size());
+			for (int i = 0; i < externalEntries.size(); i++) {
+				IPluginModelBase model = externalEntries.get(i);
 				if (model.isEnabled()) {
 					list.add(model);
 				}
@@ -188,14 +196,16 @@ public class ModelEntry extends PlatformObject {
 			return null;
 		}
 
-		for (int i = 0; i < fWorkspaceEntries.size(); i++) {
-			IPluginModelBase model = fWorkspaceEntries.get(i);
+		ArrayList<IPluginModelBase> workspaceEntries = fWorkspaceEntries;
+		for (int i = 0; i < workspaceEntries.size(); i++) {
+			IPluginModelBase model = workspaceEntries.get(i);
 			if (desc.equals(model.getBundleDescription())) {
 				return model;
 			}
 		}
-		for (int i = 0; i < fExternalEntries.size(); i++) {
-			IPluginModelBase model = fExternalEntries.get(i);
+		ArrayList<IPluginModelBase> externalEntries = fExternalEntries;
+		for (int i = 0; i < externalEntries.size(); i++) {
+			IPluginModelBase model = externalEntries.get(i);
 			if (desc.equals(model.getBundleDescription())) {
 				return model;
 			}
@@ -443,7 +443,8 @@ public class PluginRegistry {
 		if (entry == null) {
 			return Stream.empty();
 		}
-		List<IPluginModelBase> models = entry.hasWorkspaceModels() ? entry.fWorkspaceEntries : entry.fExternalEntries;
+		List<IPluginModelBase> workspaceModels = entry.fWorkspaceEntries;
+		List<IPluginModelBase> models = !workspaceModels.isEmpty() ? workspaceModels : entry.fExternalEntries;
 		Stream<IPluginModelBase> plugins = models.stream().filter(m -> {
 			IPluginBase base = m.getPluginBase();
 			// guard against invalid plug-ins
@@ -204,7 +204,7 @@ public class MinimalState {
 		return addBundle(bundleLocation, bundleId, manifest);
 	}
 
-	private BundleDescription addBundle(File bundleLocation, long bundleId, Map<String, String> manifest)
+	BundleDescription addBundle(File bundleLocation, long bundleId, Map<String, String> manifest)
 			throws CoreException {
 		// update for development mode
 		TargetWeaver.weaveManifest(manifest, bundleLocation);
@@ -397,4 +397,25 @@ public class MinimalState {
 		return fSystemBundle;
 	}
 
+	/**
+	 * @return the symbolic name of the system bundle added to this state since
+	 *         the execution environments were last initialized, or
+	 *         <code>null</code> if none was added
+	 */
+	protected String getAddedSystemBundle() {
+		return fEEListChanged ? fSystemBundle : null;
+	}
+
+	/**
+	 * Notes that a system bundle with the given symbolic name was added to
+	 * this state without going through {@link #addBundle(File, long)}, e.g.
+	 * when the state is restored from a snapshot.
+	 *
+	 * @param symbolicName the symbolic name of the system bundle
+	 */
+	protected void setAddedSystemBundle(String symbolicName) {
+		fEEListChanged = true;
+		fSystemBundle = symbolicName;
+	}
+
 }
@@ -53,6 +53,7 @@ public class PDEAuxiliaryState {
 	private static String ATTR_CLASS = "class"; //$NON-NLS-1$
 	private static String ATTR_EXPORTED = "exported"; //$NON-NLS-1$
 	private static String ATTR_EXTENSIBLE_API = "hasExtensibleAPI"; //$NON-NLS-1$
+	private static String ATTR_EXTERNAL_ANNOTATIONS = "externalAnnotations"; //$NON-NLS-1$
 	private static String ATTR_LOCALIZATION = "localization"; //$NON-NLS-1$
 	private static String ATTR_NAME = "name"; //$NON-NLS-1$
 	private static String ATTR_PATCH = "patch"; //$NON-NLS-1$
@@ -117,6 +118,7 @@ public class PDEAuxiliaryState {
 		info.hasExtensibleAPI = "true".equals(element.getAttribute(ATTR_EXTENSIBLE_API)); //$NON-NLS-1$
 		info.isPatchFragment = "true".equals(element.getAttribute(ATTR_PATCH)); //$NON-NLS-1$
 		info.hasBundleStructure = !"false".equals(element.getAttribute(ATTR_BUNDLE_STRUCTURE)); //$NON-NLS-1$
+		info.exportsExternalAnnotations = "true".equals(element.getAttribute(ATTR_EXTERNAL_ANNOTATIONS)); //$NON-NLS-1$
 		if (element.hasAttribute(ATTR_PROJECT)) {
 			info.project = element.getAttribute(ATTR_PROJECT);
 		}
@@ -228,6 +230,9 @@ public class PDEAuxiliaryState {
 				if (!info.hasBundleStructure) {
 					element.setAttribute(ATTR_BUNDLE_STRUCTURE, "false"); //$NON-NLS-1$
 				}
+				if (info.exportsExternalAnnotations) {
+					element.setAttribute(ATTR_EXTERNAL_ANNOTATIONS, "true"); //$NON-NLS-1$
+				}
 				if (info.localization != null) {
 					element.setAttribute(ATTR_LOCALIZATION, info.localization);
 				}
@@ -21,7 +21,11 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Function;
 
 import org.eclipse.core.filesystem.URIUtil;
@@ -30,21 +34,35 @@ import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.osgi.service.resolver.BaseDescription;
 import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.target.LoadTargetDefinitionJob;
+import org.eclipse.pde.internal.build.BundleHelper;
 import org.eclipse.pde.internal.core.plugin.ExternalFragmentModel;
 import org.eclipse.pde.internal.core.plugin.ExternalPluginModel;
 import org.eclipse.pde.internal.core.plugin.ExternalPluginModelBase;
 import org.eclipse.pde.internal.core.util.CoreUtility;
 import org.eclipse.pde.internal.core.util.ManifestUtils;
+import org.eclipse.pde.internal.core.util.UtilMessages;
 import org.osgi.framework.Version;
 
 public class PDEState extends MinimalState {
 
+	/**
+	 * Number of bundle manifests read concurrently when creating a target
+	 * state, can be set with the
+	 * <code>org.eclipse.pde.core.manifestParallelism</code> system property.
+	 * The default <code>1</code> reads the manifests serially.
+	 */
+	private static final int MANIFEST_PARALLELISM = Math.max(1,
+			Integer.getInteger("org.eclipse.pde.core.manifestParallelism", 1)); //$NON-NLS-1$
+
 	private final PDEAuxiliaryState fAuxiliaryState;
 	private final ArrayList<IPluginModelBase> fTargetModels = new ArrayList<>();
 
@@ -57,11 +75,45 @@ public class PDEState extends MinimalState {
 	 * @param monitor progress monitor
 	 */
 	public PDEState(URI[] target, boolean addResolver, boolean removeDuplicates, IProgressMonitor monitor) {
+		this(target, addResolver, removeDuplicates, false, monitor);
+	}
+
+	/**
+	 * Creates a new PDE State containing bundles from the given URLs.
+	 *
+	 * @param target urls of target bundles
+	 * @param addResolver whether to add a resolver to the state
+	 * @param removeDuplicates whether to remove duplicate conflicting bundles from the state
+	 * @param useSnapshot whether to restore the bundles from the snapshot of
+	 *            the last target state if the target bundles did not change,
+	 *            and to save a snapshot of the state otherwise
+	 * @param monitor progress monitor
+	 */
+	public PDEState(URI[] target, boolean addResolver, boolean removeDuplicates, boolean useSnapshot,
+			IProgressMonitor monitor) {
+		this(target, addResolver, removeDuplicates,
+				useSnapshot && TargetStateSnapshot.ENABLED ? TargetStateSnapshot.getDefaultDirectory() : null,
+				monitor);
+	}
+
+	/**
+	 * Creates a new PDE State containing bundles from the given URLs.
+	 *
+	 * @param target urls of target bundles
+	 * @param addResolver whether to add a resolver to the state
+	 * @param removeDuplicates whether to remove duplicate conflicting bundles from the state
+	 * @param snapshotDirectory the directory of the snapshot to restore the
+	 *            bundles from if the target bundles did not change, and to
+	 *            save the state to otherwise, or <code>null</code> to not use
+	 *            a snapshot
+	 * @param monitor progress monitor
+	 */
+	public PDEState(URI[] target, boolean addResolver, boolean removeDuplicates, File snapshotDirectory,
+			IProgressMonitor monitor) {
 		long start = System.currentTimeMillis();
 		fAuxiliaryState = new PDEAuxiliaryState();
 
-		// We no longer try and restore from a cached state as it had no performance benefit
-		createNewTargetState(addResolver, target, monitor);
+		createNewTargetState(addResolver, target, snapshotDirectory, monitor);
 
 		if (removeDuplicates) {
 			removeDuplicatesFromState(fState);
@@ -76,32 +128,153 @@ public class PDEState extends MinimalState {
 		}
 	}
 
-	private void createNewTargetState(boolean resolve, URI[] uris, IProgressMonitor monitor) {
-		fState = stateObjectFactory.createState(resolve);
-		if (resolve) {
-			final String systemBSN = getSystemBundle();
-			Comparator<BaseDescription> policy = systemBundlesFirst(systemBSN)
-					.thenComparing(BaseDescription::getVersion, HIGHER_VERSION_FIRST)
-					.thenComparing(BaseDescription::getSupplier, HIGHER_LOCAL_VERSION_FIRST);
-			fState.getResolver().setSelectionPolicy(policy);
-		}
+	private void createNewTargetState(boolean resolve, URI[] uris, File snapshotDirectory, IProgressMonitor monitor) {
 		SubMonitor subMonitor = SubMonitor.convert(monitor, PDECoreMessages.PDEState_CreatingTargetModelState,
 				uris.length);
+		List<File> files = new ArrayList<>(uris.length);
 		for (URI uri : uris) {
 			File file = toFile(uri);
-			if (file == null) {
-				continue;
+			if (file != null) {
+				files.add(file);
 			}
-			try {
-				subMonitor.subTask(file.getName());
-				addBundle(file, -1);
-			} catch (CoreException e) {
-				if (e.getStatus().getCode() != ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST) {
-					PDECore.log(e);
+		}
+		TargetStateSnapshot snapshot = snapshotDirectory != null
+				? TargetStateSnapshot.create(snapshotDirectory, files, resolve)
+				: null;
+		if (snapshot != null && restoreSnapshot(snapshot, resolve)) {
+			subMonitor.done();
+			return;
+		}
+		fState = stateObjectFactory.createState(resolve);
+		if (resolve) {
+			setSelectionPolicy();
+		}
+		boolean complete = addBundles(files, subMonitor);
+		// a bundle that failed to be read is read again on the next restart
+		if (snapshot != null && complete) {
+			snapshot.save(stateObjectFactory, new TargetStateSnapshot.Content(fState, fId, getAddedSystemBundle()),
+					fAuxiliaryState);
+		}
+	}
+
+	/**
+	 * Restores the bundles of the target state from the given snapshot.
+	 *
+	 * @return whether the snapshot was restored
+	 */
+	private boolean restoreSnapshot(TargetStateSnapshot snapshot, boolean resolve) {
+		long start = System.currentTimeMillis();
+		TargetStateSnapshot.Content content = snapshot.restore(stateObjectFactory, fAuxiliaryState);
+		if (content == null) {
+			return false;
+		}
+		fState = content.state();
+		// the bundle descriptions are read lazily, load them now since the
+		// snapshot is overwritten when the target changes
+		for (BundleDescription bundle : fState.getBundles()) {
+			bundle.getImportPackages();
+		}
+		if (resolve) {
+			fState.setResolver(BundleHelper.getPlatformAdmin().createResolver());
+			setSelectionPolicy();
+		}
+		fId = content.lastId();
+		if (content.systemBundle() != null) {
+			setAddedSystemBundle(content.systemBundle());
+		}
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Time to restore target state snapshot: " + (System.currentTimeMillis() - start) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return true;
+	}
+
+	private void setSelectionPolicy() {
+		final String systemBSN = getSystemBundle();
+		Comparator<BaseDescription> policy = systemBundlesFirst(systemBSN)
+				.thenComparing(BaseDescription::getVersion, HIGHER_VERSION_FIRST)
+				.thenComparing(BaseDescription::getSupplier, HIGHER_LOCAL_VERSION_FIRST);
+		fState.getResolver().setSelectionPolicy(policy);
+	}
+
+	/**
+	 * Adds the given bundles to the state.
+	 *
+	 * @return whether all the given bundles were read, a file that is not a
+	 *         bundle counts as read
+	 */
+	private boolean addBundles(List<File> files, SubMonitor subMonitor) {
+		subMonitor.setWorkRemaining(files.size());
+		boolean complete = true;
+		int parallelism = Math.min(MANIFEST_PARALLELISM, files.size());
+		if (parallelism < 2) {
+			for (File file : files) {
+				try {
+					subMonitor.subTask(file.getName());
+					addBundle(file, -1);
+				} catch (CoreException e) {
+					complete &= logBundleError(e);
 				}
+				subMonitor.split(1);
 			}
-			subMonitor.split(1);
+			return complete;
+		}
+		// the manifests are read concurrently, the bundles are added to the
+		// state in the order of the given URIs so that their ids do not depend
+		// on the parallelism
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try {
+			List<ForkJoinTask<Map<String, String>>> manifests = new ArrayList<>(files.size());
+			for (File file : files) {
+				manifests.add(pool.submit(() -> ManifestUtils.loadManifest(file)));
+			}
+			for (int i = 0; i < files.size(); i++) {
+				File file = files.get(i);
+				try {
+					subMonitor.subTask(file.getName());
+					addBundle(file, -1, getManifest(manifests.get(i), file));
+				} catch (CoreException e) {
+					complete &= logBundleError(e);
+				}
+				subMonitor.split(1);
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+		return complete;
+	}
+
+	/**
+	 * Waits for the given manifest to be read.
+	 *
+	 * @return the manifest of the given bundle
+	 * @throws CoreException if the manifest could not be read
+	 */
+	private static Map<String, String> getManifest(ForkJoinTask<Map<String, String>> manifest, File bundleLocation)
+			throws CoreException {
+		try {
+			return manifest.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof CoreException coreException) {
+				throw coreException;
+			}
+			throw new CoreException(Status.error(NLS.bind(UtilMessages.ErrorReadingManifest, bundleLocation.getAbsolutePath()), e.getCause()));
+		}
+	}
+
+	/**
+	 * Logs the given error unless the file is not a bundle.
+	 *
+	 * @return whether the error is that the file is not a bundle
+	 */
+	private static boolean logBundleError(CoreException e) {
+		if (e.getStatus().getCode() != ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST) {
+			PDECore.log(e);
+			return false;
 		}
+		return true;
 	}
 
 	private Comparator<BaseDescription> systemBundlesFirst(String systemBSN) {
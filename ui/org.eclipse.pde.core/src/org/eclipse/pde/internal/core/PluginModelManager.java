@@ -21,6 +21,7 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -30,6 +31,7 @@ import java.util.ListIterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.SortedMap;
 import java.util.TreeMap;
 
 import org.eclipse.core.resources.IProject;
@@ -156,14 +158,20 @@ public class PluginModelManager implements IModelProviderListener {
 		 * and one for target (external) models.
 		 * If the model being added is associated with a workspace resource,
 		 * it is added to the workspace list; otherwise, it is added to the external list.
+		 * The list is replaced by a changed copy, so that readers that do not
+		 * synchronize with the changes never see a list while it is modified.
 		 *
 		 * @param model  model to be added to the entry
 		 */
 		public void addModel(IPluginModelBase model) {
 			if (model.getUnderlyingResource() != null) {
-				fWorkspaceEntries.add(model);
+				ArrayList<IPluginModelBase> entries = new ArrayList<>(fWorkspaceEntries);
+				entries.add(model);
+				fWorkspaceEntries = entries;
 			} else {
-				fExternalEntries.add(model);
+				ArrayList<IPluginModelBase> entries = new ArrayList<>(fExternalEntries);
+				entries.add(model);
+				fExternalEntries = entries;
 			}
 		}
 
@@ -175,23 +183,40 @@ public class PluginModelManager implements IModelProviderListener {
 		 */
 		public void removeModel(IPluginModelBase model) {
 			if (model.getUnderlyingResource() != null) {
-				fWorkspaceEntries.remove(model);
+				ArrayList<IPluginModelBase> entries = new ArrayList<>(fWorkspaceEntries);
+				if (entries.remove(model)) {
+					fWorkspaceEntries = entries;
+				}
 			} else {
-				fExternalEntries.remove(model);
+				ArrayList<IPluginModelBase> entries = new ArrayList<>(fExternalEntries);
+				if (entries.remove(model)) {
+					fExternalEntries = entries;
+				}
 			}
 		}
 	}
 
 	private final ExternalModelManager fExternalManager; // keeps track of changes in target models
 	private final WorkspacePluginModelManager fWorkspaceManager; // keeps track of changes in the workspace
-	private PDEState fState; // keeps the combined view of the target and workspace
+	private volatile PDEState fState; // keeps the combined view of the target and workspace
 
 	/**
-	 * only access synchronized with fEntriesSynchronizer
+	 * a master table keyed by plugin ID and the value is a ModelEntry. The
+	 * published table is never modified, entries are added to and removed
+	 * from a copy which is then published, so that it can be read without
+	 * synchronization. The entries themselves are shared by the copies and
+	 * stay live, as clients may keep them, and replace their model lists
+	 * instead of modifying them.
 	 **/
-	private Map<String, LocalModelEntry> fEntries; // a master table keyed by plugin ID and the value is a ModelEntry
+	private volatile SortedMap<String, LocalModelEntry> fEntries;
 	/**
-	 * used to synchronize all public methods which (indirectly) use fEntries
+	 * the copy of the master table the current changes are made to, only
+	 * access synchronized with fEntriesSynchronizer
+	 **/
+	private SortedMap<String, LocalModelEntry> fPendingEntries;
+	/**
+	 * used to synchronize all changes to the master table and its
+	 * initialization
 	 **/
 	private final Object fEntriesSynchronizer = new Object();
 
@@ -236,7 +261,12 @@ public class PluginModelManager implements IModelProviderListener {
 	@Override
 	public void modelsChanged(IModelProviderEvent e) {
 		synchronized (fEntriesSynchronizer) {
-			modelsChangedSynchronized(e);
+			fPendingEntries = new TreeMap<>(getEntryTable());
+			try {
+				modelsChangedSynchronized(e);
+			} finally {
+				fPendingEntries = null;
+			}
 		}
 	}
 
@@ -284,6 +314,11 @@ public class PluginModelManager implements IModelProviderListener {
 			}
 		}
 
+		// publish the changed table before the state is resolved, which
+		// looks up the models of the changed bundles
+		publishEntries(fPendingEntries);
+		fPendingEntries = null;
+
 		if (fState != null) {
 			// if the target location has not changed, incrementally re-resolve the state after processing all the add/remove/modify changes
 			// Otherwise, the state is in a good resolved state
@@ -471,9 +506,7 @@ public class PluginModelManager implements IModelProviderListener {
 	 * 		<code>false</code> otherwise.
 	 */
 	public boolean isEmpty() {
-		synchronized (fEntriesSynchronizer) {
-			return getEntryTable().isEmpty();
-		}
+		return getEntries().isEmpty();
 	}
 
 	/**
@@ -484,9 +517,7 @@ public class PluginModelManager implements IModelProviderListener {
 	 * 		<code>false</code> otherwise.
 	 */
 	public boolean isInitialized() {
-		synchronized (fEntriesSynchronizer) {
-			return fEntries != null;
-		}
+		return fEntries != null;
 	}
 
 	/**
@@ -513,17 +544,40 @@ public class PluginModelManager implements IModelProviderListener {
 	}
 
 	/**
-	 * Allow access to the table only through this getter.
-	 * It always calls initialize to make sure the table is initialized.
-	 * If more than one thread tries to read the table at the same time,
-	 * and the table is not initialized yet, thread2 would wait.
+	 * Allow read access to the table only through this getter.
+	 * It returns the published table without synchronization once the table
+	 * is initialized. If more than one thread tries to read the table at the
+	 * same time, and the table is not initialized yet, thread2 would wait.
 	 * This way there are no partial reads.
 	 */
+	private Map<String, LocalModelEntry> getEntries() {
+		Map<String, LocalModelEntry> entries = fEntries;
+		if (entries == null) {
+			synchronized (fEntriesSynchronizer) {
+				initializeTable(null);
+				entries = fEntries;
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * Allow write access to the table only through this getter. It returns the
+	 * copy of the table that is changed if there is one and the published
+	 * table otherwise. Has to be called synchronized with fEntriesSynchronizer.
+	 */
 	private Map<String, LocalModelEntry> getEntryTable() {
+		if (fPendingEntries != null) {
+			return fPendingEntries;
+		}
 		initializeTable(null);
 		return fEntries;
 	}
 
+	private void publishEntries(SortedMap<String, LocalModelEntry> entries) {
+		fEntries = Collections.unmodifiableSortedMap(entries);
+	}
+
 	/** Has to be called synchronized with fEntriesSynchronizer **/
 	private void initializeTable(IProgressMonitor monitor) {
 		if (fEntries != null) {
@@ -543,7 +597,7 @@ public class PluginModelManager implements IModelProviderListener {
 		long startTime = System.currentTimeMillis();
 
 		// Cannot assign to fEntries here - will create a race condition with isInitialized()
-		Map<String, LocalModelEntry> entries = new TreeMap<>();
+		SortedMap<String, LocalModelEntry> entries = new TreeMap<>();
 		fCancelled = false;
 
 		ITargetDefinition unresolvedRepoBasedtarget = null;
@@ -557,7 +611,7 @@ public class PluginModelManager implements IModelProviderListener {
 			//set empty fState, fExternalManager, fEntries- scheduling target platform resolve
 			fState = new PDEState(new URI[0], true, true, subMon);
 			fExternalManager.setModels(new IPluginModelBase[0]);
-			fEntries = entries;
+			publishEntries(entries);
 			LoadTargetDefinitionJob.load(unresolvedRepoBasedtarget);
 			return;
 		}
@@ -575,7 +629,8 @@ public class PluginModelManager implements IModelProviderListener {
 			fCancelled = true;
 		}
 
-		fState = new PDEState(externalUris, true, true, subMon.split(15));
+		// a cancelled resolution must not replace the snapshot of the target
+		fState = new PDEState(externalUris, true, true, !subMon.isCanceled(), subMon.split(15));
 		fExternalManager.setModels(fState.getTargetModels());
 		addToTable(entries, fExternalManager.getAllModels());
 
@@ -607,7 +662,7 @@ public class PluginModelManager implements IModelProviderListener {
 		fState.resolveState(true);
 		subMon.split(5);
 
-		fEntries = entries;
+		publishEntries(entries);
 		// flush the extension registry cache since workspace data (BundleDescription id's) have changed.
 		PDECore.getDefault().getExtensionsRegistry().targetReloaded();
 		if (oldState != null) {
@@ -709,7 +764,7 @@ public class PluginModelManager implements IModelProviderListener {
 	 * @param model  the workspace model
 	 */
 	private void addWorkspaceBundleToState(IPluginModelBase model) {
-		addWorkspaceBundleToState(fEntries, model);
+		addWorkspaceBundleToState(getEntryTable(), model);
 	}
 
 	private void addWorkspaceBundleToState(Map<String, LocalModelEntry> entries, IPluginModelBase model) {
@@ -943,13 +998,13 @@ public class PluginModelManager implements IModelProviderListener {
 				}
 				if (isActive) {
 					// refresh everything related to this bundle model id
-					fEntries.remove(newID);
+					getEntryTable().remove(newID);
 					fState.removeBundleDescription(desc);
 					for (int i = 0; i < fExternalManager.getAllModels().length; i++) {
 						IPluginModelBase modelExternal = fExternalManager.getAllModels()[i];
 						if (modelExternal.getPluginBase().getId() != null) {
 							if (modelExternal.getPluginBase().getId().equals(newID)) {
-								addToTable(fEntries, new IPluginModelBase[] { modelExternal });
+								addToTable(getEntryTable(), new IPluginModelBase[] { modelExternal });
 							}
 						}
 					}
@@ -957,8 +1012,8 @@ public class PluginModelManager implements IModelProviderListener {
 					for (IPluginModelBase modelWorkspace : models) {
 						if (modelWorkspace.getPluginBase().getId() != null) {
 							if (modelWorkspace.getPluginBase().getId().equals(newID)) {
-								addToTable(fEntries, new IPluginModelBase[] { modelWorkspace });
-								addWorkspaceBundleToState(fEntries, modelWorkspace);
+								addToTable(getEntryTable(), new IPluginModelBase[] { modelWorkspace });
+								addWorkspaceBundleToState(getEntryTable(), modelWorkspace);
 							}
 						}
 					}
@@ -968,7 +1023,7 @@ public class PluginModelManager implements IModelProviderListener {
 				// description from the state
 				fState.removeBundleDescription(model.getBundleDescription());
 			}
-			delta.addEntry(findEntry(oldID), PluginModelDelta.CHANGED);
+			delta.addEntry(getEntryTable().get(oldID), PluginModelDelta.CHANGED);
 		} else {
 			// if the symbolic name of the bundle has completely changed,
 			// remove the model from the old entry, and add the model to the new entry
@@ -985,12 +1040,10 @@ public class PluginModelManager implements IModelProviderListener {
 	 * @return a model entry containing all workspace and target plug-ins by the given ID
 	 */
 	public ModelEntry findEntry(String id) {
-		synchronized (fEntriesSynchronizer) {
-			if ("system.bundle".equals(id)) { //$NON-NLS-1$
-				id = getSystemBundleId();
-			}
-			return id == null ? null : (ModelEntry) getEntryTable().get(id);
+		if ("system.bundle".equals(id)) { //$NON-NLS-1$
+			id = getSystemBundleId();
 		}
+		return id == null ? null : (ModelEntry) getEntries().get(id);
 	}
 
 	/**
@@ -1028,10 +1081,8 @@ public class PluginModelManager implements IModelProviderListener {
 	 * 			is not a plug-in project
 	 */
 	public IPluginModelBase findModel(IProject project) {
-		synchronized (fEntriesSynchronizer) {
-			initializeTable(null);
-			return fWorkspaceManager.getModel(project);
-		}
+		getEntries();
+		return fWorkspaceManager.getModel(project);
 	}
 
 	/**
@@ -1085,21 +1136,19 @@ public class PluginModelManager implements IModelProviderListener {
 	 * (possibly) fragments that are checked on the Target Platform preference page.
 	 */
 	public IPluginModelBase[] getActiveModels(boolean includeFragments) {
-		synchronized (fEntriesSynchronizer) {
-			int size = getEntryTable().size();
-			ArrayList<IPluginModelBase> result = new ArrayList<>(size);
-			Iterator<LocalModelEntry> iter = getEntryTable().values().iterator();
-			while (iter.hasNext()) {
-				ModelEntry entry = iter.next();
-				IPluginModelBase[] models = entry.getActiveModels();
-				for (IPluginModelBase model : models) {
-					if (model instanceof IPluginModel || includeFragments) {
-						result.add(model);
-					}
+		Map<String, LocalModelEntry> entries = getEntries();
+		ArrayList<IPluginModelBase> result = new ArrayList<>(entries.size());
+		Iterator<LocalModelEntry> iter = entries.values().iterator();
+		while (iter.hasNext()) {
+			ModelEntry entry = iter.next();
+			IPluginModelBase[] models = entry.getActiveModels();
+			for (IPluginModelBase model : models) {
+				if (model instanceof IPluginModel || includeFragments) {
+					result.add(model);
 				}
 			}
-			return result.toArray(new IPluginModelBase[result.size()]);
 		}
+		return result.toArray(new IPluginModelBase[result.size()]);
 	}
 
 	/**
@@ -1139,22 +1188,20 @@ public class PluginModelManager implements IModelProviderListener {
 	 * checked on the Target Platform preference page.
 	 */
 	public IPluginModelBase[] getAllModels(boolean includeFragments) {
-		synchronized (fEntriesSynchronizer) {
-			int size = getEntryTable().size();
-			ArrayList<IPluginModelBase> result = new ArrayList<>(size);
-			Iterator<LocalModelEntry> iter = getEntryTable().values().iterator();
-			while (iter.hasNext()) {
-				ModelEntry entry = iter.next();
-				IPluginModelBase[] models = entry.hasWorkspaceModels() ? entry.getWorkspaceModels()
-						: entry.getExternalModels();
-				for (IPluginModelBase model : models) {
-					if (model instanceof IPluginModel || includeFragments) {
-						result.add(model);
-					}
+		Map<String, LocalModelEntry> entries = getEntries();
+		ArrayList<IPluginModelBase> result = new ArrayList<>(entries.size());
+		Iterator<LocalModelEntry> iter = entries.values().iterator();
+		while (iter.hasNext()) {
+			ModelEntry entry = iter.next();
+			IPluginModelBase[] models = entry.hasWorkspaceModels() ? entry.getWorkspaceModels()
+					: entry.getExternalModels();
+			for (IPluginModelBase model : models) {
+				if (model instanceof IPluginModel || includeFragments) {
+					result.add(model);
 				}
 			}
-			return result.toArray(new IPluginModelBase[result.size()]);
 		}
+		return result.toArray(new IPluginModelBase[result.size()]);
 	}
 
 	/**
@@ -1163,10 +1210,8 @@ public class PluginModelManager implements IModelProviderListener {
 	 * @return  all plug-ins in the target platform
 	 */
 	public IPluginModelBase[] getExternalModels() {
-		synchronized (fEntriesSynchronizer) {
-			initializeTable(null);
-			return fExternalManager.getAllModels();
-		}
+		getEntries();
+		return fExternalManager.getAllModels();
 	}
 
 	/**
@@ -1175,10 +1220,8 @@ public class PluginModelManager implements IModelProviderListener {
 	 * @return all plug-in models in the workspace
 	 */
 	public IPluginModelBase[] getWorkspaceModels() {
-		synchronized (fEntriesSynchronizer) {
-			initializeTable(null);
-			return fWorkspaceManager.getPluginModels();
-		}
+		getEntries();
+		return fWorkspaceManager.getPluginModels();
 	}
 
 	/**
@@ -1187,10 +1230,8 @@ public class PluginModelManager implements IModelProviderListener {
 	 * @return  the model manager that keeps track of plug-ins in the target platform
 	 */
 	public ExternalModelManager getExternalModelManager() {
-		synchronized (fEntriesSynchronizer) {
-			initializeTable(null);
-			return fExternalManager;
-		}
+		getEntries();
+		return fExternalManager;
 	}
 
 	/**
@@ -1198,10 +1239,8 @@ public class PluginModelManager implements IModelProviderListener {
 	 * that form the current PDE state
 	 */
 	public PDEState getState() {
-		synchronized (fEntriesSynchronizer) {
-			initializeTable(null);
-			return fState;
-		}
+		getEntries();
+		return fState;
 	}
 
 	/**
@@ -0,0 +1,270 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateObjectFactory;
+
+/**
+ * Snapshot of the bundles of a target state, saved in the PDE state location
+ * so that a restart with an unchanged target does not read the manifests of
+ * all the target bundles again.
+ * <p>
+ * A snapshot holds the bundle descriptions written by the
+ * {@link StateObjectFactory}, the auxiliary data of the bundles and an index.
+ * The index holds a fingerprint of the bundle locations and the size and the
+ * modification time of every file the state reads from the bundles: the
+ * archive of a bundle archive, and the manifest, <code>plugin.xml</code> and
+ * <code>fragment.xml</code> of a bundle directory. A snapshot is only restored
+ * if the target has the same bundles, in the same order, with the same sizes
+ * and modification times. The index is written last, so an interrupted save
+ * leaves no snapshot, and a state is not saved if a bundle failed to be read,
+ * so that the bundle is read again on the next restart.
+ * </p>
+ * <p>
+ * Snapshots can be disabled with the
+ * <code>org.eclipse.pde.core.targetStateSnapshot</code> system property set to
+ * <code>false</code>. They are not used in development mode, since the
+ * manifests of the target bundles are then woven with the
+ * <code>dev.properties</code> of the running platform.
+ * </p>
+ */
+public final class TargetStateSnapshot {
+
+	private static final int MAGIC = 0x50444553; // PDES
+	private static final int VERSION = 2;
+
+	private static final String SNAPSHOT_DIRECTORY = ".target_snapshot"; //$NON-NLS-1$
+	private static final String INDEX_FILE = "snapshot.index"; //$NON-NLS-1$
+
+	/**
+	 * Whether target state snapshots are saved and restored
+	 */
+	public static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("org.eclipse.pde.core.targetStateSnapshot", "true")) //$NON-NLS-1$ //$NON-NLS-2$
+			&& !Platform.inDevelopmentMode();
+
+	/**
+	 * The files read from a bundle directory
+	 */
+	private static final String[] BUNDLE_FILES = { ICoreConstants.BUNDLE_FILENAME_DESCRIPTOR,
+			ICoreConstants.PLUGIN_FILENAME_DESCRIPTOR, ICoreConstants.FRAGMENT_FILENAME_DESCRIPTOR };
+
+	/**
+	 * Path of a file read from a bundle with its size and modification time,
+	 * both are <code>0</code> if the file does not exist
+	 */
+	private record FileStamp(String path, long length, long lastModified) {
+	}
+
+	/**
+	 * A target state saved in a snapshot
+	 *
+	 * @param state the bundles of the target, not resolved
+	 * @param lastId the highest bundle id assigned in the state
+	 * @param systemBundle the symbolic name of the system bundle of the
+	 *            target or <code>null</code> if there is none
+	 */
+	record Content(State state, long lastId, String systemBundle) {
+	}
+
+	private final File fDirectory;
+	private final boolean fResolve;
+	private final List<FileStamp> fStamps;
+	private final long fFingerprint;
+
+	private TargetStateSnapshot(File directory, boolean resolve, List<File> bundles, List<FileStamp> stamps) {
+		fDirectory = directory;
+		fResolve = resolve;
+		fStamps = stamps;
+		CRC32 crc = new CRC32();
+		crc.update(resolve ? 1 : 0);
+		for (File bundle : bundles) {
+			crc.update(bundle.getAbsolutePath().getBytes(StandardCharsets.UTF_8));
+		}
+		fFingerprint = crc.getValue() ^ ((long) bundles.size() << 32);
+	}
+
+	/**
+	 * Returns the directory of the snapshot of the current target in the PDE
+	 * state location.
+	 *
+	 * @return the snapshot directory
+	 */
+	public static File getDefaultDirectory() {
+		return PDECore.getDefault().getStateLocation().append(SNAPSHOT_DIRECTORY).toFile();
+	}
+
+	/**
+	 * Creates the snapshot of the target made of the given bundles.
+	 *
+	 * @param directory the directory the snapshot is saved in
+	 * @param bundles the locations of the target bundles, in the order they
+	 *            are added to the state
+	 * @param resolve whether the state has a resolver
+	 * @return the snapshot
+	 */
+	public static TargetStateSnapshot create(File directory, List<File> bundles, boolean resolve) {
+		List<FileStamp> stamps = new ArrayList<>(bundles.size());
+		for (File bundle : bundles) {
+			if (bundle.isDirectory()) {
+				for (String name : BUNDLE_FILES) {
+					stamps.add(stamp(new File(bundle, name)));
+				}
+			} else {
+				stamps.add(stamp(bundle));
+			}
+		}
+		return new TargetStateSnapshot(directory, resolve, bundles, stamps);
+	}
+
+	private static FileStamp stamp(File file) {
+		return new FileStamp(file.getAbsolutePath(), file.length(), file.lastModified());
+	}
+
+	/**
+	 * Returns whether the saved snapshot is the snapshot of the current target,
+	 * i.e. whether the target has the same bundles and none of the files read
+	 * from them changed since the snapshot was saved.
+	 *
+	 * @return whether the saved snapshot can be restored
+	 */
+	public boolean isCurrent() {
+		File index = new File(fDirectory, INDEX_FILE);
+		if (!index.isFile()) {
+			return false;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(index.toPath())))) {
+			return readStamps(in);
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Reads the header and the file stamps of the index.
+	 *
+	 * @return whether they match the current target
+	 */
+	private boolean readStamps(DataInputStream in) throws IOException {
+		if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readLong() != fFingerprint || in.readBoolean() != fResolve) {
+			return false;
+		}
+		int count = in.readInt();
+		if (count != fStamps.size()) {
+			return false;
+		}
+		for (FileStamp stamp : fStamps) {
+			if (!stamp.equals(new FileStamp(in.readUTF(), in.readLong(), in.readLong()))) {
+				if (PDECore.DEBUG_MODEL) {
+					System.out.println("Target state snapshot is stale, " + stamp.path() + " changed"); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Restores the saved snapshot if it matches the current target.
+	 *
+	 * @param factory the factory to read the bundle descriptions with
+	 * @param auxiliaryState the auxiliary state to read the auxiliary data of
+	 *            the bundles into
+	 * @return the restored state or <code>null</code> if there is no snapshot
+	 *         of the current target
+	 */
+	Content restore(StateObjectFactory factory, PDEAuxiliaryState auxiliaryState) {
+		File index = new File(fDirectory, INDEX_FILE);
+		if (!index.isFile()) {
+			return null;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(index.toPath())))) {
+			if (!readStamps(in)) {
+				return null;
+			}
+			long lastId = in.readLong();
+			String systemBundle = in.readBoolean() ? in.readUTF() : null;
+			State state = factory.readState(fDirectory);
+			if (state == null || !auxiliaryState.readPluginInfoCache(fDirectory)) {
+				return null;
+			}
+			return new Content(state, lastId, systemBundle);
+		} catch (IOException | RuntimeException e) {
+			if (PDECore.DEBUG_MODEL) {
+				System.out.println("Failed to restore the target state snapshot: " + e); //$NON-NLS-1$
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Saves the given target state as the snapshot of the current target,
+	 * replacing the previous snapshot.
+	 *
+	 * @param factory the factory to write the bundle descriptions with
+	 * @param content the target state to save
+	 * @param auxiliaryState the auxiliary data of the bundles of the state
+	 */
+	void save(StateObjectFactory factory, Content content, PDEAuxiliaryState auxiliaryState) {
+		Path index = fDirectory.toPath().resolve(INDEX_FILE);
+		try {
+			// the previous snapshot is invalid as soon as its files are
+			// overwritten
+			Files.deleteIfExists(index);
+			Files.createDirectories(fDirectory.toPath());
+			factory.writeState(content.state(), fDirectory);
+			auxiliaryState.savePluginInfo(fDirectory);
+			Path temp = Files.createTempFile(fDirectory.toPath(), INDEX_FILE, ".tmp"); //$NON-NLS-1$
+			try {
+				try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+					out.writeInt(MAGIC);
+					out.writeInt(VERSION);
+					out.writeLong(fFingerprint);
+					out.writeBoolean(fResolve);
+					out.writeInt(fStamps.size());
+					for (FileStamp stamp : fStamps) {
+						out.writeUTF(stamp.path());
+						out.writeLong(stamp.length());
+						out.writeLong(stamp.lastModified());
+					}
+					out.writeLong(content.lastId());
+					out.writeBoolean(content.systemBundle() != null);
+					if (content.systemBundle() != null) {
+						out.writeUTF(content.systemBundle());
+					}
+				}
+				Files.move(temp, index, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+				Files.deleteIfExists(temp);
+			}
+		} catch (IOException | RuntimeException e) {
+			PDECore.log(e);
+		}
+	}
+}
@@ -24,14 +24,18 @@ import java.nio.file.Path;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Dictionary;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
@@ -42,14 +46,19 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.IAdaptable;
+import org.eclipse.osgi.service.resolver.BundleDelta;
 import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateDelta;
 import org.eclipse.pde.core.plugin.IPluginLibrary;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.internal.core.ClasspathUtilCore;
+import org.eclipse.pde.internal.core.IStateDeltaListener;
 import org.eclipse.pde.internal.core.PDECore;
+import org.osgi.framework.namespace.PackageNamespace;
 import org.osgi.resource.Capability;
+import org.osgi.resource.Namespace;
 import org.osgi.resource.Requirement;
 import org.osgi.resource.Resource;
 import org.osgi.service.repository.ContentNamespace;
@@ -59,6 +68,14 @@ import org.osgi.service.repository.RepositoryContent;
 import aQute.bnd.osgi.Instruction;
 import aQute.bnd.osgi.repository.BaseRepository;
 import aQute.bnd.osgi.resource.CapReqBuilder;
+import aQute.bnd.osgi.resource.FilterParser;
+import aQute.bnd.osgi.resource.FilterParser.And;
+import aQute.bnd.osgi.resource.FilterParser.Expression;
+import aQute.bnd.osgi.resource.FilterParser.ExpressionVisitor;
+import aQute.bnd.osgi.resource.FilterParser.Op;
+import aQute.bnd.osgi.resource.FilterParser.PackageExpression;
+import aQute.bnd.osgi.resource.FilterParser.PatternExpression;
+import aQute.bnd.osgi.resource.FilterParser.SimpleExpression;
 import aQute.bnd.osgi.resource.ResourceUtils;
 import aQute.bnd.service.RepositoryPlugin;
 
@@ -67,6 +84,8 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 	private static final TargetRepository instance = new TargetRepository();
 	private static final Map<File, ContentCapabilityCache> contentCapabilityMap = new ConcurrentHashMap<>();
 
+	private final CapabilityIndex capabilityIndex = new CapabilityIndex();
+
 	private TargetRepository() {
 	}
 
@@ -171,7 +190,26 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 
 	public List<Capability> findProvider(Requirement requirement) {
 		String namespace = requirement.getNamespace();
-		return bundles(null).map(r -> new BundleDescriptionRepositoryResource(this, r))
+		Stream<BundleDescription> bundles = bundles(null);
+		// content capabilities hash the bundle files, so they are only
+		// computed when asked for and never indexed
+		if (!ContentNamespace.CONTENT_NAMESPACE.equals(namespace)) {
+			Optional<State> state = getTargetPlatformState();
+			if (state.isEmpty()) {
+				return List.of();
+			}
+			// the index only selects the bundles to look at, their
+			// capabilities are still matched in the order of the state
+			Set<Long> candidates = capabilityIndex.candidates(state.get(), requirement);
+			if (candidates != null) {
+				if (candidates.isEmpty()) {
+					return List.of();
+				}
+				bundles = Arrays.stream(state.get().getBundles())
+						.filter(bundle -> candidates.contains(bundle.getBundleId()));
+			}
+		}
+		return bundles.map(r -> new BundleDescriptionRepositoryResource(this, r))
 				.flatMap(resource -> ResourceUtils.capabilityStream(resource, namespace))
 				.filter(ResourceUtils.matcher(requirement, ResourceUtils::filterPredicate))
 				.collect(ResourceUtils.toCapabilities());
@@ -340,6 +378,211 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 
 	}
 
+	/**
+	 * Index of the bundles in the target platform state by the namespaces of
+	 * their capabilities and the value of the namespace attribute, e.g. the
+	 * package name of an <code>osgi.wiring.package</code> capability. It is
+	 * only used to skip the bundles that cannot provide a requirement, the
+	 * capabilities of the remaining bundles are matched as without the index.
+	 * The index is updated with the bundles changed in a resolved
+	 * {@link StateDelta} and rebuilt when the state is replaced or was
+	 * modified without a delta, which is detected through the time stamp of
+	 * the state.
+	 */
+	private static final class CapabilityIndex implements IStateDeltaListener {
+
+		private static final int CHANGE_FLAGS = BundleDelta.ADDED | BundleDelta.REMOVED | BundleDelta.UPDATED;
+
+		private final FilterParser filterParser = new FilterParser();
+		private State state;
+		private long timeStamp;
+		private boolean listening;
+		/** bundle id -> capabilities of the bundle */
+		private final Map<Long, List<Capability>> bundleCapabilities = new HashMap<>();
+		/** namespace -> value of the namespace attribute -> bundle ids */
+		private final Map<String, Map<String, Set<Long>>> keyedBundles = new HashMap<>();
+		/** namespace -> bundle ids with a capability without a string namespace attribute */
+		private final Map<String, Set<Long>> otherBundles = new HashMap<>();
+
+		/**
+		 * Returns the ids of the bundles of the given state that can provide
+		 * the given requirement, the requirement still has to be matched with
+		 * their capabilities.
+		 *
+		 * @return the ids of the bundles or <code>null</code> if every bundle
+		 *         with a capability in the namespace of the requirement can
+		 *         provide it
+		 */
+		synchronized Set<Long> candidates(State current, Requirement requirement) {
+			if (!listening) {
+				PDECore pde = PDECore.getDefault();
+				if (pde != null) {
+					pde.getModelManager().addStateDeltaListener(this);
+					listening = true;
+				}
+			}
+			if (current != state || current.getTimeStamp() != timeStamp) {
+				rebuild(current);
+			}
+			String namespace = requirement.getNamespace();
+			String value = getRequiredValue(requirement);
+			if (value == null) {
+				return null;
+			}
+			Set<Long> candidates = new HashSet<>(otherBundles.getOrDefault(namespace, Set.of()));
+			candidates.addAll(keyedBundles.getOrDefault(namespace, Map.of()).getOrDefault(value, Set.of()));
+			return candidates;
+		}
+
+		@Override
+		public synchronized void stateResolved(StateDelta delta) {
+			if (delta == null || delta.getState() != state || state == null) {
+				state = null;
+				return;
+			}
+			for (BundleDelta bundleDelta : delta.getChanges(CHANGE_FLAGS, false)) {
+				BundleDescription bundle = bundleDelta.getBundle();
+				remove(bundle.getBundleId());
+				if ((bundleDelta.getType() & BundleDelta.REMOVED) == 0) {
+					add(bundle);
+				}
+			}
+			timeStamp = state.getTimeStamp();
+		}
+
+		@Override
+		public synchronized void stateChanged(State newState) {
+			state = null;
+		}
+
+		private void rebuild(State current) {
+			bundleCapabilities.clear();
+			keyedBundles.clear();
+			otherBundles.clear();
+			for (BundleDescription bundle : current.getBundles()) {
+				add(bundle);
+			}
+			state = current;
+			timeStamp = current.getTimeStamp();
+		}
+
+		private void add(BundleDescription bundle) {
+			Long id = bundle.getBundleId();
+			List<Capability> capabilities = bundle.getCapabilities(null);
+			bundleCapabilities.put(id, capabilities);
+			for (Capability capability : capabilities) {
+				String namespace = capability.getNamespace();
+				List<String> values = getValues(capability.getAttributes().get(namespace));
+				if (values == null) {
+					otherBundles.computeIfAbsent(namespace, n -> new HashSet<>()).add(id);
+				} else {
+					Map<String, Set<Long>> keyed = keyedBundles.computeIfAbsent(namespace, n -> new HashMap<>());
+					for (String value : values) {
+						keyed.computeIfAbsent(value, v -> new HashSet<>()).add(id);
+					}
+				}
+			}
+		}
+
+		private void remove(long bundleId) {
+			List<Capability> capabilities = bundleCapabilities.remove(bundleId);
+			if (capabilities == null) {
+				return;
+			}
+			for (Capability capability : capabilities) {
+				String namespace = capability.getNamespace();
+				List<String> values = getValues(capability.getAttributes().get(namespace));
+				if (values == null) {
+					Set<Long> others = otherBundles.get(namespace);
+					if (others != null) {
+						others.remove(bundleId);
+					}
+				} else {
+					Map<String, Set<Long>> keyed = keyedBundles.get(namespace);
+					if (keyed != null) {
+						for (String value : values) {
+							Set<Long> ids = keyed.get(value);
+							if (ids != null) {
+								ids.remove(bundleId);
+								if (ids.isEmpty()) {
+									keyed.remove(value);
+								}
+							}
+						}
+					}
+				}
+			}
+		}
+
+		/**
+		 * @return the string values of the given namespace attribute or
+		 *         <code>null</code> if it has a value of another type, which
+		 *         the filter of a requirement compares in a different way
+		 */
+		private static List<String> getValues(Object attribute) {
+			if (attribute instanceof String value) {
+				return List.of(value);
+			}
+			if (attribute instanceof Collection<?> collection
+					&& collection.stream().allMatch(String.class::isInstance)) {
+				return collection.stream().map(String.class::cast).distinct().toList();
+			}
+			return null;
+		}
+
+		/**
+		 * @return the value the namespace attribute of a capability must have
+		 *         to match the filter of the given requirement or
+		 *         <code>null</code> if the filter does not require a single
+		 *         value
+		 */
+		private String getRequiredValue(Requirement requirement) {
+			String filter = requirement.getDirectives().get(Namespace.REQUIREMENT_FILTER_DIRECTIVE);
+			if (filter == null) {
+				return null;
+			}
+			Expression expression;
+			try {
+				expression = filterParser.parse(filter);
+			} catch (Exception e) {
+				// the requirement is matched without the index and reports
+				// the invalid filter
+				return null;
+			}
+			String namespace = requirement.getNamespace();
+			return expression.visit(new ExpressionVisitor<String>(null) {
+
+				@Override
+				public String visit(SimpleExpression expr) {
+					// a pattern expression with wildcards does not require a
+					// single value
+					if (expr instanceof PatternExpression || expr.getOp() != Op.EQUAL) {
+						return null;
+					}
+					return namespace.equals(expr.getKey()) ? expr.getValue() : null;
+				}
+
+				@Override
+				public String visit(PackageExpression expr) {
+					return PackageNamespace.PACKAGE_NAMESPACE.equals(namespace) ? expr.getPackageName() : null;
+				}
+
+				@Override
+				public String visit(And expr) {
+					// every operand of a conjunction has to match
+					for (Expression operand : expr.getExpressions()) {
+						String value = operand.visit(this);
+						if (value != null) {
+							return value;
+						}
+					}
+					return null;
+				}
+			});
+		}
+
+	}
+
 	private static final class ContentCapabilityCache {
 
 		private final File file;
@@ -27,12 +27,14 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
@@ -73,12 +75,16 @@ import org.eclipse.equinox.p2.metadata.IArtifactKey;
 import org.eclipse.equinox.p2.metadata.IInstallableUnit;
 import org.eclipse.equinox.p2.metadata.IProvidedCapability;
 import org.eclipse.equinox.p2.metadata.IRequirement;
+import org.eclipse.equinox.p2.metadata.IVersionedId;
 import org.eclipse.equinox.p2.metadata.MetadataFactory;
 import org.eclipse.equinox.p2.metadata.MetadataFactory.InstallableUnitDescription;
 import org.eclipse.equinox.p2.metadata.Version;
 import org.eclipse.equinox.p2.metadata.VersionRange;
+import org.eclipse.equinox.p2.metadata.VersionedId;
 import org.eclipse.equinox.p2.planner.IPlanner;
 import org.eclipse.equinox.p2.planner.IProfileChangeRequest;
+import org.eclipse.equinox.p2.planner.ProfileInclusionRules;
+import org.eclipse.equinox.p2.query.CollectionResult;
 import org.eclipse.equinox.p2.query.IQuery;
 import org.eclipse.equinox.p2.query.IQueryResult;
 import org.eclipse.equinox.p2.query.IQueryable;
@@ -150,6 +156,12 @@ public class P2TargetUtils {
 	 */
 	static final String PROP_IU_VERSION_DECLARATION = PDECore.PLUGIN_ID + ".iu_version_declaration"; //$NON-NLS-1$
 
+	/**
+	 * Installable unit property the planner stores the inclusion rules of the
+	 * IU's added by a change request in
+	 */
+	private static final String PROP_INCLUSION_RULES = "org.eclipse.equinox.p2.internal.inclusion.rules"; //$NON-NLS-1$
+
 	/**
 	 * Profile property that keeps track of provisioning mode for the target
 	 * (slice versus plan).
@@ -1088,8 +1100,20 @@ public class P2TargetUtils {
 		};
 		context.setProperty(ProvisioningContext.FOLLOW_REPOSITORY_REFERENCES, Boolean.toString(isFollowRepositoryReferences()));
 		context.setProperty(ProvisioningContext.FOLLOW_ARTIFACT_REPOSITORY_REFERENCES, Boolean.toString(isFollowRepositoryReferences()));
-		context.setMetadataRepositories(getMetadataRepositories(target).toArray(URI[]::new));
-		context.setArtifactRepositories(getArtifactRepositories(target).toArray(URI[]::new));
+		Collection<URI> metadataRepositories = getMetadataRepositories(target);
+		Collection<URI> artifactRepositories = getArtifactRepositories(target);
+		context.setMetadataRepositories(metadataRepositories.toArray(URI[]::new));
+		context.setArtifactRepositories(artifactRepositories.toArray(URI[]::new));
+
+		String cacheKey = null;
+		if (PlannerResultCache.ENABLED) {
+			IQueryable<IInstallableUnit> metadata = context.getMetadata(subMonitor.split(5));
+			cacheKey = getPlannerCacheKey(target, units, metadataRepositories, artifactRepositories, metadata);
+			if (resolveFromPlannerCache(target, profile, units, context, metadata, cacheKey, subMonitor.split(15))) {
+				return;
+			}
+		}
+		subMonitor.setWorkRemaining(190);
 
 		IProvisioningPlan plan = planner.getProvisioningPlan(request, context, subMonitor.split(20));
 		IStatus status = plan.getStatus();
@@ -1112,6 +1136,8 @@ public class P2TargetUtils {
 		if (result.getSeverity() == IStatus.ERROR || result.getSeverity() == IStatus.CANCEL) {
 			throw new CoreException(result);
 		}
+		// the requirements of the source IU are computed from the units of the first pass
+		Set<VersionedId> firstPassUnits = cacheKey != null ? getVersionedIds(profile) : null;
 
 		// Now that we have a plan with all the binary and explicit bundles, do a second pass and add
 		// in all the source.
@@ -1127,6 +1153,126 @@ public class P2TargetUtils {
 			}
 			throw e;
 		}
+
+		if (cacheKey != null && !subMonitor.isCanceled()) {
+			IProfile resolvedProfile = getProfileRegistry().getProfile(profile.getProfileId());
+			if (resolvedProfile != null) {
+				// the source IU is generated, it is not in any repository
+				Set<VersionedId> sourceUnits = getVersionedIds(resolvedProfile);
+				sourceUnits.removeAll(firstPassUnits);
+				PlannerResultCache.getDefault().put(cacheKey, firstPassUnits, sourceUnits);
+			}
+		}
+	}
+
+	/**
+	 * Returns the ids and versions of the units of the given profile, except
+	 * the generated source IU, sorted by id and version.
+	 */
+	private static Set<VersionedId> getVersionedIds(IProfile profile) {
+		return profile.query(QueryUtil.ALL_UNITS, null).stream()
+				.filter(unit -> !SOURCE_IU_ID.equals(unit.getId()))
+				.map(unit -> new VersionedId(unit.getId(), unit.getVersion()))
+				.collect(Collectors.toCollection(() -> new TreeSet<>(
+						Comparator.comparing(VersionedId::getId).thenComparing(VersionedId::getVersion))));
+	}
+
+	/**
+	 * Computes the key of the planner result for the given target, from
+	 * everything the planner result depends on. The key covers the units
+	 * available to the planner, so that a repository publishing new units at
+	 * the same location does not replay an outdated result.
+	 */
+	private String getPlannerCacheKey(ITargetDefinition target, Map<IInstallableUnit, String> units,
+			Collection<URI> metadataRepositories, Collection<URI> artifactRepositories,
+			IQueryable<IInstallableUnit> metadata) {
+		List<String> inputs = new ArrayList<>();
+		metadataRepositories.stream().map(URI::toASCIIString).sorted().map(uri -> "metadata=" + uri) //$NON-NLS-1$
+				.forEach(inputs::add);
+		artifactRepositories.stream().map(URI::toASCIIString).sorted().map(uri -> "artifacts=" + uri) //$NON-NLS-1$
+				.forEach(inputs::add);
+		units.entrySet().stream()
+				.map(unit -> "root=" + unit.getKey().getId() + '/' + unit.getKey().getVersion() + '/' + unit.getValue()) //$NON-NLS-1$
+				.sorted().forEach(inputs::add);
+		// the units of the repositories and of the other target locations
+		metadata.query(QueryUtil.ALL_UNITS, null).toUnmodifiableSet().stream()
+				.map(unit -> "unit=" + unit.getId() + '/' + unit.getVersion()).sorted().distinct() //$NON-NLS-1$
+				.forEach(inputs::add);
+		inputs.add("environment=" + generateEnvironmentProperties(target)); //$NON-NLS-1$
+		inputs.add("nl=" + generateNLProperty(target)); //$NON-NLS-1$
+		inputs.add("source=" + getIncludeSource()); //$NON-NLS-1$
+		inputs.add("configure=" + getIncludeConfigurePhase()); //$NON-NLS-1$
+		inputs.add("references=" + isFollowRepositoryReferences()); //$NON-NLS-1$
+		return PlannerResultCache.computeKey(inputs);
+	}
+
+	/**
+	 * Installs the units of the planner result cached with the given key into
+	 * the given profile, without running the planner.
+	 *
+	 * @return <code>true</code> if the cached result was installed,
+	 *         <code>false</code> if there is no cached result or it can not
+	 *         be used anymore
+	 */
+	private boolean resolveFromPlannerCache(ITargetDefinition target, IProfile profile,
+			Map<IInstallableUnit, String> units, ProvisioningContext context, IQueryable<IInstallableUnit> metadata,
+			String cacheKey, IProgressMonitor monitor) {
+		PlannerResultCache.Result cachedResult = PlannerResultCache.getDefault().get(cacheKey);
+		if (cachedResult == null) {
+			return false;
+		}
+		SubMonitor subMonitor = SubMonitor.convert(monitor, 100);
+		List<IInstallableUnit> firstPassUnits = findUnits(metadata, cachedResult.units());
+		List<IInstallableUnit> sourceUnits = findUnits(metadata, cachedResult.sourceUnits());
+		if (firstPassUnits == null || sourceUnits == null) {
+			// the repositories changed since the result was cached
+			PlannerResultCache.getDefault().remove(cacheKey);
+			return false;
+		}
+		// the profile is new, the plan does what the two passes of the planner
+		// would do, with the same profile properties
+		IEngine engine = getEngine();
+		IProvisioningPlan plan = engine.createPlan(profile, context);
+		setProperties(plan::setProfileProperty, target, TargetDefinitionPersistenceHelper.MODE_PLANNER);
+		plan.setProfileProperty(PROP_ALL_ENVIRONMENTS, Boolean.toString(false));
+		firstPassUnits.forEach(plan::addInstallableUnit);
+		sourceUnits.forEach(plan::addInstallableUnit);
+		IInstallableUnit sourceIU = createSourceIU(new CollectionResult<>(firstPassUnits), Version.createOSGi(1, 0, 0));
+		plan.addInstallableUnit(sourceIU);
+		plan.setInstallableUnitProfileProperty(sourceIU, PROP_INCLUSION_RULES,
+				ProfileInclusionRules.createStrictInclusionRule(sourceIU));
+		units.forEach((unit, versionDeclarations) -> {
+			plan.setInstallableUnitProfileProperty(unit, PROP_INCLUSION_RULES,
+					ProfileInclusionRules.createStrictInclusionRule(unit));
+			plan.setInstallableUnitProfileProperty(unit, PROP_INSTALLED_IU, Boolean.toString(true));
+			plan.setInstallableUnitProfileProperty(unit, PROP_IU_VERSION_DECLARATION, versionDeclarations);
+		});
+		IStatus result = engine.perform(plan, createPhaseSet(), subMonitor.split(100));
+		if (result.getSeverity() == IStatus.ERROR || result.getSeverity() == IStatus.CANCEL) {
+			PDECore.log(result);
+			PlannerResultCache.getDefault().remove(cacheKey);
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Finds the units with the given ids and versions.
+	 *
+	 * @return the units or <code>null</code> if one of them is not found
+	 */
+	private static List<IInstallableUnit> findUnits(IQueryable<IInstallableUnit> metadata,
+			List<IVersionedId> versionedIds) {
+		List<IInstallableUnit> units = new ArrayList<>(versionedIds.size());
+		for (IVersionedId versionedId : versionedIds) {
+			IInstallableUnit unit = queryFirst(metadata,
+					QueryUtil.createIUQuery(versionedId.getId(), versionedId.getVersion()), null).orElse(null);
+			if (unit == null) {
+				return null;
+			}
+			units.add(unit);
+		}
+		return units;
 	}
 
 	private void setProperties(BiConsumer<String, String> setter, ITargetDefinition target, String mode) {
@@ -0,0 +1,302 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.target;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.URIUtil;
+import org.eclipse.equinox.p2.metadata.IVersionedId;
+import org.eclipse.equinox.p2.metadata.Version;
+import org.eclipse.equinox.p2.metadata.VersionedId;
+import org.eclipse.osgi.service.datalocation.Location;
+import org.eclipse.pde.internal.core.PDECore;
+
+/**
+ * Cache of the installable units the p2 planner computed for a target, kept
+ * in the user location so that it survives restarts and is shared by the
+ * workspaces of the user. A lock file serializes the access of concurrent
+ * instances.
+ * <p>
+ * A result is stored under a key computed from everything the planner result
+ * depends on: the repositories and the units they contain, the root units
+ * with their declared versions, the units of the other target locations, the
+ * environment and the provisioning options. A cached result only lists the
+ * ids and versions of the units, they still have to be found in the
+ * repositories to be used, so a result whose units are no longer available is
+ * simply not used. Since it does not refer to the bundle pool, the engine
+ * still fetches the artifacts into the bundle pool of the workspace. The units
+ * the planner adds in its second pass, for the source bundles, are kept apart
+ * from the units of the first pass, since the requirements of the generated
+ * source IU are computed from the latter.
+ * </p>
+ * <p>
+ * The cache can be disabled with the
+ * <code>org.eclipse.pde.core.plannerCache</code> system property set to
+ * <code>false</code>.
+ * </p>
+ */
+public final class PlannerResultCache {
+
+	private static final int MAGIC = 0x50445043; // PDPC
+	private static final int VERSION = 2;
+
+	/**
+	 * Number of results kept, the least recently used results are removed
+	 * first
+	 */
+	private static final int MAX_ENTRIES = 32;
+
+	private static final String CACHE_DIRECTORY = ".planner_cache"; //$NON-NLS-1$
+	private static final String CACHE_EXTENSION = ".units"; //$NON-NLS-1$
+	private static final String LOCK_FILE = ".lock"; //$NON-NLS-1$
+
+	/**
+	 * Whether planner results are cached
+	 */
+	public static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("org.eclipse.pde.core.plannerCache", "true")); //$NON-NLS-1$ //$NON-NLS-2$
+
+	private static final PlannerResultCache INSTANCE = new PlannerResultCache(getCacheDirectory());
+
+	/**
+	 * A cached planner result
+	 *
+	 * @param units the ids and versions of the units of the first pass of the
+	 *            planner
+	 * @param sourceUnits the ids and versions of the units added by the
+	 *            second pass of the planner, for the source bundles
+	 */
+	public record Result(List<IVersionedId> units, List<IVersionedId> sourceUnits) {
+	}
+
+	private final Path fDirectory;
+
+	public PlannerResultCache(Path directory) {
+		fDirectory = directory;
+	}
+
+	/**
+	 * @return the planner result cache of the user
+	 */
+	public static PlannerResultCache getDefault() {
+		return INSTANCE;
+	}
+
+	/**
+	 * @return the directory of the cached results
+	 */
+	public Path getDirectory() {
+		return fDirectory;
+	}
+
+	/**
+	 * Returns the directory of the cache in the user location, or in the PDE
+	 * state location if the user location is not a writable directory.
+	 */
+	private static Path getCacheDirectory() {
+		Location location = Platform.getUserLocation();
+		if (location != null && !location.isReadOnly()) {
+			URL url = location.getURL();
+			if (url != null && "file".equals(url.getProtocol())) { //$NON-NLS-1$
+				try {
+					File directory = URIUtil.toFile(URIUtil.toURI(url));
+					if (directory != null) {
+						return directory.toPath().resolve(PDECore.PLUGIN_ID).resolve(CACHE_DIRECTORY);
+					}
+				} catch (URISyntaxException e) {
+					PDECore.log(e);
+				}
+			}
+		}
+		return PDECore.getDefault().getStateLocation().append(CACHE_DIRECTORY).toPath();
+	}
+
+	/**
+	 * Computes the key of a planner result.
+	 *
+	 * @param inputs a description of everything the result depends on, in a
+	 *            canonical order
+	 * @return the key of the result
+	 */
+	public static String computeKey(List<String> inputs) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			for (String input : inputs) {
+				digest.update(input.getBytes(StandardCharsets.UTF_8));
+				digest.update((byte) '\n');
+			}
+			return HexFormat.of().formatHex(digest.digest());
+		} catch (NoSuchAlgorithmException e) {
+			// every Java platform supports SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Returns the result cached with the given key.
+	 *
+	 * @param key the key of the result
+	 * @return the result or <code>null</code> if there is no result with the
+	 *         given key
+	 */
+	public synchronized Result get(String key) {
+		Path file = fDirectory.resolve(key + CACHE_EXTENSION);
+		if (!Files.exists(file)) {
+			return null;
+		}
+		try (FileChannel lock = lock();
+				DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+				return null;
+			}
+			List<IVersionedId> units = readUnits(in);
+			List<IVersionedId> sourceUnits = readUnits(in);
+			Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+			return new Result(units, sourceUnits);
+		} catch (NoSuchFileException e) {
+			return null;
+		} catch (IOException | RuntimeException e) {
+			PDECore.log(e);
+			remove(key);
+			return null;
+		}
+	}
+
+	/**
+	 * Caches the given units with the given key, replacing any result with the
+	 * same key.
+	 *
+	 * @param key the key of the result
+	 * @param units the ids and versions of the units of the first pass of the
+	 *            planner
+	 * @param sourceUnits the ids and versions of the units added by the
+	 *            second pass of the planner
+	 */
+	public synchronized void put(String key, Collection<? extends IVersionedId> units,
+			Collection<? extends IVersionedId> sourceUnits) {
+		try (FileChannel lock = lock()) {
+			Path temp = Files.createTempFile(fDirectory, key, ".tmp"); //$NON-NLS-1$
+			try {
+				try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+					out.writeInt(MAGIC);
+					out.writeInt(VERSION);
+					writeUnits(out, units);
+					writeUnits(out, sourceUnits);
+				}
+				Files.move(temp, fDirectory.resolve(key + CACHE_EXTENSION), StandardCopyOption.REPLACE_EXISTING,
+						StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+				Files.deleteIfExists(temp);
+			}
+			evict();
+		} catch (IOException e) {
+			PDECore.log(e);
+		}
+	}
+
+	/**
+	 * Removes the result with the given key, e.g. because it could not be
+	 * used.
+	 *
+	 * @param key the key of the result
+	 */
+	public synchronized void remove(String key) {
+		try (FileChannel lock = lock()) {
+			Files.deleteIfExists(fDirectory.resolve(key + CACHE_EXTENSION));
+		} catch (IOException e) {
+			PDECore.log(e);
+		}
+	}
+
+	/**
+	 * Locks the cache against other instances sharing the cache directory. The
+	 * lock is released when the returned channel is closed.
+	 */
+	private FileChannel lock() throws IOException {
+		Files.createDirectories(fDirectory);
+		FileChannel channel = FileChannel.open(fDirectory.resolve(LOCK_FILE), StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE);
+		try {
+			channel.lock();
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+		return channel;
+	}
+
+	private static List<IVersionedId> readUnits(DataInputStream in) throws IOException {
+		int count = in.readInt();
+		List<IVersionedId> units = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			units.add(new VersionedId(in.readUTF(), Version.create(in.readUTF())));
+		}
+		return units;
+	}
+
+	private static void writeUnits(DataOutputStream out, Collection<? extends IVersionedId> units)
+			throws IOException {
+		out.writeInt(units.size());
+		for (IVersionedId unit : units) {
+			out.writeUTF(unit.getId());
+			out.writeUTF(unit.getVersion().toString());
+		}
+	}
+
+	private void evict() throws IOException {
+		List<Path> files;
+		try (Stream<Path> list = Files.list(fDirectory)) {
+			files = list.filter(f -> f.getFileName().toString().endsWith(CACHE_EXTENSION)).toList();
+		}
+		if (files.size() <= MAX_ENTRIES) {
+			return;
+		}
+		List<Path> sorted = new ArrayList<>(files);
+		sorted.sort(Comparator.comparingLong(PlannerResultCache::getLastModified).reversed());
+		for (Path file : sorted.subList(MAX_ENTRIES, sorted.size())) {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	private static long getLastModified(Path file) {
+		try {
+			return Files.getLastModifiedTime(file).toMillis();
+		} catch (IOException e) {
+			return 0;
+		}
+	}
+}
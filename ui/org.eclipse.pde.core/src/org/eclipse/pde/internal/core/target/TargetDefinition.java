@@ -28,10 +28,17 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import javax.xml.parsers.DocumentBuilder;
@@ -43,6 +50,7 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
@@ -77,6 +85,18 @@ import org.xml.sax.SAXException;
  * @since 3.5
  */
 public class TargetDefinition implements ITargetDefinition {
+
+	/**
+	 * System property setting the number of target locations resolved
+	 * concurrently. The default <code>1</code> resolves the locations one
+	 * after the other. Only the directory, profile and feature locations and
+	 * the p2 synchronizers are resolved concurrently, the locations
+	 * contributed by other plug-ins are always resolved one after the other.
+	 */
+	public static final String RESOLVE_PARALLELISM = "org.eclipse.pde.core.targetResolveParallelism"; //$NON-NLS-1$
+
+	private final int fResolveParallelism = Math.max(1, Integer.getInteger(RESOLVE_PARALLELISM, 1));
+
 	// xml document making the targetDefinition
 	private Document fDocument;
 	private Element fRoot;
@@ -118,7 +138,7 @@ public class TargetDefinition implements ITargetDefinition {
 	public static final int MODE_FEATURE = 1;
 
 	// cache of features found for a given location, maps a string path location to a array of IFeatureModels (IFeatureModel[])
-	private static Map<String, TargetFeature[]> fFeaturesInLocation = new HashMap<>();
+	private static Map<String, TargetFeature[]> fFeaturesInLocation = new ConcurrentHashMap<>();
 
 	// internal cache for features.  A target managed by features will contain a set of features as well as a set of plug-ins that don't belong to a feature
 	private TargetFeature[] fFeatures;
@@ -373,40 +393,49 @@ public class TargetDefinition implements ITargetDefinition {
 		SubMonitor subMonitor = SubMonitor.convert(monitor, Messages.TargetDefinition_1, targetLocations.length * 100);
 		try {
 			MultiStatus status = new MultiStatus(PDECore.PLUGIN_ID, 0, Messages.TargetDefinition_2);
-			Map<P2TargetUtils, List<ITargetLocation>> synchronizers = new HashMap<>();
+			Map<P2TargetUtils, List<ITargetLocation>> synchronizers = new LinkedHashMap<>();
+			List<ITargetLocation> locations = new ArrayList<>(targetLocations.length);
 			// clear all previous maps
 			P2TargetUtils.fgTargetArtifactRepo.clear();
 			P2TargetUtils.fgArtifactKeyRepoFile.clear();
 			for (ITargetLocation location : targetLocations) {
-				subMonitor.checkCanceled();
-				subMonitor.subTask(Messages.TargetDefinition_4);
 				P2TargetUtils synchronizer = location.getAdapter(P2TargetUtils.class);
 				if (synchronizer == null) {
 					// a usual target definition location
-					IStatus s = location.resolve(this, subMonitor.split(100));
-					if (!s.isOK()) {
-						status.add(s);
-					}
+					locations.add(location);
 				} else {
 					// has to be performed later on in a separate batch
 					synchronizers.computeIfAbsent(synchronizer, nil -> new ArrayList<>()).add(location);
 				}
 			}
+			// the usual locations do not depend on each other
+			List<IStatus> results = resolveAll(locations, location -> m -> location.resolve(this, m),
+					TargetDefinition::isConcurrent, subMonitor, 100);
+			results.stream().filter(s -> !s.isOK()).forEach(status::add);
 			if (!synchronizers.isEmpty()) {
 				List<ITargetLocation> delayedLocations = synchronizers.values().stream().flatMap(Collection::stream)
 						.toList();
 				subMonitor.setWorkRemaining(synchronizers.size() * 100 + delayedLocations.size());
-				synchronizers.forEach((synchronizer, locations) -> {
-					subMonitor.checkCanceled();
+				// each synchronizer has its own profile
+				List<P2TargetUtils> synchronizerList = new ArrayList<>(synchronizers.keySet());
+				List<IStatus> synchronizations = resolveAll(synchronizerList, synchronizer -> m -> {
 					try {
-						synchronizer.synchronize(this, subMonitor.split(100));
-						locations.stream().map(ITargetLocation::getStatus).filter(s -> s != null && !s.isOK())
-								.forEach(status::add);
+						synchronizer.synchronize(this, m);
+						return Status.OK_STATUS;
 					} catch (CoreException e) {
 						PDECore.log(e.getStatus());
-						status.add(e.getStatus());
+						return e.getStatus();
 					}
-				});
+				}, synchronizer -> true, subMonitor, 100);
+				for (int i = 0; i < synchronizerList.size(); i++) {
+					IStatus s = synchronizations.get(i);
+					if (s.isOK()) {
+						synchronizers.get(synchronizerList.get(i)).stream().map(ITargetLocation::getStatus)
+								.filter(ls -> ls != null && !ls.isOK()).forEach(status::add);
+					} else {
+						status.add(s);
+					}
+				}
 				for (ITargetLocation location : delayedLocations) {
 					subMonitor.checkCanceled();
 					IStatus s = location.resolve(this, subMonitor.split(1));
@@ -428,6 +457,161 @@ public class TargetDefinition implements ITargetDefinition {
 		}
 	}
 
+	/**
+	 * @return whether the given location may be resolved concurrently to
+	 *         others, which is only known for the locations of PDE that are
+	 *         not resolved through p2
+	 */
+	private static boolean isConcurrent(ITargetLocation location) {
+		return location instanceof DirectoryBundleContainer || location instanceof ProfileBundleContainer
+				|| location instanceof FeatureBundleContainer;
+	}
+
+	/**
+	 * Runs the resolution of the given elements. The elements accepted by the
+	 * given predicate are resolved concurrently if there are several of them
+	 * and the parallelism set with the {@link #RESOLVE_PARALLELISM} property
+	 * allows it, the others are resolved one after the other in the calling
+	 * thread.
+	 *
+	 * @param elements the elements to resolve
+	 * @param resolution the resolution of an element with a progress monitor
+	 * @param concurrent whether an element may be resolved concurrently
+	 * @param monitor the monitor to report progress to and to check for
+	 *            cancellation
+	 * @param work the work of a single resolution
+	 * @return the status of every resolution, in the order of the elements
+	 * @throws OperationCanceledException if the resolution is cancelled
+	 */
+	private <T> List<IStatus> resolveAll(List<T> elements, Function<T, Function<IProgressMonitor, IStatus>> resolution,
+			Predicate<T> concurrent, SubMonitor monitor, int work) {
+		List<IStatus> result = new ArrayList<>(elements.size());
+		int parallelism = Math.min(fResolveParallelism, (int) elements.stream().filter(concurrent).count());
+		if (parallelism < 2) {
+			for (T element : elements) {
+				monitor.checkCanceled();
+				monitor.subTask(Messages.TargetDefinition_4);
+				result.add(resolution.apply(element).apply(monitor.split(work)));
+			}
+			return result;
+		}
+		// sub monitors can not be shared between threads, every resolution
+		// reports its progress to the given monitor through its own monitor
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try {
+			List<ForkJoinTask<IStatus>> tasks = new ArrayList<>(elements.size());
+			List<ConcurrentMonitor> monitors = new ArrayList<>(elements.size());
+			for (T element : elements) {
+				ConcurrentMonitor elementMonitor = new ConcurrentMonitor(monitor, work);
+				monitors.add(elementMonitor);
+				if (concurrent.test(element)) {
+					Function<IProgressMonitor, IStatus> task = resolution.apply(element);
+					tasks.add(pool.submit(() -> task.apply(elementMonitor)));
+				} else {
+					tasks.add(null);
+				}
+			}
+			for (int i = 0; i < elements.size(); i++) {
+				monitor.checkCanceled();
+				ForkJoinTask<IStatus> task = tasks.get(i);
+				ConcurrentMonitor elementMonitor = monitors.get(i);
+				if (task == null) {
+					elementMonitor.subTask(Messages.TargetDefinition_4);
+					result.add(resolution.apply(elements.get(i)).apply(elementMonitor));
+				} else {
+					try {
+						result.add(task.get());
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						throw new OperationCanceledException();
+					} catch (ExecutionException e) {
+						if (e.getCause() instanceof RuntimeException runtimeException) {
+							throw runtimeException;
+						}
+						if (e.getCause() instanceof Error error) {
+							throw error;
+						}
+						throw new IllegalStateException(e.getCause());
+					}
+				}
+				elementMonitor.finish();
+			}
+			return result;
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	/**
+	 * Monitor of a resolution that runs concurrently to others. It reports
+	 * its progress, scaled to the given work, to the shared monitor of all the
+	 * resolutions, synchronized on that monitor since progress monitors are
+	 * not thread safe. It is cancelled when the shared monitor is.
+	 */
+	private static final class ConcurrentMonitor extends NullProgressMonitor {
+
+		private final IProgressMonitor fShared;
+		private final int fWork;
+		private double fTotal = 1;
+		private double fWorked;
+		private int fReported;
+
+		ConcurrentMonitor(IProgressMonitor shared, int work) {
+			fShared = shared;
+			fWork = work;
+		}
+
+		@Override
+		public void beginTask(String name, int totalWork) {
+			if (totalWork > 0) {
+				fTotal = totalWork;
+			}
+			subTask(name);
+		}
+
+		@Override
+		public void subTask(String name) {
+			if (name != null && !name.isEmpty()) {
+				synchronized (fShared) {
+					fShared.subTask(name);
+				}
+			}
+		}
+
+		@Override
+		public void worked(int work) {
+			internalWorked(work);
+		}
+
+		@Override
+		public void internalWorked(double work) {
+			fWorked += work;
+			report((int) Math.min(fWork, fWorked * fWork / fTotal));
+		}
+
+		@Override
+		public boolean isCanceled() {
+			return fShared.isCanceled();
+		}
+
+		/**
+		 * Reports the work that was not reported yet once the resolution is
+		 * done.
+		 */
+		void finish() {
+			report(fWork);
+		}
+
+		private void report(int reported) {
+			if (reported > fReported) {
+				synchronized (fShared) {
+					fShared.worked(reported - fReported);
+				}
+				fReported = reported;
+			}
+		}
+	}
+
 	@Override
 	public boolean isResolved() {
 		ITargetLocation[] containers = getTargetLocations();
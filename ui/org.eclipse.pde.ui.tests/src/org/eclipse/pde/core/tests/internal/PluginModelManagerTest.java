@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.ModelEntry;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.PluginModelManager;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+/**
+ * Tests that the entries of the {@link PluginModelManager} can be read while
+ * the models change.
+ */
+public class PluginModelManagerTest {
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	@Rule
+	public final TestRule deleteCreatedTestProjectsAfter = ProjectUtils.DELETE_CREATED_WORKSPACE_PROJECTS_AFTER;
+
+	@Test
+	public void testEntryIsLive() throws CoreException {
+		createModelProject("plugin.live.a", "plugin.live", "1.0.0");
+		ModelEntry entry = PluginRegistry.findEntry("plugin.live");
+		assertNotNull(entry);
+		assertEquals(1, entry.getWorkspaceModels().length);
+
+		IProject project = createModelProject("plugin.live.b", "plugin.live", "2.0.0");
+		assertEquals(2, entry.getWorkspaceModels().length);
+
+		project.delete(true, true, null);
+		WorkspaceModelManagerTest.awaitJobs();
+		assertEquals(1, entry.getWorkspaceModels().length);
+	}
+
+	@Test
+	public void testReadWhileModelsChange() throws Exception {
+		PluginModelManager manager = PluginModelManager.getInstance();
+		AtomicBoolean done = new AtomicBoolean();
+		CompletableFuture<Integer> reader = CompletableFuture.supplyAsync(() -> {
+			int reads = 0;
+			while (!done.get()) {
+				for (IPluginModelBase model : manager.getActiveModels()) {
+					assertNotNull(model);
+				}
+				for (IPluginModelBase model : manager.getAllModels()) {
+					ModelEntry entry = manager.findEntry(model.getPluginBase().getId());
+					if (entry != null) {
+						entry.getActiveModels();
+						entry.getModel(model.getBundleDescription());
+					}
+				}
+				reads++;
+			}
+			return reads;
+		});
+		try {
+			for (int i = 0; i < 10; i++) {
+				IProject project = createModelProject("plugin.concurrent" + i, "plugin.concurrent" + i, "1.0.0");
+				assertNotNull(manager.findEntry("plugin.concurrent" + i));
+				project.delete(true, true, null);
+				WorkspaceModelManagerTest.awaitJobs();
+				assertNull(manager.findEntry("plugin.concurrent" + i));
+			}
+		} finally {
+			done.set(true);
+		}
+		// fails with the exception of the reader if a read failed
+		reader.get(30, TimeUnit.SECONDS);
+	}
+
+	private static IProject createModelProject(String projectName, String symbolicName, String version)
+			throws CoreException {
+		IProject project = ProjectUtils.createPluginProject(projectName, symbolicName, version);
+		project.build(IncrementalProjectBuilder.FULL_BUILD, null);
+		WorkspaceModelManagerTest.awaitJobs();
+		return project;
+	}
+}
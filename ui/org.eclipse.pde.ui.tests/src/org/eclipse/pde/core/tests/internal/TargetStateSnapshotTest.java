@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.pde.internal.core.PDEState;
+import org.eclipse.pde.internal.core.TargetStateSnapshot;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests that a {@link PDEState} is restored from its
+ * {@link TargetStateSnapshot} only if the target bundles did not change.
+ */
+public class TargetStateSnapshotTest {
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	private File snapshotDirectory;
+	private File bundleA;
+	private File bundleB;
+
+	@Before
+	public void setUp() throws Exception {
+		assumeTrue("target state snapshots are disabled", TargetStateSnapshot.ENABLED);
+		snapshotDirectory = new File(folder.getRoot(), "snapshot");
+		bundleA = createBundle("bundle.a", "1.0.0");
+		bundleB = createBundle("bundle.b", "1.0.0");
+	}
+
+	@Test
+	public void testRestore() throws Exception {
+		assertEquals("1.0.0", getVersion(createState(bundleA, bundleB), "bundle.a"));
+		assertTrue(snapshot(bundleA, bundleB).isCurrent());
+
+		// a manifest with the same size and modification time is not read
+		// again, so the state is restored from the snapshot
+		Path manifest = bundleA.toPath().resolve("META-INF/MANIFEST.MF");
+		long lastModified = manifest.toFile().lastModified();
+		writeManifest(bundleA, "bundle.a", "1.0.1");
+		assertTrue(manifest.toFile().setLastModified(lastModified));
+		assertTrue(snapshot(bundleA, bundleB).isCurrent());
+		PDEState state = createState(bundleA, bundleB);
+		assertEquals("1.0.0", getVersion(state, "bundle.a"));
+		assertEquals("1.0.0", getVersion(state, "bundle.b"));
+	}
+
+	@Test
+	public void testInvalidation() throws Exception {
+		createState(bundleA, bundleB);
+		assertTrue(snapshot(bundleA, bundleB).isCurrent());
+		assertFalse("the bundles changed", snapshot(bundleB, bundleA).isCurrent());
+		assertFalse("the bundles changed", snapshot(bundleA).isCurrent());
+
+		// every file read from a bundle directory invalidates the snapshot
+		Files.writeString(bundleB.toPath().resolve("plugin.xml"), "<plugin/>");
+		assertFalse("plugin.xml changed", snapshot(bundleA, bundleB).isCurrent());
+		createState(bundleA, bundleB);
+		assertTrue(snapshot(bundleA, bundleB).isCurrent());
+		Files.writeString(bundleB.toPath().resolve("fragment.xml"), "<fragment/>");
+		assertFalse("fragment.xml changed", snapshot(bundleA, bundleB).isCurrent());
+
+		writeManifest(bundleA, "bundle.a", "2.0.0.v1");
+		assertFalse("the manifest changed", snapshot(bundleA, bundleB).isCurrent());
+		assertEquals("2.0.0.v1", getVersion(createState(bundleA, bundleB), "bundle.a"));
+		assertTrue(snapshot(bundleA, bundleB).isCurrent());
+	}
+
+	@Test
+	public void testFailedBundleNotSaved() throws Exception {
+		File corrupt = folder.newFile("corrupt.jar");
+		Files.write(corrupt.toPath(), new byte[] { 'P', 'K', 3, 4, 1, 2, 3 });
+		PDEState state = createState(bundleA, corrupt);
+		assertEquals("1.0.0", getVersion(state, "bundle.a"));
+		assertFalse("a state with a bundle that failed to be read must not be saved",
+				snapshot(bundleA, corrupt).isCurrent());
+
+		// a file that is not a bundle does not prevent the snapshot
+		File notABundle = folder.newFolder("not.a.bundle");
+		createState(bundleA, notABundle);
+		assertTrue(snapshot(bundleA, notABundle).isCurrent());
+	}
+
+	private File createBundle(String symbolicName, String version) throws IOException {
+		File bundle = folder.newFolder(symbolicName);
+		writeManifest(bundle, symbolicName, version);
+		return bundle;
+	}
+
+	private static void writeManifest(File bundle, String symbolicName, String version) throws IOException {
+		Path manifest = bundle.toPath().resolve("META-INF/MANIFEST.MF");
+		Files.createDirectories(manifest.getParent());
+		Files.writeString(manifest, "Manifest-Version: 1.0\n" //
+				+ "Bundle-ManifestVersion: 2\n" //
+				+ "Bundle-SymbolicName: " + symbolicName + "\n" //
+				+ "Bundle-Version: " + version + "\n", StandardCharsets.UTF_8);
+	}
+
+	private PDEState createState(File... bundles) {
+		URI[] uris = new URI[bundles.length];
+		for (int i = 0; i < bundles.length; i++) {
+			uris[i] = bundles[i].toURI();
+		}
+		return new PDEState(uris, true, false, snapshotDirectory, null);
+	}
+
+	private TargetStateSnapshot snapshot(File... bundles) {
+		return TargetStateSnapshot.create(snapshotDirectory, List.of(bundles), true);
+	}
+
+	private static String getVersion(PDEState state, String symbolicName) {
+		BundleDescription[] bundles = state.getState().getBundles(symbolicName);
+		assertEquals(1, bundles.length);
+		return bundles[0].getVersion().toString();
+	}
+}
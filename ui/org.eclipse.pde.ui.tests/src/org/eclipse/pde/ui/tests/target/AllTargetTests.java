@@ -26,6 +26,8 @@ import org.junit.runners.Suite.SuiteClasses;
 		TargetDefinitionResolutionTests.class, //
 		TargetDefinitionFeatureResolutionTests.class, //
 		IUBundleContainerTests.class, //
+		PlannerResultCacheTests.class, //
+		TargetRepositoryTests.class, //
 		ProfileContainerTests.class })
 public class AllTargetTests {
 
@@ -17,16 +17,24 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.xml.parsers.DocumentBuilder;
 
@@ -36,6 +44,8 @@ import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.equinox.frameworkadmin.BundleInfo;
+import org.eclipse.equinox.p2.engine.IProfile;
+import org.eclipse.equinox.p2.engine.IProfileRegistry;
 import org.eclipse.equinox.p2.metadata.IArtifactKey;
 import org.eclipse.equinox.p2.metadata.IInstallableUnit;
 import org.eclipse.equinox.p2.publisher.eclipse.BundlesAction;
@@ -56,6 +66,7 @@ import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.target.DirectoryBundleContainer;
 import org.eclipse.pde.internal.core.target.IUBundleContainer;
 import org.eclipse.pde.internal.core.target.P2TargetUtils;
+import org.eclipse.pde.internal.core.target.PlannerResultCache;
 import org.eclipse.pde.internal.core.target.TargetDefinition;
 import org.eclipse.pde.internal.core.target.TargetDefinitionPersistenceHelper;
 import org.eclipse.pde.internal.core.target.TargetPersistence38Helper;
@@ -154,6 +165,87 @@ public class IUBundleContainerTests extends AbstractTargetTest {
 		}
 	}
 
+	/**
+	 * Tests that a target resolved from the cached planner result has the same
+	 * profile as a target resolved by the planner
+	 */
+	@Test
+	public void testResolveFromPlannerCache() throws Exception {
+		assumeTrue(PlannerResultCache.ENABLED);
+		// the cache is shared by the workspaces of the user, so only the result
+		// of this test is removed
+		Path cacheFile = null;
+		try {
+			URI uri = getURI("/tests/sites/site.a.b");
+			IInstallableUnit[] units = getUnits(new String[] { "feature.b.feature.group" }, uri);
+			int flags = IUBundleContainer.INCLUDE_REQUIRED | IUBundleContainer.INCLUDE_SOURCE;
+
+			// finds the file of the result, which may have been cached before
+			long start = System.currentTimeMillis() - 2000;
+			ITargetDefinition firstTarget = getTargetService().newTarget();
+			firstTarget.setTargetLocations(new ITargetLocation[] { createContainer(units, new URI[] { uri }, flags) });
+			getAllBundleInfos(firstTarget);
+			List<Path> touched = getCacheFiles(start);
+			assertEquals(1, touched.size());
+			cacheFile = touched.get(0);
+			Files.delete(cacheFile);
+
+			// resolved by the planner, the result is cached
+			ITargetDefinition plannerTarget = getTargetService().newTarget();
+			plannerTarget.setTargetLocations(
+					new ITargetLocation[] { createContainer(units, new URI[] { uri }, flags) });
+			getAllBundleInfos(plannerTarget);
+			assertTrue(Files.isRegularFile(cacheFile));
+
+			// a new target with the same content is resolved from the cache
+			ITargetDefinition cachedTarget = getTargetService().newTarget();
+			cachedTarget.setTargetLocations(
+					new ITargetLocation[] { createContainer(units, new URI[] { uri }, flags) });
+			getAllBundleInfos(cachedTarget);
+
+			IProfileRegistry registry = P2TargetUtils.getProfileRegistry();
+			IProfile plannerProfile = registry.getProfile(P2TargetUtils.getProfileId(plannerTarget));
+			IProfile cachedProfile = registry.getProfile(P2TargetUtils.getProfileId(cachedTarget));
+			assertNotNull(plannerProfile);
+			assertNotNull(cachedProfile);
+			assertEquals(getProfileContent(plannerProfile), getProfileContent(cachedProfile));
+		} finally {
+			if (cacheFile != null) {
+				Files.deleteIfExists(cacheFile);
+			}
+			P2TargetUtils.cleanOrphanedTargetDefinitionProfiles();
+		}
+	}
+
+	/**
+	 * Returns the cached planner results written or read since the given time
+	 */
+	private static List<Path> getCacheFiles(long since) throws IOException {
+		try (Stream<Path> files = Files.list(PlannerResultCache.getDefault().getDirectory())) {
+			return files.filter(file -> file.getFileName().toString().endsWith(".units"))
+					.filter(file -> file.toFile().lastModified() >= since).toList();
+		}
+	}
+
+	/**
+	 * Returns the properties of the given profile and its units, with the
+	 * requirements of the generated source IU, omitting the install folder
+	 * that is specific to each profile.
+	 */
+	private Map<String, String> getProfileContent(IProfile profile) {
+		Map<String, String> content = new TreeMap<>(profile.getProperties());
+		content.remove(IProfile.PROP_INSTALL_FOLDER);
+		for (IInstallableUnit unit : profile.query(QueryUtil.ALL_UNITS, null)) {
+			String key = unit.getId() + '_' + unit.getVersion();
+			content.put(key, new TreeMap<>(profile.getInstallableUnitProperties(unit)).toString());
+			if (unit.getId().equals("org.eclipse.pde.core.target.source.bundles")) {
+				content.put(key + ".requirements", unit.getRequirements().stream().map(Object::toString).sorted()
+						.collect(Collectors.joining(",")));
+			}
+		}
+		return content;
+	}
+
 	/**
 	 * Tests all bundles are resolved for a feature and its required feature
 	 */
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.target;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.eclipse.equinox.p2.metadata.IVersionedId;
+import org.eclipse.equinox.p2.metadata.Version;
+import org.eclipse.equinox.p2.metadata.VersionedId;
+import org.eclipse.pde.internal.core.target.PlannerResultCache;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for the cache of the p2 planner results
+ */
+public class PlannerResultCacheTests {
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	private Path directory;
+	private PlannerResultCache cache;
+
+	@Before
+	public void setUp() throws Exception {
+		directory = folder.newFolder("cache").toPath();
+		cache = new PlannerResultCache(directory);
+	}
+
+	@Test
+	public void testComputeKey() {
+		String key = PlannerResultCache.computeKey(List.of("metadata=a", "root=b"));
+		assertEquals(key, PlannerResultCache.computeKey(List.of("metadata=a", "root=b")));
+		assertNotEquals(key, PlannerResultCache.computeKey(List.of("root=b", "metadata=a")));
+		assertNotEquals(key, PlannerResultCache.computeKey(List.of("metadata=a", "root=c")));
+		// the inputs are separated, not simply concatenated
+		assertNotEquals(PlannerResultCache.computeKey(List.of("ab", "c")),
+				PlannerResultCache.computeKey(List.of("a", "bc")));
+	}
+
+	@Test
+	public void testGetAfterPut() {
+		String key = PlannerResultCache.computeKey(List.of("root=a"));
+		assertNull(cache.get(key));
+
+		List<IVersionedId> units = List.of(unit("bundle.a1", "1.0.0"), unit("bundle.a2", "2.0.0.v1"));
+		List<IVersionedId> sourceUnits = List.of(unit("bundle.a1.source", "1.0.0"));
+		cache.put(key, units, sourceUnits);
+		PlannerResultCache.Result result = cache.get(key);
+		assertNotNull(result);
+		assertEquals(units, result.units());
+		assertEquals(sourceUnits, result.sourceUnits());
+
+		// a result read by a new cache on the same directory
+		result = new PlannerResultCache(directory).get(key);
+		assertNotNull(result);
+		assertEquals(units, result.units());
+
+		cache.put(key, List.of(unit("bundle.b1", "1.0.0")), List.of());
+		result = cache.get(key);
+		assertEquals(List.of(unit("bundle.b1", "1.0.0")), result.units());
+		assertEquals(List.of(), result.sourceUnits());
+
+		cache.remove(key);
+		assertNull(cache.get(key));
+	}
+
+	@Test
+	public void testCorruptResult() throws Exception {
+		String key = PlannerResultCache.computeKey(List.of("root=a"));
+		cache.put(key, List.of(unit("bundle.a1", "1.0.0")), List.of());
+		try (Stream<Path> files = Files.list(directory)) {
+			for (Path file : files.toList()) {
+				Files.write(file, new byte[] { 1, 2, 3 });
+			}
+		}
+		assertNull(cache.get(key));
+	}
+
+	@Test
+	public void testEviction() throws Exception {
+		int maxEntries = 32;
+		String[] keys = new String[maxEntries + 1];
+		long time = System.currentTimeMillis() - 1_000_000;
+		for (int i = 0; i < maxEntries; i++) {
+			keys[i] = PlannerResultCache.computeKey(List.of("root=" + i));
+			cache.put(keys[i], List.of(unit("bundle." + i, "1.0.0")), List.of());
+			Files.setLastModifiedTime(directory.resolve(keys[i] + ".units"), FileTime.fromMillis(time + i * 1000));
+		}
+		// the first result is now the most recently used one
+		assertNotNull(cache.get(keys[0]));
+
+		keys[maxEntries] = PlannerResultCache.computeKey(List.of("root=" + maxEntries));
+		cache.put(keys[maxEntries], List.of(unit("bundle.new", "1.0.0")), List.of());
+
+		try (Stream<Path> files = Files.list(directory)) {
+			assertEquals(maxEntries, files.count());
+		}
+		assertNull("Least recently used result not evicted", cache.get(keys[1]));
+		assertNotNull(cache.get(keys[0]));
+		assertNotNull(cache.get(keys[2]));
+		assertNotNull(cache.get(keys[maxEntries]));
+	}
+
+	private static IVersionedId unit(String id, String version) {
+		return new VersionedId(id, Version.create(version));
+	}
+}
@@ -22,6 +22,8 @@ import static org.junit.Assert.assertTrue;
 import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.equinox.frameworkadmin.BundleInfo;
@@ -34,6 +36,7 @@ import org.eclipse.pde.core.target.ITargetPlatformService;
 import org.eclipse.pde.core.target.NameVersionDescriptor;
 import org.eclipse.pde.core.target.TargetBundle;
 import org.eclipse.pde.internal.core.target.IUBundleContainer;
+import org.eclipse.pde.internal.core.target.TargetDefinition;
 import org.eclipse.pde.ui.tests.PDETestCase;
 import org.junit.Test;
 
@@ -66,6 +69,44 @@ public class TargetDefinitionResolutionTests extends AbstractTargetTest {
 		}
 	}
 
+	/**
+	 * Tests that resolving the locations concurrently merges the same status,
+	 * in the same order, as resolving them one after the other.
+	 */
+	@Test
+	public void testParallelResolution() throws Exception {
+		Path plugins = extractAbcdePlugins().resolve("plugins");
+		List<String> sequential = resolveStatus(plugins, 1);
+		assertEquals("Wrong number of children", 8, sequential.size());
+		assertEquals(sequential, resolveStatus(plugins, 4));
+	}
+
+	private List<String> resolveStatus(Path plugins, int parallelism) {
+		String previous = System.setProperty(TargetDefinition.RESOLVE_PARALLELISM, Integer.toString(parallelism));
+		try {
+			ITargetDefinition definition = getNewTarget();
+			List<ITargetLocation> locations = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				locations.add(getTargetService().newDirectoryLocation("***SHOULD NOT EXIST " + i + "***"));
+				locations.add(getTargetService().newDirectoryLocation(plugins.toString()));
+				locations.add(getTargetService().newProfileLocation("***SHOULD NOT EXIST " + i + "***", null));
+			}
+			definition.setTargetLocations(locations.toArray(ITargetLocation[]::new));
+			IStatus status = definition.resolve(null);
+			List<String> children = new ArrayList<>();
+			for (IStatus child : status.getChildren()) {
+				children.add(child.getSeverity() + " " + child.getMessage());
+			}
+			return children;
+		} finally {
+			if (previous == null) {
+				System.clearProperty(TargetDefinition.RESOLVE_PARALLELISM);
+			} else {
+				System.setProperty(TargetDefinition.RESOLVE_PARALLELISM, previous);
+			}
+		}
+	}
+
 	/**
 	 * Tests that if we find a bundle with a bad or missing manifest when
 	 * resolving we create the correct status.
@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.target;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import org.eclipse.core.runtime.IAdaptable;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.pde.internal.core.TargetPlatformHelper;
+import org.eclipse.pde.internal.core.bnd.TargetRepository;
+import org.eclipse.pde.ui.tests.util.TargetPlatformUtil;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.osgi.framework.Filter;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.namespace.IdentityNamespace;
+import org.osgi.framework.namespace.PackageNamespace;
+import org.osgi.resource.Capability;
+import org.osgi.resource.Namespace;
+import org.osgi.resource.Requirement;
+
+import aQute.bnd.osgi.resource.CapReqBuilder;
+import aQute.bnd.service.RepositoryPlugin.PutOptions;
+
+/**
+ * Tests that the providers the {@link TargetRepository} finds through its
+ * capability index are the ones, in the same order, found by matching the
+ * requirement with every capability of the target platform state.
+ */
+public class TargetRepositoryTests {
+
+	@ClassRule
+	public static final TestRule RESTORE_TARGET_DEFINITION = TargetPlatformUtil.RESTORE_CURRENT_TARGET_DEFINITION_AFTER;
+
+	@BeforeClass
+	public static void setupTargetPlatform() throws Exception {
+		TargetPlatformUtil.setRunningPlatformAsTarget();
+	}
+
+	@Test
+	public void testPackageRequirement() throws Exception {
+		assertProviders(PackageNamespace.PACKAGE_NAMESPACE, "(osgi.wiring.package=org.osgi.framework)", true);
+		assertProviders(PackageNamespace.PACKAGE_NAMESPACE,
+				"(&(osgi.wiring.package=org.osgi.framework)(version>=1.0.0)(!(version>=100.0.0)))", true);
+		assertProviders(PackageNamespace.PACKAGE_NAMESPACE, "(osgi.wiring.package=does.not.exist)", false);
+	}
+
+	@Test
+	public void testIdentityRequirement() throws Exception {
+		assertProviders(IdentityNamespace.IDENTITY_NAMESPACE, "(osgi.identity=org.eclipse.osgi)", true);
+	}
+
+	@Test
+	public void testUnindexedRequirement() throws Exception {
+		assertProviders(PackageNamespace.PACKAGE_NAMESPACE, "(osgi.wiring.package=org.osgi.*)", true);
+		assertProviders(PackageNamespace.PACKAGE_NAMESPACE,
+				"(|(osgi.wiring.package=org.osgi.framework)(osgi.wiring.package=org.osgi.resource))", true);
+		assertProviders(PackageNamespace.PACKAGE_NAMESPACE,
+				"(&(!(osgi.wiring.package=org.osgi.framework))(osgi.wiring.package=org.osgi.resource))", true);
+	}
+
+	@Test
+	public void testStateChanged() throws Exception {
+		String filter = "(osgi.wiring.package=org.eclipse.pde.ui.tests.target.index)";
+		assertProviders(PackageNamespace.PACKAGE_NAMESPACE, filter, false);
+
+		Manifest manifest = new Manifest();
+		Attributes attributes = manifest.getMainAttributes();
+		attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		attributes.putValue("Bundle-ManifestVersion", "2");
+		attributes.putValue("Bundle-SymbolicName", "org.eclipse.pde.ui.tests.target.index");
+		attributes.putValue("Bundle-Version", "1.0.0");
+		attributes.putValue("Export-Package", "org.eclipse.pde.ui.tests.target.index");
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (JarOutputStream jar = new JarOutputStream(bytes, manifest)) {
+			// only the manifest is read
+		}
+		State state = TargetPlatformHelper.getState();
+		TargetRepository.getTargetRepository().put(new ByteArrayInputStream(bytes.toByteArray()), new PutOptions());
+		try {
+			assertProviders(PackageNamespace.PACKAGE_NAMESPACE, filter, true);
+		} finally {
+			for (BundleDescription bundle : state.getBundles("org.eclipse.pde.ui.tests.target.index")) {
+				state.removeBundle(bundle);
+			}
+		}
+		assertProviders(PackageNamespace.PACKAGE_NAMESPACE, filter, false);
+	}
+
+	private static void assertProviders(String namespace, String filter, boolean found) throws Exception {
+		Requirement requirement = new CapReqBuilder(namespace)
+				.addDirective(Namespace.REQUIREMENT_FILTER_DIRECTIVE, filter).buildSyntheticRequirement();
+		List<String> expected = findAllProviders(namespace, filter);
+		List<String> actual = new ArrayList<>();
+		for (Capability capability : TargetRepository.getTargetRepository().findProvider(requirement)) {
+			BundleDescription bundle = ((IAdaptable) capability.getResource()).getAdapter(BundleDescription.class);
+			actual.add(describe(bundle, capability));
+		}
+		assertEquals(filter, expected, actual);
+		assertEquals(filter, found, !actual.isEmpty());
+	}
+
+	/**
+	 * Matches the given filter with every capability of the target platform
+	 * state, in the order of the state.
+	 */
+	private static List<String> findAllProviders(String namespace, String filter) throws Exception {
+		Filter osgiFilter = FrameworkUtil.createFilter(filter);
+		List<String> providers = new ArrayList<>();
+		for (BundleDescription bundle : TargetPlatformHelper.getState().getBundles()) {
+			for (Capability capability : bundle.getCapabilities(namespace)) {
+				if (osgiFilter.matches(capability.getAttributes())) {
+					providers.add(describe(bundle, capability));
+				}
+			}
+		}
+		return providers;
+	}
+
+	private static String describe(BundleDescription bundle, Capability capability) {
+		return bundle.getBundleId() + " " + capability.getAttributes();
+	}
+}